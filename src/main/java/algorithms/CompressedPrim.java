@@ -0,0 +1,177 @@
+package algorithms;
+
+import graph.CompressedGraph;
+import graph.Edge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Жадный алгоритм Прима по сжатым спискам смежности: записи декодируются курсором на лету,
+ * ключи вершин — номера весов в словаре CompressedGraph (порядок тот же, сравнение int).
+ * Индексированная двоичная куча на вершинах: память O(V) сверх графа, объекты Edge — только для дерева.
+ */
+public class CompressedPrim implements PrimEngine {
+    private static final int NONE = -1;
+
+    private final List<Edge> mst;
+    private double totalWeight;
+
+    private final int[] key;
+    private final int[] edgeTo;
+    private final boolean[] marked;
+
+    private final int[] heap;
+    private final int[] position;
+    private int heapSize;
+
+    private int comparisonCount;
+    private int edgeVisitCount;
+    private int queueOperations;
+    private int maxQueueSize;
+
+    public CompressedPrim(CompressedGraph graph) {
+        int V = graph.V();
+        mst = new ArrayList<>(Math.max(0, V - 1));
+        key = new int[V];
+        edgeTo = new int[V];
+        marked = new boolean[V];
+        heap = new int[V];
+        position = new int[V];
+        Arrays.fill(position, NONE);
+
+        CompressedGraph.Cursor cursor = graph.cursor();
+        for (int v = 0; v < V; v++) {
+            comparisonCount++;
+            if (!marked[v]) {
+                prim(graph, cursor, v);
+            }
+        }
+    }
+
+    private void prim(CompressedGraph graph, CompressedGraph.Cursor cursor, int s) {
+        visit(cursor, s);
+
+        while (heapSize > 0) {
+            int v = poll();
+            queueOperations++;
+
+            double weight = graph.weightOf(key[v]);
+            mst.add(new Edge(edgeTo[v], v, weight));
+            totalWeight += weight;
+            visit(cursor, v);
+        }
+    }
+
+    private void visit(CompressedGraph.Cursor cursor, int v) {
+        marked[v] = true;
+        cursor.reset(v);
+        while (cursor.next()) {
+            int w = cursor.vertex();
+            edgeVisitCount++;
+            comparisonCount++;
+            if (marked[w]) continue;
+
+            int code = cursor.weightCode();
+            comparisonCount++;
+            if (position[w] == NONE) {
+                key[w] = code;
+                edgeTo[w] = v;
+                insert(w);
+            } else if (code < key[w]) {
+                key[w] = code;
+                edgeTo[w] = v;
+                swim(position[w]);
+                queueOperations++;
+            }
+        }
+    }
+
+    private void insert(int v) {
+        heap[heapSize] = v;
+        position[v] = heapSize;
+        swim(heapSize++);
+
+        queueOperations++;
+        if (heapSize > maxQueueSize) maxQueueSize = heapSize;
+    }
+
+    // Извлечённая вершина помечается вызывающим, поэтому position[v] больше не читается
+    private int poll() {
+        int top = heap[0];
+        int last = heap[--heapSize];
+        if (heapSize > 0) {
+            heap[0] = last;
+            position[last] = 0;
+            sink(0);
+        }
+        return top;
+    }
+
+    private void swim(int i) {
+        int v = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            comparisonCount++;
+            if (key[heap[parent]] <= key[v]) break;
+            heap[i] = heap[parent];
+            position[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+
+    private void sink(int i) {
+        int v = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            comparisonCount++;
+            if (child + 1 < heapSize && key[heap[child + 1]] < key[heap[child]]) child++;
+            comparisonCount++;
+            if (key[v] <= key[heap[child]]) break;
+            heap[i] = heap[child];
+            position[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+
+    @Override
+    public Iterable<Edge> edges() {
+        return mst;
+    }
+
+    @Override
+    public double weight() {
+        return totalWeight;
+    }
+
+    @Override
+    public int getComparisonCount() {
+        return comparisonCount;
+    }
+
+    @Override
+    public int getEdgeVisitCount() {
+        return edgeVisitCount;
+    }
+
+    @Override
+    public int getQueueOperations() {
+        return queueOperations;
+    }
+
+    @Override
+    public int getTotalOperations() {
+        return comparisonCount + edgeVisitCount + queueOperations;
+    }
+
+    @Override
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+}
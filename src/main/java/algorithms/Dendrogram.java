@@ -0,0 +1,80 @@
+package algorithms;
+
+/**
+ * Полная дендрограмма одиночной связи: слияния в порядке возрастания высоты.
+ * Разбиение на любое число кластеров восстанавливается без повторной сортировки рёбер.
+ */
+public class Dendrogram {
+    private final int V;
+    private final int[] mergeV;
+    private final int[] mergeW;
+    private final double[] height;
+    private final int merges;
+
+    Dendrogram(int V, int[] mergeV, int[] mergeW, double[] height, int merges) {
+        this.V = V;
+        this.mergeV = mergeV;
+        this.mergeW = mergeW;
+        this.height = height;
+        this.merges = merges;
+    }
+
+    public int V() {
+        return V;
+    }
+
+    public int mergeCount() {
+        return merges;
+    }
+
+    // Наименьшее достижимое число кластеров — число компонент связности графа
+    public int minClusters() {
+        return V - merges;
+    }
+
+    public double height(int merge) {
+        checkMerge(merge);
+        return height[merge];
+    }
+
+    public int mergeV(int merge) {
+        checkMerge(merge);
+        return mergeV[merge];
+    }
+
+    public int mergeW(int merge) {
+        checkMerge(merge);
+        return mergeW[merge];
+    }
+
+    /**
+     * Метки для k кластеров; если граф несвязный и k < minClusters(), возвращается minClusters() кластеров.
+     */
+    public int[] labels(int k) {
+        if (k < 1) throw new IllegalArgumentException("Cluster count must be positive: " + k);
+        return replay(Math.max(0, Math.min(merges, V - k)));
+    }
+
+    public int[] labelsAtThreshold(double threshold) {
+        int lo = 0;
+        int hi = merges;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (height[mid] <= threshold) lo = mid + 1;
+            else hi = mid;
+        }
+        return replay(lo);
+    }
+
+    private int[] replay(int count) {
+        UnionFind uf = new UnionFind(V);
+        for (int i = 0; i < count; i++) {
+            uf.union(mergeV[i], mergeW[i]);
+        }
+        return uf.labels();
+    }
+
+    private void checkMerge(int merge) {
+        if (merge < 0 || merge >= merges) throw new IndexOutOfBoundsException("Merge " + merge);
+    }
+}
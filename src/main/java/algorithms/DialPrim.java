@@ -0,0 +1,200 @@
+package algorithms;
+
+import graph.Edge;
+import graph.IntWeightGraph;
+import profiling.PhaseEvents;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Жадный алгоритм Прима для целочисленных весов с очередью-корзинами (Dial):
+ * вставка и уменьшение ключа — O(1), извлечение минимума — поиск следующей непустой
+ * корзины по двухуровневой битовой карте, O(C/4096) слов для C корзин.
+ */
+public class DialPrim implements PrimEngine {
+    private static final int NONE = -1;
+
+    private final List<Edge> mst;
+    private long totalWeight;
+
+    private final int[] key;
+    private final int[] edgeTo;
+    private final boolean[] marked;
+
+    // Корзины — двусвязные списки вершин на массивах
+    private final int[] head;
+    private final int[] next;
+    private final int[] prev;
+    // Бит на корзину и бит на каждое ненулевое слово: курсор после отката назад
+    // не перебирает корзины по одной
+    private final long[] occupied;
+    private final long[] summary;
+    private int cursor;
+    private int queueSize;
+
+    private int comparisonCount;
+    private int edgeVisitCount;
+    private int queueOperations;
+    private int maxQueueSize;
+
+    public DialPrim(IntWeightGraph graph) {
+        int V = graph.V();
+        mst = new ArrayList<>(Math.max(0, V - 1));
+        key = new int[V];
+        edgeTo = new int[V];
+        marked = new boolean[V];
+        head = new int[graph.maxWeight() + 1];
+        next = new int[V];
+        prev = new int[V];
+        occupied = new long[(head.length + 63) >>> 6];
+        summary = new long[(occupied.length + 63) >>> 6];
+
+        Arrays.fill(head, NONE);
+        Arrays.fill(edgeTo, NONE);
+
+        PhaseEvents.Heap heapEvent = new PhaseEvents.Heap();
+        heapEvent.begin();
+        for (int v = 0; v < V; v++) {
+            comparisonCount++;
+            if (!marked[v]) {
+                prim(graph, v);
+            }
+        }
+        if (heapEvent.shouldCommit()) {
+            heapEvent.queueOperations = queueOperations;
+            heapEvent.edgeVisits = edgeVisitCount;
+            heapEvent.maxHeapSize = maxQueueSize;
+            heapEvent.commit();
+        }
+    }
+
+    private void prim(IntWeightGraph graph, int s) {
+        cursor = 0;
+        visit(graph, s);
+
+        while (queueSize > 0) {
+            cursor = nextBucket(cursor);
+            int v = head[cursor];
+            remove(v);
+            queueOperations++;
+
+            int e = edgeTo[v];
+            mst.add(graph.edge(e));
+            totalWeight += graph.weight(e);
+            visit(graph, v);
+        }
+    }
+
+    private void visit(IntWeightGraph graph, int v) {
+        marked[v] = true;
+        for (int i = graph.adjStart(v); i < graph.adjEnd(v); i++) {
+            int e = graph.adjEdge(i);
+            int w = graph.other(e, v);
+            edgeVisitCount++;
+            comparisonCount++;
+            if (marked[w]) continue;
+
+            int weight = graph.weight(e);
+            comparisonCount++;
+            if (edgeTo[w] == NONE) {
+                key[w] = weight;
+                edgeTo[w] = e;
+                insert(w);
+            } else if (weight < key[w]) {
+                remove(w);
+                key[w] = weight;
+                edgeTo[w] = e;
+                insert(w);
+            }
+        }
+    }
+
+    private void insert(int v) {
+        int bucket = key[v];
+        prev[v] = NONE;
+        next[v] = head[bucket];
+        if (head[bucket] != NONE) prev[head[bucket]] = v;
+        else markOccupied(bucket);
+        head[bucket] = v;
+        // Ключи Прима не монотонны, поэтому курсор может вернуться назад
+        if (bucket < cursor) cursor = bucket;
+
+        queueOperations++;
+        queueSize++;
+        if (queueSize > maxQueueSize) maxQueueSize = queueSize;
+    }
+
+    private void remove(int v) {
+        if (prev[v] != NONE) next[prev[v]] = next[v];
+        else head[key[v]] = next[v];
+        if (next[v] != NONE) prev[next[v]] = prev[v];
+        if (head[key[v]] == NONE) clearOccupied(key[v]);
+        queueSize--;
+    }
+
+    private void markOccupied(int bucket) {
+        int word = bucket >>> 6;
+        occupied[word] |= 1L << bucket;
+        summary[word >>> 6] |= 1L << word;
+    }
+
+    private void clearOccupied(int bucket) {
+        int word = bucket >>> 6;
+        occupied[word] &= ~(1L << bucket);
+        if (occupied[word] == 0) summary[word >>> 6] &= ~(1L << word);
+    }
+
+    // Первая непустая корзина не меньше from; очередь не пуста, поэтому она есть
+    private int nextBucket(int from) {
+        int word = from >>> 6;
+        comparisonCount++;
+        long bits = occupied[word] & (-1L << from);
+        if (bits != 0) return (word << 6) + Long.numberOfTrailingZeros(bits);
+
+        int group = (word + 1) >>> 6;
+        long words = summary[group] & (-1L << (word + 1));
+        while (words == 0) {
+            comparisonCount++;
+            words = summary[++group];
+        }
+        word = (group << 6) + Long.numberOfTrailingZeros(words);
+        return (word << 6) + Long.numberOfTrailingZeros(occupied[word]);
+    }
+
+    @Override
+    public Iterable<Edge> edges() {
+        return mst;
+    }
+
+    @Override
+    public double weight() {
+        return totalWeight;
+    }
+
+    @Override
+    public int getComparisonCount() {
+        return comparisonCount;
+    }
+
+    @Override
+    public int getEdgeVisitCount() {
+        return edgeVisitCount;
+    }
+
+    @Override
+    public int getQueueOperations() {
+        return queueOperations;
+    }
+
+    @Override
+    public int getTotalOperations() {
+        return comparisonCount + edgeVisitCount + queueOperations;
+    }
+
+    @Override
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+}
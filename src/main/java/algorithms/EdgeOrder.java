@@ -0,0 +1,39 @@
+package algorithms;
+
+/**
+ * Сортировка номеров рёбер по весу без упаковки в объекты (устойчивая, восходящая сортировка слиянием).
+ */
+public final class EdgeOrder {
+
+    private EdgeOrder() {
+    }
+
+    public static int[] byWeight(double[] weights) {
+        int n = weights.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+
+        int[] buffer = new int[n];
+        for (int width = 1; width < n; width <<= 1) {
+            for (int lo = 0; lo < n - width; lo += width << 1) {
+                int mid = lo + width;
+                int hi = Math.min(lo + (width << 1), n);
+                if (Double.compare(weights[order[mid - 1]], weights[order[mid]]) <= 0) continue;
+                merge(weights, order, buffer, lo, mid, hi);
+            }
+        }
+        return order;
+    }
+
+    private static void merge(double[] weights, int[] order, int[] buffer, int lo, int mid, int hi) {
+        System.arraycopy(order, lo, buffer, lo, hi - lo);
+        int i = lo;
+        int j = mid;
+        for (int k = lo; k < hi; k++) {
+            if (i >= mid) order[k] = buffer[j++];
+            else if (j >= hi) order[k] = buffer[i++];
+            else if (Double.compare(weights[buffer[j]], weights[buffer[i]]) < 0) order[k] = buffer[j++];
+            else order[k] = buffer[i++];
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package algorithms;
+
+import graph.Edge;
+import graph.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Предобработка перед любым движком: петли отбрасываются, из параллельных рёбер остаётся
+ * самое лёгкое (хеш-таблица по упакованному ключу (min, max)). По желанию вершины степени 1
+ * стягиваются: их единственное ребро входит в любой MST и уходит в forcedEdges.
+ */
+public final class EdgeReducer {
+    private static final long EMPTY = -1L;
+
+    private EdgeReducer() {
+    }
+
+    public static Reduction reduce(Graph graph, boolean contractLeaves) {
+        int selfLoopEntries = 0;
+        for (int v = 0; v < graph.V(); v++) {
+            for (Edge e : graph.adj(v)) {
+                if (e.other(v) == v) selfLoopEntries++;
+            }
+        }
+        // graph.edges() петель не возвращает; в adj(v) каждая петля встречается дважды
+        Reduction reduction = reduce(graph.V(), graph.edges(), contractLeaves);
+        reduction.selfLoops += selfLoopEntries / 2;
+        return reduction;
+    }
+
+    public static Reduction reduce(int V, Iterable<Edge> edges, boolean contractLeaves) {
+        List<Edge> input = new ArrayList<>();
+        for (Edge e : edges) input.add(e);
+        int E = input.size();
+
+        // Открытая адресация: ключ пары -> номер самого лёгкого ребра (при равенстве — первого)
+        int capacity = Integer.highestOneBit(Math.max(4, E * 2 - 1)) << 1;
+        long[] keys = new long[capacity];
+        int[] best = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        int mask = capacity - 1;
+
+        Reduction reduction = new Reduction(V, E);
+        for (int i = 0; i < E; i++) {
+            Edge e = input.get(i);
+            int v = e.either();
+            int w = e.other(v);
+            if (v == w) {
+                reduction.selfLoops++;
+                continue;
+            }
+            long key = ((long) Math.min(v, w) << 32) | Math.max(v, w);
+            int slot = (int) mix(key) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) slot = (slot + 1) & mask;
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                best[slot] = i;
+            } else {
+                reduction.parallelEdges++;
+                if (e.weight() < input.get(best[slot]).weight()) best[slot] = i;
+            }
+        }
+
+        boolean[] kept = new boolean[E];
+        for (int slot = 0; slot < capacity; slot++) {
+            if (keys[slot] != EMPTY) kept[best[slot]] = true;
+        }
+        if (contractLeaves) contractLeaves(V, input, kept, reduction);
+
+        // Порядок оставшихся рёбер — как во входе
+        Graph reduced = new Graph(V);
+        for (int i = 0; i < E; i++) {
+            if (kept[i]) {
+                reduced.addEdge(input.get(i));
+                reduction.edges.add(input.get(i));
+            }
+        }
+        reduction.graph = reduced;
+        return reduction;
+    }
+
+    // Листья снимаются слоями: после снятия ребра сосед сам может стать листом
+    private static void contractLeaves(int V, List<Edge> input, boolean[] kept, Reduction reduction) {
+        int[] degree = new int[V];
+        int[] incident = new int[V];
+        int E = input.size();
+        for (int i = 0; i < E; i++) {
+            if (!kept[i]) continue;
+            Edge e = input.get(i);
+            int v = e.either();
+            int w = e.other(v);
+            degree[v]++;
+            degree[w]++;
+            incident[v] ^= i;
+            incident[w] ^= i;
+        }
+
+        // XOR номеров рёбер: у вершины степени 1 это номер её единственного ребра
+        int[] stack = new int[V];
+        int top = 0;
+        for (int v = 0; v < V; v++) {
+            if (degree[v] == 1) stack[top++] = v;
+        }
+        while (top > 0) {
+            int v = stack[--top];
+            if (degree[v] != 1) continue;
+            int i = incident[v];
+            Edge e = input.get(i);
+            int w = e.other(v);
+
+            kept[i] = false;
+            reduction.forced.add(e);
+            reduction.forcedWeight += e.weight();
+            degree[v] = 0;
+            incident[v] = 0;
+            degree[w]--;
+            incident[w] ^= i;
+            if (degree[w] == 1) stack[top++] = w;
+        }
+    }
+
+    private static long mix(long key) {
+        key *= 0x9E3779B97F4A7C15L;
+        return key ^ (key >>> 29);
+    }
+
+    public static class Reduction {
+        private final int V;
+        private final int inputEdges;
+        private Graph graph;
+        private final List<Edge> edges = new ArrayList<>();
+        private final List<Edge> forced = new ArrayList<>();
+        private double forcedWeight;
+        private int selfLoops;
+        private int parallelEdges;
+
+        Reduction(int V, int inputEdges) {
+            this.V = V;
+            this.inputEdges = inputEdges;
+        }
+
+        // Граф для движков: те же номера вершин, только оставшиеся рёбра
+        public Graph graph() {
+            return graph;
+        }
+
+        // Оставшиеся рёбра в порядке входа
+        public List<Edge> edges() {
+            return edges;
+        }
+
+        // Рёбра, заведомо входящие в MST (стянутые листья)
+        public List<Edge> forcedEdges() {
+            return forced;
+        }
+
+        public int droppedSelfLoops() {
+            return selfLoops;
+        }
+
+        // Отброшенные параллельные рёбра (более тяжёлые или повторы)
+        public int droppedParallelEdges() {
+            return parallelEdges;
+        }
+
+        public int V() {
+            return V;
+        }
+
+        public int inputEdges() {
+            return inputEdges;
+        }
+
+        /**
+         * MST исходного графа: forcedEdges плюс MST, найденный любым движком на graph().
+         */
+        public MST complete(MST reducedMst) {
+            List<Edge> all = new ArrayList<>(forced);
+            for (Edge e : reducedMst.edges()) all.add(e);
+            double weight = forcedWeight + reducedMst.weight();
+            return new MST() {
+                @Override
+                public Iterable<Edge> edges() {
+                    return all;
+                }
+
+                @Override
+                public double weight() {
+                    return weight;
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d -> %d edges (%d self-loops, %d parallel, %d forced)",
+                    inputEdges, edges.size(), selfLoops, parallelEdges, forced.size());
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package algorithms;
+
+import graph.Edge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Точное евклидово MST для точек без построения полного графа: раунды Борувки,
+ * в которых ближайший сосед из другой компоненты ищется по k-d дереву.
+ * Узлы, целиком лежащие в компоненте запроса, отсекаются.
+ */
+public class EuclideanMST implements MST {
+    private static final int LEAF_SIZE = 8;
+    private static final int MIXED = -1;
+
+    private final List<Edge> mst;
+    private double totalWeight;
+
+    private final int n;
+    private final int dim;
+    private final double[] coords;
+
+    // k-d дерево: точки узла — perm[start..end), границы — lo/hi[node * dim + k]
+    private final int[] perm;
+    private int nodeCount;
+    private int[] nodeStart;
+    private int[] nodeEnd;
+    private int[] nodeLeft;
+    private int[] nodeRight;
+    private int[] nodeComponent;
+    private double[] lo;
+    private double[] hi;
+
+    private int rounds;
+
+    public EuclideanMST(double[][] points) {
+        n = points.length;
+        dim = n == 0 ? 2 : points[0].length;
+        if (dim < 1) throw new IllegalArgumentException("Points must have at least one coordinate");
+
+        coords = new double[n * dim];
+        for (int i = 0; i < n; i++) {
+            if (points[i].length != dim) {
+                throw new IllegalArgumentException("Point " + i + " has " + points[i].length
+                        + " coordinates, expected " + dim);
+            }
+            System.arraycopy(points[i], 0, coords, i * dim, dim);
+        }
+
+        mst = new ArrayList<>(Math.max(0, n - 1));
+        perm = new int[n];
+        for (int i = 0; i < n; i++) perm[i] = i;
+
+        if (n > 1) {
+            int capacity = 2 * (n / LEAF_SIZE + 1) + 1;
+            nodeStart = new int[capacity];
+            nodeEnd = new int[capacity];
+            nodeLeft = new int[capacity];
+            nodeRight = new int[capacity];
+            nodeComponent = new int[capacity];
+            lo = new double[capacity * dim];
+            hi = new double[capacity * dim];
+            build(0, n);
+            boruvka();
+        }
+    }
+
+    private int build(int start, int end) {
+        if (nodeCount == nodeStart.length) grow();
+        int node = nodeCount++;
+        nodeStart[node] = start;
+        nodeEnd[node] = end;
+        nodeLeft[node] = -1;
+        nodeRight[node] = -1;
+
+        int base = node * dim;
+        Arrays.fill(lo, base, base + dim, Double.POSITIVE_INFINITY);
+        Arrays.fill(hi, base, base + dim, Double.NEGATIVE_INFINITY);
+        for (int i = start; i < end; i++) {
+            int p = perm[i] * dim;
+            for (int k = 0; k < dim; k++) {
+                lo[base + k] = Math.min(lo[base + k], coords[p + k]);
+                hi[base + k] = Math.max(hi[base + k], coords[p + k]);
+            }
+        }
+        if (end - start <= LEAF_SIZE) return node;
+
+        int split = 0;
+        for (int k = 1; k < dim; k++) {
+            if (hi[base + k] - lo[base + k] > hi[base + split] - lo[base + split]) split = k;
+        }
+        int mid = (start + end) >>> 1;
+        select(start, end - 1, mid, split);
+
+        int left = build(start, mid);
+        int right = build(mid, end);
+        nodeLeft[node] = left;
+        nodeRight[node] = right;
+        return node;
+    }
+
+    private void grow() {
+        int capacity = nodeStart.length * 2;
+        nodeStart = Arrays.copyOf(nodeStart, capacity);
+        nodeEnd = Arrays.copyOf(nodeEnd, capacity);
+        nodeLeft = Arrays.copyOf(nodeLeft, capacity);
+        nodeRight = Arrays.copyOf(nodeRight, capacity);
+        nodeComponent = Arrays.copyOf(nodeComponent, capacity);
+        lo = Arrays.copyOf(lo, capacity * dim);
+        hi = Arrays.copyOf(hi, capacity * dim);
+    }
+
+    // Быстрый выбор: k-я по координате axis точка встаёт на место k
+    private void select(int left, int right, int k, int axis) {
+        while (left < right) {
+            double pivot = coord(perm[(left + right) >>> 1], axis);
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coord(perm[i], axis) < pivot) i++;
+                while (coord(perm[j], axis) > pivot) j--;
+                if (i <= j) {
+                    int t = perm[i];
+                    perm[i] = perm[j];
+                    perm[j] = t;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) right = j;
+            else if (k >= i) left = i;
+            else return;
+        }
+    }
+
+    private double coord(int point, int axis) {
+        return coords[point * dim + axis];
+    }
+
+    private void boruvka() {
+        UnionFind uf = new UnionFind(n);
+        int[] component = new int[n];
+        double[] bestDist = new double[n];
+        int[] bestFrom = new int[n];
+        int[] bestTo = new int[n];
+        // Ближайший сосед из чужой компоненты с прошлого раунда остаётся ближайшим, пока он чужой
+        int[] previous = new int[n];
+        Arrays.fill(previous, -1);
+        Query query = new Query();
+
+        while (uf.count() > 1) {
+            rounds++;
+            for (int i = 0; i < n; i++) component[i] = uf.find(i);
+            labelNodes(0, component);
+
+            Arrays.fill(bestDist, Double.POSITIVE_INFINITY);
+            Arrays.fill(bestFrom, -1);
+            for (int i = 0; i < n; i++) {
+                int c = component[i];
+                query.point = i;
+                query.component = c;
+                query.bound = bestDist[c];
+                query.nearest = -1;
+                int cached = previous[i];
+                if (cached >= 0 && component[cached] != c) {
+                    double d = squaredDistance(i, cached);
+                    if (d < query.bound) {
+                        query.bound = d;
+                        query.nearest = cached;
+                    }
+                } else {
+                    nearest(0, query, component);
+                    if (query.nearest >= 0) previous[i] = query.nearest;
+                }
+                if (query.nearest >= 0 && query.bound < bestDist[c]) {
+                    bestDist[c] = query.bound;
+                    bestFrom[c] = i;
+                    bestTo[c] = query.nearest;
+                }
+            }
+
+            for (int c = 0; c < n; c++) {
+                if (bestFrom[c] < 0) continue;
+                int v = bestFrom[c];
+                int w = bestTo[c];
+                if (uf.union(v, w)) {
+                    double d = Math.sqrt(bestDist[c]);
+                    mst.add(new Edge(v, w, d));
+                    totalWeight += d;
+                }
+            }
+        }
+    }
+
+    private int labelNodes(int node, int[] component) {
+        int label;
+        if (nodeLeft[node] < 0) {
+            label = component[perm[nodeStart[node]]];
+            for (int i = nodeStart[node] + 1; i < nodeEnd[node]; i++) {
+                if (component[perm[i]] != label) {
+                    label = MIXED;
+                    break;
+                }
+            }
+        } else {
+            int left = labelNodes(nodeLeft[node], component);
+            int right = labelNodes(nodeRight[node], component);
+            label = left == right ? left : MIXED;
+        }
+        nodeComponent[node] = label;
+        return label;
+    }
+
+    private void nearest(int node, Query query, int[] component) {
+        if (nodeComponent[node] == query.component) return;
+        if (boxDistance(node, query.point) >= query.bound) return;
+
+        if (nodeLeft[node] < 0) {
+            int p = query.point * dim;
+            for (int i = nodeStart[node]; i < nodeEnd[node]; i++) {
+                int other = perm[i];
+                if (component[other] == query.component) continue;
+                int o = other * dim;
+                double d = 0.0;
+                for (int k = 0; k < dim; k++) {
+                    double diff = coords[p + k] - coords[o + k];
+                    d += diff * diff;
+                }
+                if (d < query.bound) {
+                    query.bound = d;
+                    query.nearest = other;
+                }
+            }
+            return;
+        }
+
+        int first = nodeLeft[node];
+        int second = nodeRight[node];
+        if (boxDistance(second, query.point) < boxDistance(first, query.point)) {
+            first = nodeRight[node];
+            second = nodeLeft[node];
+        }
+        nearest(first, query, component);
+        nearest(second, query, component);
+    }
+
+    private double squaredDistance(int a, int b) {
+        int p = a * dim;
+        int o = b * dim;
+        double d = 0.0;
+        for (int k = 0; k < dim; k++) {
+            double diff = coords[p + k] - coords[o + k];
+            d += diff * diff;
+        }
+        return d;
+    }
+
+    // Квадрат расстояния от точки до ограничивающего прямоугольника узла
+    private double boxDistance(int node, int point) {
+        int base = node * dim;
+        int p = point * dim;
+        double d = 0.0;
+        for (int k = 0; k < dim; k++) {
+            double x = coords[p + k];
+            double diff = 0.0;
+            if (x < lo[base + k]) diff = lo[base + k] - x;
+            else if (x > hi[base + k]) diff = x - hi[base + k];
+            d += diff * diff;
+        }
+        return d;
+    }
+
+    @Override
+    public Iterable<Edge> edges() {
+        return mst;
+    }
+
+    @Override
+    public double weight() {
+        return totalWeight;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    private static class Query {
+        int point;
+        int component;
+        double bound;
+        int nearest;
+    }
+}
@@ -0,0 +1,274 @@
+package algorithms;
+
+import graph.Edge;
+import graph.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Остовные деревья (леса) по неубыванию веса, лениво: схема разбиения Каты-Ибараки-Мине.
+ * Подзадача — дерево и множества обязательных (in) и запрещённых (out) рёбер; её следующее
+ * дерево отличается одной заменой. Лучшая замена ищется проходом union-find по рёбрам вне
+ * дерева (как в MSTSensitivity), поэтому каждое следующее дерево стоит O(E α(V)) без нового MST.
+ */
+public final class KBestMST implements Iterator<KBestMST.SpanningTree> {
+    private static final int NONE = -1;
+
+    private final int V;
+    private final Edge[] edges;
+    private final int[] u;
+    private final int[] v;
+    private final double[] w;
+    // Все рёбра графа по возрастанию веса; устойчиво по номеру
+    private final int[] order;
+
+    private final PriorityQueue<Subproblem> queue = new PriorityQueue<>();
+    private SpanningTree first;
+    private long sequence;
+
+    // Метки на время одного прохода; после прохода снова false
+    private final boolean[] inTree;
+    private final boolean[] blocked;
+
+    public KBestMST(Graph graph) {
+        V = graph.V();
+        List<Edge> list = new ArrayList<>(graph.E());
+        for (Edge e : graph.edges()) list.add(e);
+        edges = list.toArray(new Edge[0]);
+        int E = edges.length;
+        u = new int[E];
+        v = new int[E];
+        w = new double[E];
+        for (int i = 0; i < E; i++) {
+            u[i] = edges[i].either();
+            v[i] = edges[i].other(u[i]);
+            w[i] = edges[i].weight();
+        }
+        order = EdgeOrder.byWeight(w);
+        inTree = new boolean[E];
+        blocked = new boolean[E];
+
+        UnionFind uf = new UnionFind(V);
+        int[] tree = new int[Math.max(0, V - 1)];
+        int size = 0;
+        for (int i : order) {
+            if (uf.union(u[i], v[i])) tree[size++] = i;
+        }
+        tree = Arrays.copyOf(tree, size);
+        first = tree(tree);
+        offer(tree, first.weight(), null, null);
+    }
+
+    /**
+     * Второе по весу остовное дерево за O(E α(V)): лучшая замена ребра вне дерева на
+     * тяжелейшее ребро пути в дереве (OfflinePathMax). null, если других деревьев нет.
+     */
+    public static SpanningTree secondBest(Graph graph, MST mst) {
+        List<Edge> tree = new ArrayList<>();
+        for (Edge e : mst.edges()) tree.add(e);
+        Set<Edge> inTree = Collections.newSetFromMap(new IdentityHashMap<>());
+        inTree.addAll(tree);
+
+        int T = tree.size();
+        int[] tu = new int[T];
+        int[] tv = new int[T];
+        double[] tw = new double[T];
+        for (int k = 0; k < T; k++) {
+            tu[k] = tree.get(k).either();
+            tv[k] = tree.get(k).other(tu[k]);
+            tw[k] = tree.get(k).weight();
+        }
+        List<Edge> nonTree = new ArrayList<>();
+        for (Edge e : graph.edges()) {
+            if (!inTree.contains(e)) nonTree.add(e);
+        }
+        int Q = nonTree.size();
+        int[] qu = new int[Q];
+        int[] qv = new int[Q];
+        for (int j = 0; j < Q; j++) {
+            qu[j] = nonTree.get(j).either();
+            qv[j] = nonTree.get(j).other(qu[j]);
+        }
+
+        int[] heaviest = OfflinePathMax.maxEdges(graph.V(), tu, tv, tw, qu, qv);
+        int bestIn = NONE;
+        double bestDelta = Double.POSITIVE_INFINITY;
+        for (int j = 0; j < Q; j++) {
+            if (heaviest[j] == NONE) continue;
+            double delta = nonTree.get(j).weight() - tw[heaviest[j]];
+            if (delta < bestDelta) {
+                bestDelta = delta;
+                bestIn = j;
+            }
+        }
+        if (bestIn == NONE) return null;
+
+        List<Edge> swapped = new ArrayList<>(tree);
+        swapped.set(heaviest[bestIn], nonTree.get(bestIn));
+        double weight = 0;
+        for (Edge e : swapped) weight += e.weight();
+        return new SpanningTree(swapped, weight);
+    }
+
+    public static SpanningTree secondBest(Graph graph) {
+        return secondBest(graph, new Kruskal(graph));
+    }
+
+    // Первые k деревьев (меньше, если у графа их меньше)
+    public static List<SpanningTree> best(Graph graph, int k) {
+        if (k < 0) throw new IllegalArgumentException("Negative tree count: " + k);
+        List<SpanningTree> result = new ArrayList<>(k);
+        KBestMST trees = new KBestMST(graph);
+        while (result.size() < k && trees.hasNext()) result.add(trees.next());
+        return result;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return first != null || !queue.isEmpty();
+    }
+
+    @Override
+    public SpanningTree next() {
+        if (first != null) {
+            SpanningTree tree = first;
+            first = null;
+            return tree;
+        }
+        Subproblem p = queue.poll();
+        if (p == null) throw new NoSuchElementException();
+
+        int[] swapped = p.tree.clone();
+        for (int k = 0; k < swapped.length; k++) {
+            if (swapped[k] == p.swapOut) swapped[k] = p.swapIn;
+        }
+        SpanningTree result = tree(swapped);
+
+        // Без swapOut лучшее дерево — найденное; со swapOut — прежнее дерево подзадачи
+        offer(swapped, result.weight(), p.in, new Node(p.swapOut, p.out));
+        offer(p.tree, p.weight, new Node(p.swapOut, p.in), p.out);
+        return result;
+    }
+
+    // Ищет лучшую замену в подзадаче и ставит её в очередь, если замена есть
+    private void offer(int[] tree, double weight, Node in, Node out) {
+        for (int i : tree) inTree[i] = true;
+        for (Node n = out; n != null; n = n.next) blocked[n.edge] = true;
+
+        int[] candidates = new int[order.length];
+        int count = 0;
+        for (int i : order) {
+            if (!inTree[i] && !blocked[i]) candidates[count++] = i;
+        }
+        for (int i : tree) inTree[i] = false;
+        for (Node n = out; n != null; n = n.next) blocked[n.edge] = false;
+
+        int T = tree.length;
+        int[] tu = new int[T];
+        int[] tv = new int[T];
+        for (int k = 0; k < T; k++) {
+            tu[k] = u[tree[k]];
+            tv[k] = v[tree[k]];
+        }
+        int[] cover = MSTSensitivity.coverTreeEdges(V, tu, tv, u, v, Arrays.copyOf(candidates, count));
+
+        for (Node n = in; n != null; n = n.next) blocked[n.edge] = true;
+        int bestOut = NONE;
+        int bestIn = NONE;
+        double bestDelta = Double.POSITIVE_INFINITY;
+        for (int k = 0; k < T; k++) {
+            int c = cover[k];
+            if (c == NONE || blocked[tree[k]]) continue;
+            double delta = w[c] - w[tree[k]];
+            if (delta < bestDelta) {
+                bestDelta = delta;
+                bestOut = tree[k];
+                bestIn = c;
+            }
+        }
+        for (Node n = in; n != null; n = n.next) blocked[n.edge] = false;
+
+        if (bestOut != NONE) {
+            queue.add(new Subproblem(tree, weight, in, out, bestOut, bestIn, weight + bestDelta, sequence++));
+        }
+    }
+
+    private SpanningTree tree(int[] tree) {
+        List<Edge> list = new ArrayList<>(tree.length);
+        double weight = 0;
+        for (int i : tree) {
+            list.add(edges[i]);
+            weight += w[i];
+        }
+        return new SpanningTree(list, weight);
+    }
+
+    public static class SpanningTree implements MST {
+        private final List<Edge> edges;
+        private final double weight;
+
+        SpanningTree(List<Edge> edges, double weight) {
+            this.edges = edges;
+            this.weight = weight;
+        }
+
+        @Override
+        public Iterable<Edge> edges() {
+            return edges;
+        }
+
+        @Override
+        public double weight() {
+            return weight;
+        }
+    }
+
+    // Неизменяемый список номеров рёбер: подзадачи делят общие хвосты
+    private static final class Node {
+        final int edge;
+        final Node next;
+
+        Node(int edge, Node next) {
+            this.edge = edge;
+            this.next = next;
+        }
+    }
+
+    private static final class Subproblem implements Comparable<Subproblem> {
+        final int[] tree;
+        final double weight;
+        final Node in;
+        final Node out;
+        final int swapOut;
+        final int swapIn;
+        // Вес следующего дерева подзадачи
+        final double nextWeight;
+        final long sequence;
+
+        Subproblem(int[] tree, double weight, Node in, Node out, int swapOut, int swapIn,
+                   double nextWeight, long sequence) {
+            this.tree = tree;
+            this.weight = weight;
+            this.in = in;
+            this.out = out;
+            this.swapOut = swapOut;
+            this.swapIn = swapIn;
+            this.nextWeight = nextWeight;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Subproblem that) {
+            int c = Double.compare(nextWeight, that.nextWeight);
+            return c != 0 ? c : Long.compare(sequence, that.sequence);
+        }
+    }
+}
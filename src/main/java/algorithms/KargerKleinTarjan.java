@@ -0,0 +1,271 @@
+package algorithms;
+
+import graph.Edge;
+import graph.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Рандомизированный MST Каргера-Клейна-Тарьяна: два шага Борувки со стягиванием,
+ * MSF случайной половины рёбер, отсев F-тяжёлых рёбер и рекурсия по оставшимся.
+ * Фильтр — офлайн-запросы максимума на пути (OfflinePathMax): почти линейный вместо
+ * линейного алгоритма Кинга, но на практике проще и быстрее.
+ */
+public class KargerKleinTarjan implements MST {
+    private static final long DEFAULT_SEED = 0x5DEECE66DL;
+    // Маленькие подзадачи решаются Краскалом напрямую
+    private static final int BASE_EDGES = 512;
+    private static final long EMPTY = -1L;
+
+    private final List<Edge> mst;
+    private double totalWeight;
+    private final SplittableRandom random;
+
+    private int boruvkaSteps;
+    private int recursiveCalls;
+    private long filteredEdges;
+
+    public KargerKleinTarjan(Graph graph) {
+        this(graph, DEFAULT_SEED);
+    }
+
+    public KargerKleinTarjan(Graph graph, long seed) {
+        random = new SplittableRandom(seed);
+
+        List<Edge> edges = new ArrayList<>(graph.E());
+        for (Edge e : graph.edges()) edges.add(e);
+        int m = edges.size();
+        int[] u = new int[m];
+        int[] v = new int[m];
+        double[] w = new double[m];
+        for (int i = 0; i < m; i++) {
+            Edge e = edges.get(i);
+            u[i] = e.either();
+            v[i] = e.other(u[i]);
+            w[i] = e.weight();
+        }
+
+        IntList forest = msf(new Level(graph.V(), u, v, w, null));
+        mst = new ArrayList<>(forest.size);
+        for (int k = 0; k < forest.size; k++) {
+            Edge e = edges.get(forest.items[k]);
+            mst.add(e);
+            totalWeight += e.weight();
+        }
+    }
+
+    // Номера рёбер level (его собственная нумерация), образующих минимальный остовный лес
+    private IntList msf(Level level) {
+        recursiveCalls++;
+        IntList result = new IntList();
+        if (level.m() == 0) return result;
+        if (level.m() <= BASE_EDGES) return kruskal(level);
+
+        // После стягивания origin указывает в рёбра level
+        Level g = level;
+        for (int step = 0; step < 2 && g.m() > 0; step++) {
+            g = boruvka(g, g == level ? null : g.origin, result);
+        }
+        if (g.m() == 0) return result;
+
+        // Случайная половина рёбер: её лес отсекает почти все тяжёлые рёбра g
+        int[] sampled = new int[g.m()];
+        int sampleCount = 0;
+        for (int i = 0; i < g.m(); i++) {
+            if (random.nextBoolean()) sampled[sampleCount++] = i;
+        }
+        Level sample = g.subset(sampled, sampleCount);
+        IntList sampleForest = msf(sample);
+
+        int t = sampleForest.size;
+        int[] tu = new int[t];
+        int[] tv = new int[t];
+        double[] tw = new double[t];
+        for (int k = 0; k < t; k++) {
+            int e = sample.origin[sampleForest.items[k]];
+            tu[k] = g.u[e];
+            tv[k] = g.v[e];
+            tw[k] = g.w[e];
+        }
+        int[] heaviest = OfflinePathMax.maxEdges(g.n, tu, tv, tw, g.u, g.v);
+
+        // F-лёгкие: концы в разных деревьях леса или вес не больше максимума на пути
+        int[] light = new int[g.m()];
+        int lightCount = 0;
+        for (int i = 0; i < g.m(); i++) {
+            int h = heaviest[i];
+            if (h == OfflinePathMax.NONE || g.w[i] <= tw[h]) light[lightCount++] = i;
+        }
+        filteredEdges += g.m() - lightCount;
+
+        Level rest = g.subset(light, lightCount);
+        IntList restForest = msf(rest);
+        for (int k = 0; k < restForest.size; k++) {
+            result.add(g.origin[rest.origin[restForest.items[k]]]);
+        }
+        return result;
+    }
+
+    /**
+     * Шаг Борувки: каждая вершина берёт минимальное ребро (вес, номер), компоненты стягиваются,
+     * петли исчезают, из параллельных рёбер остаётся самое лёгкое. callIndex переводит рёбра g
+     * в нумерацию уровня вызова msf (null — g и есть этот уровень); в ней же пишутся out и origin.
+     */
+    private Level boruvka(Level g, int[] callIndex, IntList out) {
+        boruvkaSteps++;
+        int[] best = new int[g.n];
+        Arrays.fill(best, -1);
+        for (int i = 0; i < g.m(); i++) {
+            if (best[g.u[i]] < 0 || lighter(g.w, i, best[g.u[i]])) best[g.u[i]] = i;
+            if (best[g.v[i]] < 0 || lighter(g.w, i, best[g.v[i]])) best[g.v[i]] = i;
+        }
+
+        UnionFind uf = new UnionFind(g.n);
+        for (int x = 0; x < g.n; x++) {
+            int e = best[x];
+            if (e >= 0 && uf.union(g.u[e], g.v[e])) out.add(callIndex == null ? e : callIndex[e]);
+        }
+
+        int[] label = new int[g.n];
+        Arrays.fill(label, -1);
+        int n = 0;
+        int capacity = Integer.highestOneBit(Math.max(4, g.m() * 2 - 1)) << 1;
+        int mask = capacity - 1;
+        long[] keys = new long[capacity];
+        int[] slotEdge = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+
+        int[] kept = new int[g.m()];
+        int keptCount = 0;
+        for (int i = 0; i < g.m(); i++) {
+            int a = uf.find(g.u[i]);
+            int b = uf.find(g.v[i]);
+            if (a == b) continue;
+            if (label[a] < 0) label[a] = n++;
+            if (label[b] < 0) label[b] = n++;
+            a = label[a];
+            b = label[b];
+
+            long key = ((long) Math.min(a, b) << 32) | Math.max(a, b);
+            int slot = (int) mix(key) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) slot = (slot + 1) & mask;
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                slotEdge[slot] = keptCount;
+                kept[keptCount++] = i;
+            } else if (lighter(g.w, i, kept[slotEdge[slot]])) {
+                kept[slotEdge[slot]] = i;
+            }
+        }
+
+        int[] u = new int[keptCount];
+        int[] v = new int[keptCount];
+        double[] w = new double[keptCount];
+        int[] origin = new int[keptCount];
+        for (int j = 0; j < keptCount; j++) {
+            int i = kept[j];
+            u[j] = label[uf.find(g.u[i])];
+            v[j] = label[uf.find(g.v[i])];
+            w[j] = g.w[i];
+            origin[j] = callIndex == null ? i : callIndex[i];
+        }
+        return new Level(n, u, v, w, origin);
+    }
+
+    private static IntList kruskal(Level g) {
+        IntList result = new IntList();
+        UnionFind uf = new UnionFind(g.n);
+        for (int i : EdgeOrder.byWeight(g.w)) {
+            if (uf.union(g.u[i], g.v[i])) {
+                result.add(i);
+                if (result.size == g.n - 1) break;
+            }
+        }
+        return result;
+    }
+
+    // Строгий порядок (вес, номер): выбранные Борувкой рёбра не образуют цикла
+    private static boolean lighter(double[] w, int a, int b) {
+        int c = Double.compare(w[a], w[b]);
+        return c < 0 || (c == 0 && a < b);
+    }
+
+    private static long mix(long key) {
+        key *= 0x9E3779B97F4A7C15L;
+        return key ^ (key >>> 29);
+    }
+
+    @Override
+    public Iterable<Edge> edges() {
+        return mst;
+    }
+
+    @Override
+    public double weight() {
+        return totalWeight;
+    }
+
+    public int getBoruvkaSteps() {
+        return boruvkaSteps;
+    }
+
+    public int getRecursiveCalls() {
+        return recursiveCalls;
+    }
+
+    // Рёбра, отброшенные фильтром F-тяжёлых рёбер на всех уровнях
+    public long getFilteredEdges() {
+        return filteredEdges;
+    }
+
+    /**
+     * Граф уровня рекурсии: n вершин, рёбра (u, v, w). origin[i] — номер ребра в графе,
+     * из которого этот получен (выборкой — в родителе, стягиванием — в уровне вызова msf).
+     */
+    private static final class Level {
+        final int n;
+        final int[] u;
+        final int[] v;
+        final double[] w;
+        final int[] origin;
+
+        Level(int n, int[] u, int[] v, double[] w, int[] origin) {
+            this.n = n;
+            this.u = u;
+            this.v = v;
+            this.w = w;
+            this.origin = origin;
+        }
+
+        int m() {
+            return u.length;
+        }
+
+        // Подграф на тех же вершинах; origin указывает в этот граф
+        Level subset(int[] chosen, int count) {
+            int[] su = new int[count];
+            int[] sv = new int[count];
+            double[] sw = new double[count];
+            for (int k = 0; k < count; k++) {
+                int i = chosen[k];
+                su[k] = u[i];
+                sv[k] = v[i];
+                sw[k] = w[i];
+            }
+            return new Level(n, su, sv, sw, Arrays.copyOf(chosen, count));
+        }
+    }
+
+    private static final class IntList {
+        int[] items = new int[16];
+        int size;
+
+        void add(int value) {
+            if (size == items.length) items = Arrays.copyOf(items, size * 2);
+            items[size++] = value;
+        }
+    }
+}
@@ -2,10 +2,11 @@ package algorithms;
 
 import graph.Edge;
 import graph.Graph;
+import profiling.PhaseEvents;
 
 import java.util.*;
 
-public class Kruskal {
+public class Kruskal implements MST {
     private final List<Edge> mst;
     private double totalWeight;
 
@@ -17,35 +18,81 @@ public class Kruskal {
     private int unionOperations;
 
     public Kruskal(Graph graph) {
+        this(graph, MSTWorkspace.acquire(), true);
+    }
+
+    // Рабочие массивы берутся из workspace; закрывает его вызывающий
+    public Kruskal(Graph graph, MSTWorkspace workspace) {
+        this(graph, workspace, false);
+    }
+
+    private Kruskal(Graph graph, MSTWorkspace workspace, boolean release) {
+        try {
+            mst = new ArrayList<>(Math.max(0, Math.min(graph.V() - 1, graph.E())));
+            run(graph, workspace);
+        } finally {
+            if (release) workspace.close();
+        }
+    }
+
+    // Рёбра уже упорядочены по весу (например, через SortedEdgeIndex): остаётся один проход union-find
+    public Kruskal(int V, List<Edge> sortedEdges) {
+        for (int i = 1; i < sortedEdges.size(); i++) {
+            if (sortedEdges.get(i - 1).weight() > sortedEdges.get(i).weight()) {
+                throw new IllegalArgumentException("Edges are not sorted by weight at position " + i);
+            }
+        }
+        mst = new ArrayList<>(Math.max(0, Math.min(V - 1, sortedEdges.size())));
+        try (MSTWorkspace workspace = MSTWorkspace.acquire()) {
+            connect(V, sortedEdges, workspace);
+        }
+    }
+
+    private void run(Graph graph, MSTWorkspace workspace) {
         int V = graph.V();
-        mst = new ArrayList<>();
-
-        comparisonCount = 0;
-        unionFindOperations = 0;
-        sortOperations = 0;
-        findOperations = 0;
-        unionOperations = 0;
-
-        List<Edge> edges = new ArrayList<>();
-        for (Edge e : graph.edges()) {
-            edges.add(e);
-            sortOperations++;
+
+        // Те же рёбра и в том же порядке, что graph.edges(), но без промежуточного списка
+        Edge[] edges = workspace.edges(graph.E());
+        int count = 0;
+        for (int v = 0; v < V; v++) {
+            for (Edge e : graph.adj(v)) {
+                if (e.other(v) > v) {
+                    edges[count++] = e;
+                    sortOperations++;
+                }
+            }
+        }
+
+        PhaseEvents.Sort sortEvent = new PhaseEvents.Sort();
+        sortEvent.begin();
+        workspace.sortEdges(count);
+        sortOperations += count * (int) Math.log(count);
+        if (sortEvent.shouldCommit()) {
+            sortEvent.edges = count;
+            sortEvent.commit();
         }
 
-        Collections.sort(edges);
-        sortOperations += edges.size() * (int) Math.log(edges.size());
+        connect(V, Arrays.asList(edges).subList(0, count), workspace);
+    }
+
+    private void connect(int V, List<Edge> edges, MSTWorkspace workspace) {
+        PhaseEvents.UnionFind unionFindEvent = new PhaseEvents.UnionFind();
+        unionFindEvent.begin();
+        int scanned = 0;
 
-        int[] parent = new int[V];
-        int[] rank = new int[V];
+        int[] parent = workspace.parent(V);
+        int[] rank = workspace.rank(V);
         for (int i = 0; i < V; i++) {
             parent[i] = i;
             rank[i] = 0;
             unionFindOperations++;
         }
 
-        for (Edge e : edges) {
+        for (int i = 0; i < edges.size(); i++) {
+            Edge e = edges.get(i);
             comparisonCount++;
             if (mst.size() == V - 1) break;
+            scanned++;
 
             int v = e.either();
             int w = e.other(v);
@@ -60,6 +107,13 @@ public class Kruskal {
             }
             comparisonCount++;
         }
+
+        if (unionFindEvent.shouldCommit()) {
+            unionFindEvent.edgesScanned = scanned;
+            unionFindEvent.unions = unionOperations;
+            unionFindEvent.operations = unionFindOperations;
+            unionFindEvent.commit();
+        }
     }
 
     private int find(int[] parent, int v) {
@@ -0,0 +1,100 @@
+package algorithms;
+
+import graph.Edge;
+import graph.Graph;
+
+import java.util.Arrays;
+
+/**
+ * Кластеризация одиночной связи на основе Краскала: цикл объединений останавливается
+ * на k компонентах или на пороге веса; метки возвращаются массивом int.
+ */
+public final class KruskalClustering {
+
+    private KruskalClustering() {
+    }
+
+    public static int[] clusters(Graph graph, int k) {
+        if (k < 1) throw new IllegalArgumentException("Cluster count must be positive: " + k);
+
+        SortedEdges edges = SortedEdges.of(graph);
+        UnionFind uf = new UnionFind(graph.V());
+        for (int i = 0; i < edges.size() && uf.count() > k; i++) {
+            uf.union(edges.v[i], edges.w[i]);
+        }
+        return uf.labels();
+    }
+
+    // Объединяет все рёбра с весом не больше threshold
+    public static int[] clustersBelow(Graph graph, double threshold) {
+        SortedEdges edges = SortedEdges.of(graph);
+        UnionFind uf = new UnionFind(graph.V());
+        for (int i = 0; i < edges.size() && edges.weight[i] <= threshold; i++) {
+            uf.union(edges.v[i], edges.w[i]);
+        }
+        return uf.labels();
+    }
+
+    public static Dendrogram dendrogram(Graph graph) {
+        int V = graph.V();
+        SortedEdges edges = SortedEdges.of(graph);
+        UnionFind uf = new UnionFind(V);
+
+        int[] mergeV = new int[Math.max(0, V - 1)];
+        int[] mergeW = new int[Math.max(0, V - 1)];
+        double[] height = new double[Math.max(0, V - 1)];
+        int merges = 0;
+        for (int i = 0; i < edges.size() && merges < V - 1; i++) {
+            if (uf.union(edges.v[i], edges.w[i])) {
+                mergeV[merges] = edges.v[i];
+                mergeW[merges] = edges.w[i];
+                height[merges] = edges.weight[i];
+                merges++;
+            }
+        }
+        return new Dendrogram(V, mergeV, mergeW, height, merges);
+    }
+
+    // Рёбра графа в примитивных массивах, отсортированные по весу
+    private static class SortedEdges {
+        final int[] v;
+        final int[] w;
+        final double[] weight;
+
+        private SortedEdges(int[] v, int[] w, double[] weight) {
+            this.v = v;
+            this.w = w;
+            this.weight = weight;
+        }
+
+        static SortedEdges of(Graph graph) {
+            int E = graph.E();
+            int[] v = new int[E];
+            int[] w = new int[E];
+            double[] weight = new double[E];
+            int n = 0;
+            for (Edge e : graph.edges()) {
+                v[n] = e.either();
+                w[n] = e.other(v[n]);
+                weight[n] = e.weight();
+                n++;
+            }
+
+            double[] keys = n == E ? weight : Arrays.copyOf(weight, n);
+            int[] order = EdgeOrder.byWeight(keys);
+            int[] sv = new int[n];
+            int[] sw = new int[n];
+            double[] sweight = new double[n];
+            for (int i = 0; i < n; i++) {
+                sv[i] = v[order[i]];
+                sw[i] = w[order[i]];
+                sweight[i] = weight[order[i]];
+            }
+            return new SortedEdges(sv, sw, sweight);
+        }
+
+        int size() {
+            return weight.length;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package algorithms;
+
+import graph.Edge;
+
+public interface MST {
+    Iterable<Edge> edges();
+
+    double weight();
+}
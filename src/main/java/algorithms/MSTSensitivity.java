@@ -0,0 +1,221 @@
+package algorithms;
+
+import graph.Edge;
+import graph.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Анализ чувствительности MST за почти линейное время. Ребро вне дерева может подешеветь
+ * до максимума на пути в дереве между его концами (OfflinePathMax). Ребро дерева может
+ * подорожать до самого лёгкого ребра вне дерева, чей цикл его покрывает: рёбра вне дерева
+ * перебираются по возрастанию веса, уже покрытые рёбра дерева перескакиваются через union-find.
+ */
+public final class MSTSensitivity {
+    private static final int NONE = -1;
+
+    private final List<EdgeSensitivity> treeEdges;
+    private final List<EdgeSensitivity> nonTreeEdges;
+
+    public MSTSensitivity(Graph graph, MST mst) {
+        this(graph, mst.edges());
+    }
+
+    public MSTSensitivity(Graph graph, Iterable<Edge> forest) {
+        int V = graph.V();
+        List<Edge> tree = new ArrayList<>();
+        Set<Edge> inTree = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Edge e : forest) {
+            tree.add(e);
+            inTree.add(e);
+        }
+        List<Edge> nonTree = new ArrayList<>();
+        for (Edge e : graph.edges()) {
+            if (!inTree.contains(e)) nonTree.add(e);
+        }
+
+        int T = tree.size();
+        int[] tu = new int[T];
+        int[] tv = new int[T];
+        double[] tw = new double[T];
+        for (int i = 0; i < T; i++) {
+            Edge e = tree.get(i);
+            tu[i] = e.either();
+            tv[i] = e.other(tu[i]);
+            tw[i] = e.weight();
+        }
+        int Q = nonTree.size();
+        int[] qu = new int[Q];
+        int[] qv = new int[Q];
+        double[] qw = new double[Q];
+        for (int j = 0; j < Q; j++) {
+            Edge e = nonTree.get(j);
+            qu[j] = e.either();
+            qv[j] = e.other(qu[j]);
+            qw[j] = e.weight();
+        }
+
+        nonTreeEdges = new ArrayList<>(Q);
+        int[] heaviest = OfflinePathMax.maxEdges(V, tu, tv, tw, qu, qv);
+        for (int j = 0; j < Q; j++) {
+            int h = heaviest[j];
+            nonTreeEdges.add(h == NONE
+                    ? new EdgeSensitivity(nonTree.get(j), false, Double.NEGATIVE_INFINITY, null)
+                    : new EdgeSensitivity(nonTree.get(j), false, tw[h], tree.get(h)));
+        }
+
+        int[] cover = coverTreeEdges(V, tu, tv, qu, qv, EdgeOrder.byWeight(qw));
+        treeEdges = new ArrayList<>(T);
+        for (int i = 0; i < T; i++) {
+            int c = cover[i];
+            treeEdges.add(c == NONE
+                    ? new EdgeSensitivity(tree.get(i), true, Double.POSITIVE_INFINITY, null)
+                    : new EdgeSensitivity(tree.get(i), true, qw[c], nonTree.get(c)));
+        }
+    }
+
+    /**
+     * Для каждого ребра дерева — первое в порядке order ребро вне дерева, чей цикл его содержит
+     * (или NONE); order — номера рёбер (qu, qv) по возрастанию веса, возможно не все.
+     * jump[x] ведёт к ближайшему предку x (или самой x), ребро к родителю которого ещё не покрыто.
+     */
+    static int[] coverTreeEdges(int V, int[] tu, int[] tv, int[] qu, int[] qv, int[] order) {
+        int T = tu.length;
+        int[] adjStart = new int[V + 1];
+        for (int i = 0; i < T; i++) {
+            adjStart[tu[i] + 1]++;
+            adjStart[tv[i] + 1]++;
+        }
+        for (int v = 0; v < V; v++) adjStart[v + 1] += adjStart[v];
+        int[] adj = new int[2 * T];
+        int[] fill = Arrays.copyOf(adjStart, V);
+        for (int i = 0; i < T; i++) {
+            adj[fill[tu[i]]++] = i;
+            adj[fill[tv[i]]++] = i;
+        }
+
+        // Корни деревьев леса: обход в ширину задаёт родителя, ребро к нему и глубину
+        int[] parent = new int[V];
+        int[] parentEdge = new int[V];
+        int[] depth = new int[V];
+        Arrays.fill(parent, NONE);
+        boolean[] seen = new boolean[V];
+        int[] queue = new int[V];
+        for (int root = 0; root < V; root++) {
+            if (seen[root]) continue;
+            seen[root] = true;
+            parentEdge[root] = NONE;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            while (head < tail) {
+                int x = queue[head++];
+                for (int k = adjStart[x]; k < adjStart[x + 1]; k++) {
+                    int i = adj[k];
+                    int y = tu[i] == x ? tv[i] : tu[i];
+                    if (seen[y]) continue;
+                    seen[y] = true;
+                    parent[y] = x;
+                    parentEdge[y] = i;
+                    depth[y] = depth[x] + 1;
+                    queue[tail++] = y;
+                }
+            }
+        }
+
+        int[] cover = new int[T];
+        Arrays.fill(cover, NONE);
+        int[] jump = new int[V];
+        for (int v = 0; v < V; v++) jump[v] = v;
+        int uncovered = T;
+        for (int j : order) {
+            if (uncovered == 0) break;
+            int a = find(jump, qu[j]);
+            int b = find(jump, qv[j]);
+            while (a != b) {
+                if (depth[a] < depth[b]) {
+                    int t = a;
+                    a = b;
+                    b = t;
+                }
+                // Разные деревья леса: общего пути нет
+                if (parent[a] == NONE) break;
+                cover[parentEdge[a]] = j;
+                uncovered--;
+                jump[a] = parent[a];
+                a = find(jump, a);
+            }
+        }
+        return cover;
+    }
+
+    private static int find(int[] jump, int x) {
+        while (jump[x] != x) {
+            jump[x] = jump[jump[x]];
+            x = jump[x];
+        }
+        return x;
+    }
+
+    public List<EdgeSensitivity> treeEdges() {
+        return treeEdges;
+    }
+
+    public List<EdgeSensitivity> nonTreeEdges() {
+        return nonTreeEdges;
+    }
+
+    public static class EdgeSensitivity {
+        private final Edge edge;
+        private final boolean inTree;
+        private final double limit;
+        private final Edge replacement;
+
+        EdgeSensitivity(Edge edge, boolean inTree, double limit, Edge replacement) {
+            this.edge = edge;
+            this.inTree = inTree;
+            this.limit = limit;
+            this.replacement = replacement;
+        }
+
+        public Edge edge() {
+            return edge;
+        }
+
+        public boolean inTree() {
+            return inTree;
+        }
+
+        /**
+         * Вес, за которым MST меняется: для ребра дерева — верхняя граница, для ребра вне
+         * дерева — нижняя. Бесконечность, если замены нет (мост или ребро между деревьями леса).
+         */
+        public double limit() {
+            return limit;
+        }
+
+        // Насколько вес может измениться без смены MST
+        public double tolerance() {
+            return inTree ? limit - edge.weight() : edge.weight() - limit;
+        }
+
+        public boolean bounded() {
+            return replacement != null;
+        }
+
+        // Ребро, которое займёт место этого при выходе за limit; null, если замены нет
+        public Edge replacement() {
+            return replacement;
+        }
+
+        @Override
+        public String toString() {
+            return edge + (inTree ? " +" : " -") + (bounded() ? String.format("%.2f -> %s", tolerance(), replacement) : "inf");
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package algorithms;
+
+import graph.Edge;
+import graph.Graph;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Проверка сертификата MST за почти линейное время: заявленный лес должен состоять из рёбер графа,
+ * быть ациклическим и максимальным, а каждое ребро вне леса — не легче максимума на
+ * пути в лесу (свойство цикла).
+ */
+public final class MSTVerifier {
+
+    private MSTVerifier() {
+    }
+
+    public static Result verify(Graph graph, Iterable<Edge> forest) {
+        int V = graph.V();
+        Result result = new Result();
+
+        // Мультимножество рёбер графа по ключу (концы, вес)
+        Map<EdgeKey, List<Edge>> available = new HashMap<>();
+        for (Edge e : graph.edges()) {
+            available.computeIfAbsent(EdgeKey.of(e), k -> new ArrayList<>(1)).add(e);
+        }
+
+        List<Edge> tree = new ArrayList<>();
+        UnionFind uf = new UnionFind(V);
+        for (Edge e : forest) {
+            int v = e.either();
+            int w = e.other(v);
+            if (v < 0 || v >= V || w < 0 || w >= V) {
+                result.foreignEdges.add(e);
+                continue;
+            }
+            List<Edge> same = available.get(EdgeKey.of(e));
+            if (same == null || same.isEmpty()) {
+                result.foreignEdges.add(e);
+                continue;
+            }
+            same.remove(same.size() - 1);
+            if (!uf.union(v, w)) {
+                result.cycleEdges.add(e);
+                continue;
+            }
+            tree.add(e);
+            result.totalWeight += e.weight();
+        }
+
+        List<Edge> nonTree = new ArrayList<>();
+        for (List<Edge> rest : available.values()) {
+            for (Edge e : rest) {
+                int v = e.either();
+                int w = e.other(v);
+                if (v == w) continue;
+                if (!uf.connected(v, w)) result.bridgingEdges.add(e);
+                else nonTree.add(e);
+            }
+        }
+
+        int T = tree.size();
+        int[] tu = new int[T];
+        int[] tv = new int[T];
+        double[] tw = new double[T];
+        for (int i = 0; i < T; i++) {
+            Edge e = tree.get(i);
+            tu[i] = e.either();
+            tv[i] = e.other(tu[i]);
+            tw[i] = e.weight();
+        }
+        int Q = nonTree.size();
+        int[] qu = new int[Q];
+        int[] qv = new int[Q];
+        for (int j = 0; j < Q; j++) {
+            Edge e = nonTree.get(j);
+            qu[j] = e.either();
+            qv[j] = e.other(qu[j]);
+        }
+
+        int[] heaviest = OfflinePathMax.maxEdges(V, tu, tv, tw, qu, qv);
+        for (int j = 0; j < Q; j++) {
+            int h = heaviest[j];
+            if (h != OfflinePathMax.NONE && nonTree.get(j).weight() < tw[h]) {
+                result.violations.add(new Violation(nonTree.get(j), tree.get(h)));
+            }
+        }
+        return result;
+    }
+
+    public static Result verify(Graph graph, MST mst) {
+        return verify(graph, mst.edges());
+    }
+
+    public static class Result {
+        private final List<Violation> violations = new ArrayList<>();
+        private final List<Edge> cycleEdges = new ArrayList<>();
+        private final List<Edge> foreignEdges = new ArrayList<>();
+        private final List<Edge> bridgingEdges = new ArrayList<>();
+        private double totalWeight;
+
+        public boolean isValid() {
+            return violations.isEmpty() && cycleEdges.isEmpty()
+                    && foreignEdges.isEmpty() && bridgingEdges.isEmpty();
+        }
+
+        // Рёбра вне леса, которые легче тяжелейшего ребра на своём цикле
+        public List<Violation> violations() {
+            return violations;
+        }
+
+        // Рёбра заявленного леса, замыкающие цикл
+        public List<Edge> cycleEdges() {
+            return cycleEdges;
+        }
+
+        // Рёбра заявленного леса, которых нет в графе
+        public List<Edge> foreignEdges() {
+            return foreignEdges;
+        }
+
+        // Рёбра графа, соединяющие разные деревья леса (лес не остовный)
+        public List<Edge> bridgingEdges() {
+            return bridgingEdges;
+        }
+
+        public double totalWeight() {
+            return totalWeight;
+        }
+
+        @Override
+        public String toString() {
+            if (isValid()) return "valid";
+            return String.format("invalid: %d cycle-property violations, %d cycle edges, "
+                            + "%d edges not in graph, %d missing connections",
+                    violations.size(), cycleEdges.size(), foreignEdges.size(), bridgingEdges.size());
+        }
+    }
+
+    public static class Violation {
+        private final Edge nonTreeEdge;
+        private final Edge heavierTreeEdge;
+
+        Violation(Edge nonTreeEdge, Edge heavierTreeEdge) {
+            this.nonTreeEdge = nonTreeEdge;
+            this.heavierTreeEdge = heavierTreeEdge;
+        }
+
+        public Edge nonTreeEdge() {
+            return nonTreeEdge;
+        }
+
+        // Ребро леса, которое следовало бы заменить на nonTreeEdge
+        public Edge heavierTreeEdge() {
+            return heavierTreeEdge;
+        }
+
+        @Override
+        public String toString() {
+            return nonTreeEdge + " < " + heavierTreeEdge;
+        }
+    }
+
+    private static final class EdgeKey {
+        private final int v;
+        private final int w;
+        private final long weightBits;
+
+        private EdgeKey(int v, int w, double weight) {
+            this.v = Math.min(v, w);
+            this.w = Math.max(v, w);
+            this.weightBits = Double.doubleToLongBits(weight);
+        }
+
+        static EdgeKey of(Edge e) {
+            int v = e.either();
+            return new EdgeKey(v, e.other(v), e.weight());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof EdgeKey)) return false;
+            EdgeKey that = (EdgeKey) o;
+            return v == that.v && w == that.w && weightBits == that.weightBits;
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * v + w) * 31 + Long.hashCode(weightBits);
+        }
+    }
+}
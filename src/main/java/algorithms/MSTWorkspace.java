@@ -0,0 +1,142 @@
+package algorithms;
+
+import graph.Edge;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * Рабочие массивы Prim и Kruskal, переиспользуемые между прогонами: растут до самого большого
+ * графа и больше не выделяются. acquire() выдаёт экземпляр текущего потока; если он уже занят
+ * (вложенный прогон), выдаётся временный. close() возвращает экземпляр и отпускает ссылки на рёбра.
+ */
+public final class MSTWorkspace implements AutoCloseable {
+    private static final ThreadLocal<MSTWorkspace> LOCAL = ThreadLocal.withInitial(() -> new MSTWorkspace(true));
+    // Короткие отрезки сортируются вставками, дальше — слиянием
+    private static final int RUN = 32;
+
+    private final boolean pooled;
+    private boolean inUse;
+
+    private boolean[] marked = new boolean[0];
+    private int[] parent = new int[0];
+    private int[] rank = new int[0];
+    private Edge[] edges = new Edge[0];
+    private Edge[] buffer = new Edge[0];
+    private int edgesInUse;
+    private final PriorityQueue<Edge> queue = new PriorityQueue<>();
+
+    public MSTWorkspace() {
+        this(false);
+    }
+
+    private MSTWorkspace(boolean pooled) {
+        this.pooled = pooled;
+    }
+
+    public static MSTWorkspace acquire() {
+        MSTWorkspace workspace = LOCAL.get();
+        if (workspace.inUse) return new MSTWorkspace();
+        workspace.inUse = true;
+        return workspace;
+    }
+
+    // Экземпляр из пула текущего потока (для проверки, что выдан именно он)
+    public boolean isPooled() {
+        return pooled;
+    }
+
+    @Override
+    public void close() {
+        Arrays.fill(edges, 0, edgesInUse, null);
+        Arrays.fill(buffer, 0, edgesInUse, null);
+        edgesInUse = 0;
+        queue.clear();
+        inUse = false;
+    }
+
+    // Первые V элементов сброшены в false
+    boolean[] marked(int V) {
+        if (marked.length < V) marked = new boolean[V];
+        else Arrays.fill(marked, 0, V, false);
+        return marked;
+    }
+
+    // Содержимое не определено: движок заполняет сам
+    int[] parent(int V) {
+        if (parent.length < V) parent = new int[V];
+        return parent;
+    }
+
+    int[] rank(int V) {
+        if (rank.length < V) rank = new int[V];
+        return rank;
+    }
+
+    Edge[] edges(int E) {
+        if (edges.length < E) {
+            edges = new Edge[E];
+            buffer = new Edge[E];
+        }
+        edgesInUse = Math.max(edgesInUse, E);
+        return edges;
+    }
+
+    PriorityQueue<Edge> queue() {
+        queue.clear();
+        return queue;
+    }
+
+    public int vertexCapacity() {
+        return Math.max(marked.length, parent.length);
+    }
+
+    public int edgeCapacity() {
+        return edges.length;
+    }
+
+    /**
+     * Устойчивая сортировка edges(n)[0..n) по весу без выделения памяти: порядок совпадает
+     * с Collections.sort по Edge.compareTo.
+     */
+    void sortEdges(int n) {
+        Edge[] a = edges;
+        for (int lo = 0; lo < n; lo += RUN) {
+            int hi = Math.min(lo + RUN, n);
+            for (int i = lo + 1; i < hi; i++) {
+                Edge e = a[i];
+                int j = i - 1;
+                while (j >= lo && Double.compare(a[j].weight(), e.weight()) > 0) {
+                    a[j + 1] = a[j];
+                    j--;
+                }
+                a[j + 1] = e;
+            }
+        }
+
+        Edge[] from = a;
+        Edge[] to = buffer;
+        for (int width = RUN; width < n; width <<= 1) {
+            for (int lo = 0; lo < n; lo += width << 1) {
+                int mid = Math.min(lo + width, n);
+                int hi = Math.min(lo + (width << 1), n);
+                merge(from, to, lo, mid, hi);
+            }
+            Edge[] t = from;
+            from = to;
+            to = t;
+        }
+        if (from != a) System.arraycopy(from, 0, a, 0, n);
+    }
+
+    private static void merge(Edge[] from, Edge[] to, int lo, int mid, int hi) {
+        int i = lo;
+        int j = mid;
+        for (int k = lo; k < hi; k++) {
+            if (i >= mid) to[k] = from[j++];
+            else if (j >= hi) to[k] = from[i++];
+            else if (Double.compare(from[j].weight(), from[i].weight()) < 0) to[k] = from[j++];
+            else to[k] = from[i++];
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Пакетные запросы "тяжелейшее ребро на пути u-v" в лесу за почти линейное время:
+ * офлайн-LCA Тарьяна, в котором система множеств хранит максимум на пути до представителя.
+ */
+public final class OfflinePathMax {
+    public static final int NONE = -1;
+
+    private OfflinePathMax() {
+    }
+
+    /**
+     * Лес задаётся рёбрами (tu[i], tv[i]) с весами tw[i]. Для каждого запроса (qu[j], qv[j])
+     * возвращается номер тяжелейшего ребра леса на пути, либо NONE, если qu[j] == qv[j]
+     * или вершины лежат в разных деревьях.
+     */
+    public static int[] maxEdges(int V, int[] tu, int[] tv, double[] tw, int[] qu, int[] qv) {
+        int T = tu.length;
+        int Q = qu.length;
+
+        int[] adjStart = new int[V + 1];
+        for (int i = 0; i < T; i++) {
+            adjStart[tu[i] + 1]++;
+            adjStart[tv[i] + 1]++;
+        }
+        for (int v = 0; v < V; v++) adjStart[v + 1] += adjStart[v];
+        int[] adj = new int[2 * T];
+        int[] fill = Arrays.copyOf(adjStart, V);
+        for (int i = 0; i < T; i++) {
+            adj[fill[tu[i]]++] = i;
+            adj[fill[tv[i]]++] = i;
+        }
+
+        int[] queryStart = new int[V + 1];
+        for (int j = 0; j < Q; j++) {
+            queryStart[qu[j] + 1]++;
+            queryStart[qv[j] + 1]++;
+        }
+        for (int v = 0; v < V; v++) queryStart[v + 1] += queryStart[v];
+        int[] queries = new int[2 * Q];
+        fill = Arrays.copyOf(queryStart, V);
+        for (int j = 0; j < Q; j++) {
+            queries[fill[qu[j]]++] = j;
+            queries[fill[qv[j]]++] = j;
+        }
+
+        int[] answer = new int[Q];
+        Arrays.fill(answer, NONE);
+
+        // link/best — лес "вычисления": best[x] — тяжелейшее ребро на пути от x до link[x]
+        int[] link = new int[V];
+        int[] best = new int[V];
+        int[] tree = new int[V];
+        Arrays.fill(tree, NONE);
+        for (int v = 0; v < V; v++) {
+            link[v] = v;
+            best[v] = NONE;
+        }
+
+        // Отложенные запросы, привязанные к своему LCA
+        int[] pendingHead = new int[V];
+        int[] pendingNext = new int[Q];
+        Arrays.fill(pendingHead, NONE);
+
+        int[] parentEdge = new int[V];
+        int[] stackVertex = new int[V];
+        int[] stackCursor = new int[V];
+        int[] path = new int[V];
+
+        int trees = 0;
+        for (int root = 0; root < V; root++) {
+            if (tree[root] != NONE) continue;
+
+            int top = 0;
+            stackVertex[0] = root;
+            stackCursor[0] = adjStart[root];
+            parentEdge[root] = NONE;
+            tree[root] = trees;
+            attachQueries(root, queryStart, queries, qu, qv, tree, tw, link, best, path, pendingHead, pendingNext);
+
+            while (top >= 0) {
+                int v = stackVertex[top];
+                if (stackCursor[top] < adjStart[v + 1]) {
+                    int e = adj[stackCursor[top]++];
+                    if (e == parentEdge[v]) continue;
+                    int w = tu[e] == v ? tv[e] : tu[e];
+                    if (tree[w] != NONE) {
+                        throw new IllegalArgumentException("Edges do not form a forest: cycle through " + w);
+                    }
+                    tree[w] = trees;
+                    parentEdge[w] = e;
+                    top++;
+                    stackVertex[top] = w;
+                    stackCursor[top] = adjStart[w];
+                    attachQueries(w, queryStart, queries, qu, qv, tree, tw, link, best, path, pendingHead, pendingNext);
+                    continue;
+                }
+
+                // Все поддеревья v присоединены к v: отвечаем на запросы с LCA = v
+                for (int j = pendingHead[v]; j != NONE; j = pendingNext[j]) {
+                    answer[j] = heavier(tw, eval(qu[j], tw, link, best, path), eval(qv[j], tw, link, best, path));
+                }
+                top--;
+                if (top >= 0) {
+                    link[v] = stackVertex[top];
+                    best[v] = parentEdge[v];
+                }
+            }
+            trees++;
+        }
+        return answer;
+    }
+
+    private static void attachQueries(int v, int[] queryStart, int[] queries, int[] qu, int[] qv,
+                                      int[] tree, double[] tw, int[] link, int[] best, int[] path,
+                                      int[] pendingHead, int[] pendingNext) {
+        for (int i = queryStart[v]; i < queryStart[v + 1]; i++) {
+            int j = queries[i];
+            int other = qu[j] == v ? qv[j] : qu[j];
+            if (other == v || tree[other] != tree[v]) continue;
+            // Второй конец уже посещён: его представитель — открытый предок, т.е. LCA
+            int lca = compress(other, tw, link, best, path);
+            pendingNext[j] = pendingHead[lca];
+            pendingHead[lca] = j;
+        }
+    }
+
+    private static int eval(int x, double[] tw, int[] link, int[] best, int[] path) {
+        if (link[x] == x) return NONE;
+        compress(x, tw, link, best, path);
+        return best[x];
+    }
+
+    // Сжатие пути: x и его предки по link указывают прямо на представителя, best копит максимум
+    private static int compress(int x, double[] tw, int[] link, int[] best, int[] path) {
+        int length = 0;
+        while (link[x] != x) {
+            path[length++] = x;
+            x = link[x];
+        }
+        int root = x;
+        for (int i = length - 2; i >= 0; i--) {
+            int node = path[i];
+            best[node] = heavier(tw, best[node], best[path[i + 1]]);
+            link[node] = root;
+        }
+        return root;
+    }
+
+    static int heavier(double[] tw, int a, int b) {
+        if (a == NONE) return b;
+        if (b == NONE) return a;
+        return tw[b] > tw[a] ? b : a;
+    }
+}
@@ -0,0 +1,164 @@
+package algorithms;
+
+import graph.Edge;
+import graph.Graph;
+import graph.ParallelTasks;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Параллельный Прим в стиле Бадера-Конга: потоки растят деревья из разных стартовых вершин,
+ * захватывая вершины атомарно. Дерево останавливается, упершись в чужую вершину;
+ * оставшиеся компоненты сшиваются финальным проходом Краскала по межкомпонентным рёбрам.
+ */
+public class ParallelPrim implements MST {
+    private static final int UNOWNED = -1;
+
+    // Строгий порядок (вес, меньший конец, больший конец): минимальное ребро любого разреза единственно
+    static final Comparator<Edge> ORDER = (a, b) -> {
+        int c = Double.compare(a.weight(), b.weight());
+        if (c != 0) return c;
+        int av = a.either();
+        int aw = a.other(av);
+        int bv = b.either();
+        int bw = b.other(bv);
+        c = Integer.compare(Math.min(av, aw), Math.min(bv, bw));
+        if (c != 0) return c;
+        return Integer.compare(Math.max(av, aw), Math.max(bv, bw));
+    };
+
+    private final List<Edge> mst;
+    private double totalWeight;
+    private final int threads;
+    private int grownTrees;
+    private int stitchedEdges;
+
+    public ParallelPrim(Graph graph) {
+        this(graph, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelPrim(Graph graph, int threads) {
+        if (threads < 1) throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        this.threads = threads;
+
+        int V = graph.V();
+        AtomicIntegerArray owner = new AtomicIntegerArray(V);
+        for (int v = 0; v < V; v++) owner.set(v, UNOWNED);
+        AtomicInteger nextSeed = new AtomicInteger();
+        AtomicInteger nextTree = new AtomicInteger();
+
+        List<List<Edge>> found = new ArrayList<>();
+        for (int t = 0; t < threads; t++) found.add(new ArrayList<>());
+        ParallelTasks.run(threads, t -> grow(graph, owner, nextSeed, nextTree, found.get(t)));
+        grownTrees = nextTree.get();
+
+        mst = new ArrayList<>(Math.max(0, V - 1));
+        UnionFind uf = new UnionFind(V);
+        for (List<Edge> local : found) {
+            for (Edge e : local) {
+                int v = e.either();
+                // Совпадающие параллельные рёбра могли попасть в два дерева — берём одно
+                if (uf.union(v, e.other(v))) add(e);
+            }
+        }
+
+        List<Edge> crossing = new ArrayList<>();
+        for (Edge e : graph.edges()) {
+            int v = e.either();
+            if (!uf.connected(v, e.other(v))) crossing.add(e);
+        }
+        crossing.sort(ORDER);
+        for (Edge e : crossing) {
+            int v = e.either();
+            if (uf.union(v, e.other(v))) {
+                add(e);
+                stitchedEdges++;
+            }
+        }
+    }
+
+    private void add(Edge e) {
+        mst.add(e);
+        totalWeight += e.weight();
+    }
+
+    private static void grow(Graph graph, AtomicIntegerArray owner, AtomicInteger nextSeed,
+                             AtomicInteger nextTree, List<Edge> out) {
+        int V = graph.V();
+        int stride = seedStride(V);
+        PriorityQueue<Edge> pq = new PriorityQueue<>(ORDER);
+        int i;
+        while ((i = nextSeed.getAndIncrement()) < V) {
+            int seed = (int) ((long) i * stride % V);
+            if (owner.get(seed) != UNOWNED) continue;
+            int tree = nextTree.getAndIncrement();
+            if (!owner.compareAndSet(seed, UNOWNED, tree)) continue;
+
+            pq.clear();
+            visit(graph, seed, tree, owner, pq);
+            while (!pq.isEmpty()) {
+                Edge e = pq.poll();
+                int v = e.either();
+                int w = e.other(v);
+                int next = owner.get(v) == tree ? w : v;
+                int nextOwner = owner.get(next);
+                if (nextOwner == tree) continue;
+
+                // e — минимальное ребро, покидающее дерево: оно в MST в любом случае
+                out.add(e);
+                if (nextOwner != UNOWNED || !owner.compareAndSet(next, UNOWNED, tree)) break;
+                visit(graph, next, tree, owner, pq);
+            }
+        }
+    }
+
+    // Шаг, взаимно простой с V: соседние по очереди старты оказываются далеко друг от друга
+    private static int seedStride(int V) {
+        int stride = Math.max(1, (int) (V * 0.6180339887));
+        while (gcd(stride, V) != 1) stride++;
+        return stride;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    private static void visit(Graph graph, int v, int tree, AtomicIntegerArray owner, PriorityQueue<Edge> pq) {
+        for (Edge e : graph.adj(v)) {
+            if (owner.get(e.other(v)) != tree) pq.offer(e);
+        }
+    }
+
+    @Override
+    public Iterable<Edge> edges() {
+        return mst;
+    }
+
+    @Override
+    public double weight() {
+        return totalWeight;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getGrownTrees() {
+        return grownTrees;
+    }
+
+    // Рёбра, добавленные финальным проходом Краскала
+    public int getStitchedEdges() {
+        return stitchedEdges;
+    }
+}
@@ -0,0 +1,207 @@
+package algorithms;
+
+import graph.Edge;
+import graph.ParallelTasks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Индекс запросов "самое тяжёлое ребро на пути u-v" в остовном лесу.
+ * Построение O(V log V), запрос O(log V) (двоичные подъёмы).
+ * После построения индекс только читается, поэтому пакеты запросов делятся между потоками.
+ */
+public class PathMaxIndex {
+    private static final int NONE = -1;
+    // Меньшие пакеты дешевле ответить в вызывающем потоке, чем запускать потоки
+    private static final int QUERIES_PER_TASK = 16_384;
+
+    private final int V;
+    private final Edge[] treeEdges;
+    private final int[] depth;
+    private final int[] component;
+    // up[k][v] — предок на 2^k уровней выше, top[k][v] — номер тяжелейшего ребра на этом отрезке
+    private final int[][] up;
+    private final int[][] top;
+
+    public PathMaxIndex(int V, Iterable<Edge> forest) {
+        this.V = V;
+
+        List<Edge> edges = new ArrayList<>();
+        for (Edge e : forest) edges.add(e);
+        treeEdges = edges.toArray(new Edge[0]);
+
+        int[] adjStart = new int[V + 1];
+        for (Edge e : treeEdges) {
+            int v = e.either();
+            adjStart[v + 1]++;
+            adjStart[e.other(v) + 1]++;
+        }
+        for (int v = 0; v < V; v++) adjStart[v + 1] += adjStart[v];
+        int[] adj = new int[2 * treeEdges.length];
+        int[] fill = adjStart.clone();
+        for (int i = 0; i < treeEdges.length; i++) {
+            int v = treeEdges[i].either();
+            adj[fill[v]++] = i;
+            adj[fill[treeEdges[i].other(v)]++] = i;
+        }
+
+        int levels = 1;
+        while ((1 << levels) < V) levels++;
+        up = new int[levels][V];
+        top = new int[levels][V];
+        depth = new int[V];
+        component = new int[V];
+
+        int[] parentEdge = new int[V];
+        Arrays.fill(component, NONE);
+        int[] queue = new int[V];
+        int components = 0;
+        for (int root = 0; root < V; root++) {
+            if (component[root] != NONE) continue;
+
+            component[root] = components;
+            parentEdge[root] = NONE;
+            up[0][root] = root;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            while (head < tail) {
+                int v = queue[head++];
+                for (int i = adjStart[v]; i < adjStart[v + 1]; i++) {
+                    int e = adj[i];
+                    int w = treeEdges[e].other(v);
+                    if (component[w] != NONE) {
+                        if (e != parentEdge[v]) {
+                            throw new IllegalArgumentException("Edges do not form a forest: cycle through " + w);
+                        }
+                        continue;
+                    }
+                    component[w] = components;
+                    depth[w] = depth[v] + 1;
+                    parentEdge[w] = e;
+                    up[0][w] = v;
+                    queue[tail++] = w;
+                }
+            }
+            components++;
+        }
+
+        for (int v = 0; v < V; v++) top[0][v] = parentEdge[v];
+        for (int k = 1; k < levels; k++) {
+            for (int v = 0; v < V; v++) {
+                int mid = up[k - 1][v];
+                up[k][v] = up[k - 1][mid];
+                top[k][v] = heavier(top[k - 1][v], top[k - 1][mid]);
+            }
+        }
+    }
+
+    public static PathMaxIndex of(MST mst, int V) {
+        return new PathMaxIndex(V, mst.edges());
+    }
+
+    public boolean connected(int u, int v) {
+        if (u < 0 || u >= V || v < 0 || v >= V) {
+            throw new IllegalArgumentException("Vertex out of range");
+        }
+        return component[u] == component[v];
+    }
+
+    /**
+     * Тяжелейшее ребро на пути u-v в лесу; null, если u == v или вершины в разных деревьях.
+     */
+    public Edge maxEdge(int u, int v) {
+        int e = maxEdgeId(u, v);
+        return e == NONE ? null : treeEdges[e];
+    }
+
+    /**
+     * Вес "узкого места" между u и v: 0 для u == v, +бесконечность для разных деревьев.
+     */
+    public double maxWeight(int u, int v) {
+        if (!connected(u, v)) return Double.POSITIVE_INFINITY;
+        if (u == v) return 0.0;
+        return treeEdges[maxEdgeId(u, v)].weight();
+    }
+
+    /**
+     * Пакет запросов maxWeight(us[i], vs[i]) на всех ядрах.
+     */
+    public double[] maxWeights(int[] us, int[] vs) {
+        return maxWeights(us, vs, Runtime.getRuntime().availableProcessors());
+    }
+
+    public double[] maxWeights(int[] us, int[] vs, int threads) {
+        double[] result = new double[checkBatch(us, vs, threads)];
+        forEachSlice(result.length, threads, i -> result[i] = maxWeight(us[i], vs[i]));
+        return result;
+    }
+
+    /**
+     * Пакет запросов maxEdge(us[i], vs[i]) на всех ядрах; null там же, где у maxEdge.
+     */
+    public Edge[] maxEdges(int[] us, int[] vs) {
+        return maxEdges(us, vs, Runtime.getRuntime().availableProcessors());
+    }
+
+    public Edge[] maxEdges(int[] us, int[] vs, int threads) {
+        Edge[] result = new Edge[checkBatch(us, vs, threads)];
+        forEachSlice(result.length, threads, i -> result[i] = maxEdge(us[i], vs[i]));
+        return result;
+    }
+
+    private static int checkBatch(int[] us, int[] vs, int threads) {
+        if (us.length != vs.length) {
+            throw new IllegalArgumentException("Query arrays differ in length: " + us.length + " != " + vs.length);
+        }
+        if (threads < 1) throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        return us.length;
+    }
+
+    // Запросы делятся на равные отрезки; каждый поток пишет только в свои ячейки результата
+    private static void forEachSlice(int count, int threads, IntConsumer query) {
+        int tasks = Math.max(1, Math.min(threads, count / QUERIES_PER_TASK));
+        ParallelTasks.run(tasks, t -> {
+            int from = (int) ((long) count * t / tasks);
+            int to = (int) ((long) count * (t + 1) / tasks);
+            for (int i = from; i < to; i++) query.accept(i);
+        });
+    }
+
+    private int maxEdgeId(int u, int v) {
+        if (!connected(u, v) || u == v) return NONE;
+
+        int best = NONE;
+        if (depth[u] < depth[v]) {
+            int t = u;
+            u = v;
+            v = t;
+        }
+        int diff = depth[u] - depth[v];
+        for (int k = 0; diff > 0; k++, diff >>= 1) {
+            if ((diff & 1) != 0) {
+                best = heavier(best, top[k][u]);
+                u = up[k][u];
+            }
+        }
+        if (u == v) return best;
+
+        for (int k = up.length - 1; k >= 0; k--) {
+            if (up[k][u] != up[k][v]) {
+                best = heavier(best, heavier(top[k][u], top[k][v]));
+                u = up[k][u];
+                v = up[k][v];
+            }
+        }
+        return heavier(best, heavier(top[0][u], top[0][v]));
+    }
+
+    private int heavier(int a, int b) {
+        if (a == NONE) return b;
+        if (b == NONE) return a;
+        return treeEdges[b].weight() > treeEdges[a].weight() ? b : a;
+    }
+}
@@ -2,35 +2,65 @@ package algorithms;
 
 import graph.Edge;
 import graph.Graph;
+import profiling.PhaseEvents;
 
 import java.util.*;
 
-public class Prim {
+public class Prim implements PrimEngine {
     private final List<Edge> mst;
-    private final boolean[] marked;
+    // Заимствованы у MSTWorkspace на время построения
+    private boolean[] marked;
     private double totalWeight;
-    private final PriorityQueue<Edge> pq;
+    private PriorityQueue<Edge> pq;
 
     private int comparisonCount;
     private int edgeVisitCount;
     private int queueOperations;
+    private int maxQueueSize;
 
     public Prim(Graph graph) {
+        this(graph, MSTWorkspace.acquire(), true);
+    }
+
+    // Рабочие массивы берутся из workspace; закрывает его вызывающий
+    public Prim(Graph graph, MSTWorkspace workspace) {
+        this(graph, workspace, false);
+    }
+
+    private Prim(Graph graph, MSTWorkspace workspace, boolean release) {
+        try {
+            mst = new ArrayList<>(Math.max(0, graph.V() - 1));
+            marked = workspace.marked(graph.V());
+            pq = workspace.queue();
+            run(graph);
+        } finally {
+            marked = null;
+            pq = null;
+            if (release) workspace.close();
+        }
+    }
+
+    private void run(Graph graph) {
         int V = graph.V();
-        mst = new ArrayList<>();
-        marked = new boolean[V];
-        pq = new PriorityQueue<>();
 
         comparisonCount = 0;
         edgeVisitCount = 0;
         queueOperations = 0;
 
+        PhaseEvents.Heap heapEvent = new PhaseEvents.Heap();
+        heapEvent.begin();
         for (int v = 0; v < V; v++) {
             comparisonCount++;
             if (!marked[v]) {
                 prim(graph, v);
             }
         }
+        if (heapEvent.shouldCommit()) {
+            heapEvent.queueOperations = queueOperations;
+            heapEvent.edgeVisits = edgeVisitCount;
+            heapEvent.maxHeapSize = maxQueueSize;
+            heapEvent.commit();
+        }
     }
 
     private void prim(Graph graph, int s) {
@@ -64,6 +94,7 @@ public class Prim {
             if (!marked[e.other(v)]) {
                 queueOperations++;
                 pq.offer(e);
+                if (pq.size() > maxQueueSize) maxQueueSize = pq.size();
             }
         }
     }
@@ -92,6 +123,10 @@ public class Prim {
         return comparisonCount + edgeVisitCount + queueOperations;
     }
 
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
     public int getKeyComparisons() {
         return comparisonCount;
     }
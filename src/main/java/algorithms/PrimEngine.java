@@ -0,0 +1,13 @@
+package algorithms;
+
+public interface PrimEngine extends MST {
+    int getComparisonCount();
+
+    int getEdgeVisitCount();
+
+    int getQueueOperations();
+
+    int getTotalOperations();
+
+    int getMaxQueueSize();
+}
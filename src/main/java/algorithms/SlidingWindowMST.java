@@ -0,0 +1,428 @@
+package algorithms;
+
+import graph.Edge;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Минимальный остовный лес по скользящему окну рёбер с метками времени: живы рёбра с
+ * timestamp > now - window. Лес хранится в link-cut дереве (рёбра — отдельные узлы,
+ * агрегат — тяжелейшее ребро пути). Вставка ребра замыкает цикл и вытесняет его тяжелейшее
+ * ребро за O(log V) амортизированно; при равных весах остаётся более новое ребро. Вставка
+ * обратима (cut нового ребра, link вытесненного), а лес зависит только от множества рёбер,
+ * не от порядка вставок, поэтому истечение старейшего ребра — откат на стеке вставок по
+ * схеме «очередь из стека с откатами»: каждое ребро откатывается и вставляется заново
+ * O(log W) раз амортизированно, итого O(log W · log V) на событие без поиска замен через разрез.
+ */
+public class SlidingWindowMST implements MST {
+    private static final int NONE = -1;
+
+    private final int V;
+    private final long window;
+    private final ArrayDeque<WindowEdge> live = new ArrayDeque<>();
+    private long now = Long.MIN_VALUE;
+    private long sequence;
+
+    // Стек вставок: рёбра «старой» половины (older) лежат выше новых, старейшее — на вершине
+    private WindowEdge[] stack = new WindowEdge[16];
+    private int stackSize;
+    private int olderCount;
+    private WindowEdge[] olderBuffer = new WindowEdge[16];
+    private WindowEdge[] newerBuffer = new WindowEdge[16];
+
+    // Рёбра леса: удаление перестановкой последнего на место удаляемого
+    private final WindowEdge[] forest;
+    private int forestSize;
+
+    // Link-cut дерево: узлы 0..V-1 — вершины, V..2V-2 — рёбра леса
+    private final int[] left;
+    private final int[] right;
+    private final int[] parent;
+    private final boolean[] flip;
+    private final int[] heaviest;
+    private final WindowEdge[] nodeEdge;
+    private final int[] freeNodes;
+    private int freeCount;
+    private int[] splayPath = new int[64];
+
+    private long insertions;
+    private long expirations;
+    private long swaps;
+    private long reapplied;
+
+    public SlidingWindowMST(int V, long window) {
+        if (window <= 0) throw new IllegalArgumentException("Window must be positive: " + window);
+        this.V = V;
+        this.window = window;
+        forest = new WindowEdge[Math.max(0, V - 1)];
+
+        int nodes = Math.max(V, 2 * V - 1);
+        left = new int[nodes];
+        right = new int[nodes];
+        parent = new int[nodes];
+        flip = new boolean[nodes];
+        heaviest = new int[nodes];
+        nodeEdge = new WindowEdge[nodes];
+        Arrays.fill(left, NONE);
+        Arrays.fill(right, NONE);
+        Arrays.fill(parent, NONE);
+        Arrays.fill(heaviest, NONE);
+        freeNodes = new int[nodes - V];
+        for (int n = nodes - 1; n >= V; n--) freeNodes[freeCount++] = n;
+    }
+
+    /**
+     * Сдвигает время к timestamp (истекают рёбра старше окна) и добавляет ребро.
+     * Метки времени не убывают.
+     */
+    public void add(Edge e, long timestamp) {
+        advanceTo(timestamp);
+        int u = e.either();
+        WindowEdge edge = new WindowEdge(e, u, e.other(u), timestamp, sequence++);
+        live.addLast(edge);
+        insertions++;
+        pushUpdate(edge);
+    }
+
+    // Истекают рёбра с timestamp <= time - window
+    public void advanceTo(long time) {
+        if (time < now) throw new IllegalArgumentException("Time went backwards: " + time + " < " + now);
+        now = time;
+        while (!live.isEmpty() && live.peekFirst().timestamp <= time - window) {
+            expire(live.pollFirst());
+        }
+    }
+
+    /**
+     * Снимает старейшее ребро со стека вставок. Если старых рёбер нет, весь стек
+     * переворачивается. Если на вершине новое ребро, снимается по равному числу старых
+     * и новых (или до последнего старого), и снятое возвращается: сначала новые, затем
+     * старые — старейшее оказывается на вершине. Так каждое ребро откатывается O(log W) раз.
+     */
+    private void expire(WindowEdge edge) {
+        expirations++;
+        if (olderCount == 0) {
+            for (int i = stackSize - 1; i >= 0; i--) undo(stack[i]);
+            for (int i = 0, j = stackSize - 1; i < j; i++, j--) {
+                WindowEdge t = stack[i];
+                stack[i] = stack[j];
+                stack[j] = t;
+            }
+            for (int i = 0; i < stackSize; i++) {
+                stack[i].older = true;
+                apply(stack[i]);
+                reapplied++;
+            }
+            olderCount = stackSize;
+        }
+
+        if (!stack[stackSize - 1].older) {
+            if (olderBuffer.length < stackSize) {
+                olderBuffer = new WindowEdge[stack.length];
+                newerBuffer = new WindowEdge[stack.length];
+            }
+            int olderPopped = 0;
+            int newerPopped = 0;
+            do {
+                WindowEdge top = stack[--stackSize];
+                undo(top);
+                if (top.older) {
+                    olderBuffer[olderPopped++] = top;
+                    olderCount--;
+                } else {
+                    newerBuffer[newerPopped++] = top;
+                }
+            } while (olderPopped != newerPopped && olderCount > 0);
+
+            for (int i = newerPopped - 1; i >= 0; i--) {
+                stack[stackSize++] = newerBuffer[i];
+                apply(newerBuffer[i]);
+                newerBuffer[i] = null;
+            }
+            for (int i = olderPopped - 1; i >= 0; i--) {
+                stack[stackSize++] = olderBuffer[i];
+                apply(olderBuffer[i]);
+                olderBuffer[i] = null;
+            }
+            olderCount += olderPopped;
+            reapplied += olderPopped + newerPopped;
+        }
+
+        WindowEdge top = stack[--stackSize];
+        stack[stackSize] = null;
+        if (top != edge) throw new IllegalStateException("Insertion stack out of order");
+        undo(top);
+        olderCount--;
+    }
+
+    private void pushUpdate(WindowEdge edge) {
+        if (stackSize == stack.length) stack = Arrays.copyOf(stack, stackSize * 2);
+        stack[stackSize++] = edge;
+        apply(edge);
+    }
+
+    // Вставка в лес: link, если концы в разных деревьях, иначе вытеснение тяжелейшего ребра цикла
+    private void apply(WindowEdge edge) {
+        if (edge.u == edge.v) return;
+        // После findRoot корень u — вершина splay-дерева пути u..v: агрегат относится ко всему пути
+        makeRoot(edge.u);
+        if (findRoot(edge.v) != edge.u) {
+            link(edge);
+            return;
+        }
+        WindowEdge max = nodeEdge[heaviest[edge.u]];
+        if (!heavier(max, edge)) return;
+        cut(max);
+        link(edge);
+        edge.displaced = max;
+        swaps++;
+    }
+
+    // Откат последней вставки: стек гарантирует, что лес тот же, что сразу после apply
+    private void undo(WindowEdge edge) {
+        if (edge.node == NONE) return;
+        cut(edge);
+        if (edge.displaced != null) {
+            link(edge.displaced);
+            edge.displaced = null;
+        }
+    }
+
+    // Порядок леса: больший вес, при равенстве — более старое ребро тяжелее
+    private static boolean heavier(WindowEdge a, WindowEdge b) {
+        int c = Double.compare(a.weight, b.weight);
+        return c > 0 || (c == 0 && a.sequence < b.sequence);
+    }
+
+    private void link(WindowEdge edge) {
+        int n = freeNodes[--freeCount];
+        nodeEdge[n] = edge;
+        edge.node = n;
+        left[n] = NONE;
+        right[n] = NONE;
+        parent[n] = NONE;
+        flip[n] = false;
+        heaviest[n] = n;
+        link(edge.u, n);
+        link(n, edge.v);
+
+        edge.forestSlot = forestSize;
+        forest[forestSize++] = edge;
+    }
+
+    private void cut(WindowEdge edge) {
+        int n = edge.node;
+        cut(edge.u, n);
+        cut(n, edge.v);
+        nodeEdge[n] = null;
+        heaviest[n] = NONE;
+        freeNodes[freeCount++] = n;
+        edge.node = NONE;
+
+        WindowEdge last = forest[--forestSize];
+        forest[edge.forestSlot] = last;
+        last.forestSlot = edge.forestSlot;
+        forest[forestSize] = null;
+    }
+
+    // --- link-cut дерево ---
+
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p == NONE || (left[p] != x && right[p] != x);
+    }
+
+    private void pull(int x) {
+        int best = nodeEdge[x] != null ? x : NONE;
+        if (left[x] != NONE) best = max(best, heaviest[left[x]]);
+        if (right[x] != NONE) best = max(best, heaviest[right[x]]);
+        heaviest[x] = best;
+    }
+
+    private int max(int a, int b) {
+        if (a == NONE) return b;
+        if (b == NONE) return a;
+        return heavier(nodeEdge[b], nodeEdge[a]) ? b : a;
+    }
+
+    private void push(int x) {
+        if (!flip[x]) return;
+        int t = left[x];
+        left[x] = right[x];
+        right[x] = t;
+        if (left[x] != NONE) flip[left[x]] ^= true;
+        if (right[x] != NONE) flip[right[x]] ^= true;
+        flip[x] = false;
+    }
+
+    private void rotate(int x) {
+        int p = parent[x];
+        int g = parent[p];
+        if (!isSplayRoot(p)) {
+            if (left[g] == p) left[g] = x;
+            else right[g] = x;
+        }
+        parent[x] = g;
+        if (left[p] == x) {
+            left[p] = right[x];
+            if (right[x] != NONE) parent[right[x]] = p;
+            right[x] = p;
+        } else {
+            right[p] = left[x];
+            if (left[x] != NONE) parent[left[x]] = p;
+            left[x] = p;
+        }
+        parent[p] = x;
+        pull(p);
+        pull(x);
+    }
+
+    private void splay(int x) {
+        // Отложенные развороты сбрасываются сверху вниз по пути от корня splay-дерева
+        int top = 0;
+        int y = x;
+        splayPath[top++] = y;
+        while (!isSplayRoot(y)) {
+            y = parent[y];
+            if (top == splayPath.length) splayPath = Arrays.copyOf(splayPath, top * 2);
+            splayPath[top++] = y;
+        }
+        while (top > 0) push(splayPath[--top]);
+
+        while (!isSplayRoot(x)) {
+            int p = parent[x];
+            if (!isSplayRoot(p)) {
+                int g = parent[p];
+                rotate((left[g] == p) == (left[p] == x) ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    private void access(int x) {
+        int last = NONE;
+        for (int y = x; y != NONE; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            pull(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        flip[x] ^= true;
+        push(x);
+    }
+
+    private int findRoot(int x) {
+        access(x);
+        int r = x;
+        while (true) {
+            push(r);
+            if (left[r] == NONE) break;
+            r = left[r];
+        }
+        splay(r);
+        return r;
+    }
+
+    private void link(int x, int y) {
+        makeRoot(x);
+        access(y);
+        parent[x] = y;
+    }
+
+    private void cut(int x, int y) {
+        makeRoot(x);
+        access(y);
+        // После access(y) путь x..y — одно splay-дерево, x — левый сын y
+        left[y] = NONE;
+        parent[x] = NONE;
+        pull(y);
+    }
+
+    // --- снимки ---
+
+    // Снимок леса: копия, не меняется при последующих событиях
+    @Override
+    public Iterable<Edge> edges() {
+        List<Edge> list = new ArrayList<>(forestSize);
+        for (int i = 0; i < forestSize; i++) list.add(forest[i].edge);
+        return list;
+    }
+
+    @Override
+    public double weight() {
+        double total = 0;
+        for (int i = 0; i < forestSize; i++) total += forest[i].weight;
+        return total;
+    }
+
+    public int V() {
+        return V;
+    }
+
+    public long window() {
+        return window;
+    }
+
+    public long now() {
+        return now;
+    }
+
+    // Рёбра в окне, включая петли
+    public int size() {
+        return live.size();
+    }
+
+    public int forestSize() {
+        return forestSize;
+    }
+
+    public long getInsertions() {
+        return insertions;
+    }
+
+    public long getExpirations() {
+        return expirations;
+    }
+
+    // Новое ребро вытеснило тяжелейшее ребро цикла
+    public long getSwaps() {
+        return swaps;
+    }
+
+    // Рёбра, откатанные и вставленные заново при истечениях
+    public long getReapplied() {
+        return reapplied;
+    }
+
+    private static final class WindowEdge {
+        final Edge edge;
+        final int u;
+        final int v;
+        final double weight;
+        final long timestamp;
+        final long sequence;
+        int forestSlot;
+        boolean older;
+        // Ребро, вытесненное этой вставкой; возвращается в лес при откате
+        WindowEdge displaced;
+        // Узел в link-cut дереве; NONE — ребро вне леса
+        int node = NONE;
+
+        WindowEdge(Edge edge, int u, int v, long timestamp, long sequence) {
+            this.edge = edge;
+            this.u = u;
+            this.v = v;
+            this.weight = edge.weight();
+            this.timestamp = timestamp;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Система непересекающихся множеств на массивах: объединение по размеру, сжатие путей делением пополам.
+ */
+public class UnionFind {
+    private final int[] parent;
+    private final int[] size;
+    private int count;
+
+    public UnionFind(int n) {
+        parent = new int[n];
+        size = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        count = n;
+    }
+
+    public int find(int v) {
+        while (parent[v] != v) {
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+        return v;
+    }
+
+    public boolean connected(int v, int w) {
+        return find(v) == find(w);
+    }
+
+    // Возвращает false, если v и w уже были в одном множестве
+    public boolean union(int v, int w) {
+        int rootV = find(v);
+        int rootW = find(w);
+        if (rootV == rootW) return false;
+
+        if (size[rootV] < size[rootW]) {
+            int t = rootV;
+            rootV = rootW;
+            rootW = t;
+        }
+        parent[rootW] = rootV;
+        size[rootV] += size[rootW];
+        count--;
+        return true;
+    }
+
+    public int size(int v) {
+        return size[find(v)];
+    }
+
+    public int count() {
+        return count;
+    }
+
+    // Метки множеств 0..count()-1 в порядке первой встреченной вершины
+    public int[] labels() {
+        int n = parent.length;
+        int[] rootLabel = new int[n];
+        Arrays.fill(rootLabel, -1);
+        int[] labels = new int[n];
+        int next = 0;
+        for (int v = 0; v < n; v++) {
+            int root = find(v);
+            if (rootLabel[root] < 0) rootLabel[root] = next++;
+            labels[v] = rootLabel[root];
+        }
+        return labels;
+    }
+}
@@ -0,0 +1,51 @@
+package benchmark;
+
+import java.util.function.Supplier;
+
+public class BenchmarkRunner {
+    public static final int DEFAULT_WARMUP_ITERATIONS = 5;
+    public static final int DEFAULT_MEASURED_ITERATIONS = 15;
+
+    private final int warmupIterations;
+    private final int measuredIterations;
+
+    public BenchmarkRunner(int warmupIterations, int measuredIterations) {
+        if (warmupIterations < 0) throw new IllegalArgumentException("Negative warmup count");
+        if (measuredIterations < 1) throw new IllegalArgumentException("At least one measured iteration is required");
+        this.warmupIterations = warmupIterations;
+        this.measuredIterations = measuredIterations;
+    }
+
+    public static BenchmarkRunner fromSystemProperties() {
+        return new BenchmarkRunner(
+                Integer.getInteger("benchmark.warmup", DEFAULT_WARMUP_ITERATIONS),
+                Integer.getInteger("benchmark.iterations", DEFAULT_MEASURED_ITERATIONS));
+    }
+
+    public <T> Measurement<T> measure(Supplier<T> task) {
+        for (int i = 0; i < warmupIterations; i++) {
+            task.get();
+        }
+
+        double[] samples = new double[measuredIterations];
+        T last = null;
+        // Выделения и сборки — суммарно за все замеряемые итерации, без прогрева
+        ResourceUsage before = ResourceUsage.snapshot();
+        for (int i = 0; i < measuredIterations; i++) {
+            long start = System.nanoTime();
+            last = task.get();
+            long end = System.nanoTime();
+            samples[i] = (end - start) / 1_000_000.0;
+        }
+        ResourceUsage usage = ResourceUsage.snapshot().since(before);
+        return new Measurement<>(last, samples, usage);
+    }
+
+    public int getWarmupIterations() {
+        return warmupIterations;
+    }
+
+    public int getMeasuredIterations() {
+        return measuredIterations;
+    }
+}
@@ -0,0 +1,81 @@
+package benchmark;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+public class BenchmarkStore {
+    private static final String HEADER =
+            "Run Id,Timestamp,Commit,JVM,Cores,Max Heap (MB),Graph,Algorithm,Vertices,Edges,"
+                    + "Median (ms),P90 (ms),P99 (ms),Samples (ms)";
+
+    private final Path file;
+
+    public BenchmarkStore(String path) {
+        this.file = Paths.get(path);
+    }
+
+    public void append(RunMetadata meta, String graph, String algorithm, int V, int E,
+                       Measurement<?> measurement) throws IOException {
+        boolean writeHeader = !Files.exists(file) || Files.size(file) == 0;
+
+        StringJoiner samples = new StringJoiner(";");
+        for (double s : measurement.samplesMs()) {
+            samples.add(String.format(Locale.US, "%.4f", s));
+        }
+
+        try (FileWriter csv = new FileWriter(file.toFile(), StandardCharsets.UTF_8, true)) {
+            if (writeHeader) csv.write(HEADER + "\n");
+            csv.write(String.format(Locale.US,
+                    "%s,%s,%s,%s,%d,%d,%s,%s,%d,%d,%.4f,%.4f,%.4f,%s%n",
+                    meta.getRunId(), meta.getTimestamp(), clean(meta.getCommit()), clean(meta.getJvm()),
+                    meta.getCores(), meta.getMaxHeapMb(), clean(graph), clean(algorithm), V, E,
+                    measurement.median(), measurement.percentile(90), measurement.percentile(99),
+                    samples));
+        }
+    }
+
+    /**
+     * Выборки базового прогона для пары граф/алгоритм: явно заданного через
+     * {@code baselineRunId} или, если он null, последнего прогона, отличного от текущего.
+     */
+    public double[] findBaseline(String graph, String algorithm, String currentRunId,
+                                 String baselineRunId) throws IOException {
+        if (!Files.exists(file)) return null;
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        double[] baseline = null;
+        for (int i = 1; i < lines.size(); i++) {
+            String[] cols = lines.get(i).split(",", -1);
+            if (cols.length < 14) continue;
+
+            String runId = cols[0];
+            if (!cols[6].equals(clean(graph)) || !cols[7].equals(clean(algorithm))) continue;
+            if (runId.equals(currentRunId)) continue;
+            if (baselineRunId != null && !runId.equals(baselineRunId)) continue;
+
+            baseline = parseSamples(cols[13]);
+        }
+        return baseline;
+    }
+
+    private static double[] parseSamples(String column) {
+        if (column.isEmpty()) return new double[0];
+        String[] parts = column.split(";");
+        double[] samples = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            samples[i] = Double.parseDouble(parts[i]);
+        }
+        return samples;
+    }
+
+    private static String clean(String value) {
+        return value.replace(',', ' ').replace('\n', ' ');
+    }
+}
@@ -0,0 +1,122 @@
+package benchmark;
+
+import algorithms.CompressedPrim;
+import algorithms.Prim;
+import graph.CompressedGraph;
+import graph.Edge;
+import graph.Graph;
+import org.example.GraphLoader;
+import org.example.LoadedCompressedGraph;
+import org.example.LoadedGraph;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Память и время Prim на сжатых списках смежности против Graph: решётка side x side
+ * с построчной нумерацией (как у дорожных графов после перенумерации BFS/RCM).
+ * Занятая куча измеряется по разнице после System.gc(), поэтому запускать отдельно.
+ * Затем та же решётка пишется во временный JSON и сравнивается пиковая куча загрузки:
+ * GraphLoader.load + CompressedGraph.of против GraphLoader.loadCompressed без Graph.
+ * Запуск: java -cp ... benchmark.CompressedGraphBenchmark (-Dcompressed.side=700, -Dbenchmark.iterations=...)
+ */
+public class CompressedGraphBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int side = Integer.getInteger("compressed.side", 700);
+        int maxWeight = Integer.getInteger("compressed.maxWeight", 1000);
+        BenchmarkRunner runner = BenchmarkRunner.fromSystemProperties();
+
+        Path input = Files.createTempFile("compressed-grid", ".json");
+        try {
+            compareLayouts(side, maxWeight, runner, input);
+            comparePeakHeap(input);
+        } finally {
+            Files.deleteIfExists(input);
+        }
+    }
+
+    private static void compareLayouts(int side, int maxWeight, BenchmarkRunner runner, Path input)
+            throws IOException {
+        long before = usedHeap();
+        Graph graph = grid(side, maxWeight, new Random(Long.getLong("compressed.seed", 1L)));
+        long graphBytes = usedHeap() - before;
+
+        before = usedHeap();
+        CompressedGraph compressed = CompressedGraph.of(graph);
+        long compressedBytes = usedHeap() - before;
+
+        System.out.printf(Locale.US, "Grid %dx%d, %d edges, %d distinct weights, warmup=%d, iterations=%d%n",
+                side, side, graph.E(), compressed.distinctWeights(),
+                runner.getWarmupIterations(), runner.getMeasuredIterations());
+        System.out.printf(Locale.US, "  Graph           %6.1f MB (%.1f B/edge)%n",
+                graphBytes / 1048576.0, (double) graphBytes / graph.E());
+        System.out.printf(Locale.US, "  CompressedGraph %6.1f MB (%.1f B/edge, sizeInBytes %.1f MB), x%.1f smaller%n",
+                compressedBytes / 1048576.0, (double) compressedBytes / graph.E(),
+                compressed.sizeInBytes() / 1048576.0, (double) graphBytes / compressedBytes);
+
+        Measurement<Prim> prim = runner.measure(() -> new Prim(graph));
+        Measurement<CompressedPrim> compressedPrim = runner.measure(() -> new CompressedPrim(compressed));
+        System.out.printf(Locale.US, "  Prim %.1f ms, CompressedPrim %.1f ms (x%.2f), weights %.1f / %.1f%n",
+                prim.median(), compressedPrim.median(), compressedPrim.median() / prim.median(),
+                prim.result().weight(), compressedPrim.result().weight());
+        writeJson(graph, input);
+    }
+
+    // Пиковая куча загрузки файла в CompressedGraph: через Graph и напрямую
+    private static void comparePeakHeap(Path input) throws IOException {
+        System.out.printf(Locale.US, "Load %.1f MB JSON to CompressedGraph:%n", Files.size(input) / 1048576.0);
+        HeapPeak.reset();
+        LoadedGraph loaded = GraphLoader.load(input.toString());
+        int edges = CompressedGraph.of(loaded.graph()).E();
+        long viaGraphPeak = HeapPeak.liveBytes();
+        loaded = null;
+
+        HeapPeak.reset();
+        LoadedCompressedGraph direct = GraphLoader.loadCompressed(input.toString());
+        long directPeak = HeapPeak.liveBytes();
+        System.out.printf(Locale.US, "  load + of      peak live heap %6.1f MB (%.1f B/edge)%n",
+                viaGraphPeak / 1048576.0, (double) viaGraphPeak / edges);
+        System.out.printf(Locale.US, "  loadCompressed peak live heap %6.1f MB (%.1f B/edge), x%.1f lower%n",
+                directPeak / 1048576.0, (double) directPeak / direct.E(), (double) viaGraphPeak / directPeak);
+    }
+
+    private static void writeJson(Graph graph, Path file) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, Charset.defaultCharset())) {
+            out.write("{\"vertices\": [");
+            for (int v = 0; v < graph.V(); v++) out.write((v == 0 ? "\"" : ", \"") + v + "\"");
+            out.write("],\n\"edges\": [\n");
+            boolean first = true;
+            for (Edge e : graph.edges()) {
+                int v = e.either();
+                out.write((first ? "" : ",\n") + "{\"source\": \"" + v + "\", \"destination\": \""
+                        + e.other(v) + "\", \"weight\": " + (long) e.weight() + "}");
+                first = false;
+            }
+            out.write("\n]}\n");
+        }
+    }
+
+    private static Graph grid(int side, int maxWeight, Random random) {
+        Graph graph = new Graph(side * side);
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = r * side + c;
+                if (c + 1 < side) graph.addEdge(new Edge(v, v + 1, 1 + random.nextInt(maxWeight)));
+                if (r + 1 < side) graph.addEdge(new Edge(v, v + side, 1 + random.nextInt(maxWeight)));
+            }
+        }
+        return graph;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
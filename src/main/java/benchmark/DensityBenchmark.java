@@ -0,0 +1,47 @@
+package benchmark;
+
+import algorithms.KargerKleinTarjan;
+import algorithms.Kruskal;
+import graph.Edge;
+import graph.Graph;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Kruskal против Karger-Klein-Tarjan при росте плотности: V фиксировано, E = density * V(V-1)/2.
+ * Запуск: java -cp ... benchmark.DensityBenchmark (-Ddensity.vertices=2000, -Dbenchmark.iterations=...)
+ */
+public class DensityBenchmark {
+    private static final double[] DENSITIES = {0.01, 0.05, 0.1, 0.25, 0.5};
+
+    public static void main(String[] args) {
+        int V = Integer.getInteger("density.vertices", 2000);
+        BenchmarkRunner runner = BenchmarkRunner.fromSystemProperties();
+        Random random = new Random(Long.getLong("density.seed", 1L));
+
+        System.out.printf("V=%d, warmup=%d, iterations=%d%n",
+                V, runner.getWarmupIterations(), runner.getMeasuredIterations());
+        System.out.printf("%8s %10s %14s %14s %8s%n", "density", "edges", "Kruskal ms", "KKT ms", "ratio");
+        for (double density : DENSITIES) {
+            Graph graph = randomGraph(random, V, (long) (density * V * (V - 1) / 2));
+
+            Measurement<Kruskal> kruskal = runner.measure(() -> new Kruskal(graph));
+            Measurement<KargerKleinTarjan> kkt = runner.measure(() -> new KargerKleinTarjan(graph));
+            if (Math.abs(kruskal.result().weight() - kkt.result().weight()) > 1e-6) {
+                throw new IllegalStateException("Engines disagree at density " + density);
+            }
+
+            System.out.printf(Locale.US, "%8.2f %10d %14.3f %14.3f %8.3f%n",
+                    density, graph.E(), kruskal.median(), kkt.median(), kkt.median() / kruskal.median());
+        }
+    }
+
+    private static Graph randomGraph(Random random, int V, long E) {
+        Graph graph = new Graph(V);
+        for (long i = 0; i < E; i++) {
+            graph.addEdge(new Edge(random.nextInt(V), random.nextInt(V), random.nextDouble()));
+        }
+        return graph;
+    }
+}
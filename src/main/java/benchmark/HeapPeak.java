@@ -0,0 +1,68 @@
+package benchmark;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Пик живых данных кучи: максимум занятости сразу после сборок (по уведомлениям
+ * GarbageCollectorMXBean) с момента reset(). Пики пулов MemoryPoolMXBean сюда не годятся —
+ * в них входит ещё не собранный мусор eden. Чем меньше -Xmx, тем чаще сборки и точнее пик.
+ */
+public final class HeapPeak {
+    private static final AtomicLong PEAK = new AtomicLong();
+    // В уведомлении есть и пулы вне кучи (Metaspace, CodeCache)
+    private static final Set<String> HEAP_POOLS = new HashSet<>();
+    private static boolean listening;
+
+    private HeapPeak() {
+    }
+
+    public static synchronized void reset() {
+        if (!listening) {
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) HEAP_POOLS.add(pool.getName());
+            }
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (gc instanceof NotificationEmitter) {
+                    ((NotificationEmitter) gc).addNotificationListener((notification, handback) -> {
+                        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION
+                                .equals(notification.getType())) {
+                            return;
+                        }
+                        GarbageCollectionNotificationInfo info =
+                                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                        long used = 0;
+                        for (Map.Entry<String, MemoryUsage> pool : info.getGcInfo().getMemoryUsageAfterGc().entrySet()) {
+                            if (HEAP_POOLS.contains(pool.getKey())) used += pool.getValue().getUsed();
+                        }
+                        PEAK.accumulateAndGet(used, Math::max);
+                    }, null, null);
+                }
+            }
+            listening = true;
+        }
+        System.gc();
+        PEAK.set(heapUsed());
+    }
+
+    // Пик с момента reset(), включая то, что живо сейчас
+    public static long liveBytes() {
+        System.gc();
+        return Math.max(PEAK.get(), heapUsed());
+    }
+
+    private static long heapUsed() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
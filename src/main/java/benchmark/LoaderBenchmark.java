@@ -0,0 +1,82 @@
+package benchmark;
+
+import org.example.GraphLoader;
+import org.example.LoadedGraph;
+import org.example.ParallelGraphLoader;
+
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Пропускная способность загрузки: Gson в одном потоке против ParallelGraphLoader
+ * с разным числом потоков на сгенерированном файле.
+ * Запуск: java -cp ... benchmark.LoaderBenchmark (-Dloader.edges=2000000, -Dloader.vertices=200000)
+ */
+public class LoaderBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int V = Integer.getInteger("loader.vertices", 200_000);
+        int E = Integer.getInteger("loader.edges", 2_000_000);
+        int runs = Integer.getInteger("loader.runs", 3);
+
+        Path file = Files.createTempFile("mst-loader", ".json");
+        try {
+            write(file, V, E, new Random(1));
+            double megabytes = Files.size(file) / (1024.0 * 1024.0);
+            System.out.printf(Locale.US, "%d vertices, %d edges, %.1f MB, %d cores%n",
+                    V, E, megabytes, Runtime.getRuntime().availableProcessors());
+
+            double gson = time(runs, () -> {
+                try (FileReader reader = new FileReader(file.toFile())) {
+                    return GraphLoader.fromJson(GraphLoader.parse(reader));
+                }
+            });
+            System.out.printf(Locale.US, "  Gson        %8.1f ms  %6.1f MB/s%n", gson, megabytes / gson * 1000);
+
+            int cores = Runtime.getRuntime().availableProcessors();
+            for (int threads = 1; threads <= Math.max(4, cores); threads *= 2) {
+                int t = threads;
+                double parallel = time(runs, () -> ParallelGraphLoader.load(file, t));
+                System.out.printf(Locale.US, "  parallel x%-2d %7.1f ms  %6.1f MB/s (x%.2f vs Gson)%n",
+                        threads, parallel, megabytes / parallel * 1000, gson / parallel);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private interface Load {
+        LoadedGraph run() throws IOException;
+    }
+
+    // Лучшее время из runs прогонов после одного прогревочного
+    private static double time(int runs, Load load) throws IOException {
+        load.run();
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            load.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    private static void write(Path file, int V, int E, Random random) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, Charset.defaultCharset())) {
+            out.write("{\n  \"vertices\": [");
+            for (int v = 0; v < V; v++) out.write((v == 0 ? "\"v" : ", \"v") + v + "\"");
+            out.write("],\n  \"edges\": [\n");
+            for (int i = 0; i < E; i++) {
+                out.write(String.format(Locale.US, "%s{\"source\": \"v%d\", \"destination\": \"v%d\", \"weight\": %d}",
+                        i == 0 ? "    " : ",\n    ", random.nextInt(V), random.nextInt(V), random.nextInt(10_000)));
+            }
+            out.write("\n  ]\n}\n");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package benchmark;
+
+public class Measurement<T> {
+    private final T result;
+    private final double[] samplesMs;
+    private final ResourceUsage usage;
+
+    public Measurement(T result, double[] samplesMs) {
+        this(result, samplesMs, new ResourceUsage(ResourceUsage.UNSUPPORTED, 0, 0));
+    }
+
+    public Measurement(T result, double[] samplesMs, ResourceUsage usage) {
+        this.result = result;
+        this.samplesMs = samplesMs;
+        this.usage = usage;
+    }
+
+    public T result() {
+        return result;
+    }
+
+    public double[] samplesMs() {
+        return samplesMs.clone();
+    }
+
+    public int sampleCount() {
+        return samplesMs.length;
+    }
+
+    public double mean() {
+        return Statistics.mean(samplesMs);
+    }
+
+    public double median() {
+        return Statistics.median(samplesMs);
+    }
+
+    public double percentile(double p) {
+        return Statistics.percentile(samplesMs, p);
+    }
+
+    // Суммарно за все замеры
+    public ResourceUsage usage() {
+        return usage;
+    }
+
+    // Байт на один прогон; -1, если JVM не считает выделения
+    public long allocatedBytesPerRun() {
+        return usage.allocationTracked() ? usage.allocatedBytes() / samplesMs.length : ResourceUsage.UNSUPPORTED;
+    }
+}
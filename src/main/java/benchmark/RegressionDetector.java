@@ -0,0 +1,77 @@
+package benchmark;
+
+public class RegressionDetector {
+    public static final double DEFAULT_ALPHA = 0.01;
+    public static final double DEFAULT_TOLERANCE = 0.05;
+
+    private final double alpha;
+    private final double tolerance;
+
+    public RegressionDetector(double alpha, double tolerance) {
+        this.alpha = alpha;
+        this.tolerance = tolerance;
+    }
+
+    public RegressionDetector() {
+        this(DEFAULT_ALPHA, DEFAULT_TOLERANCE);
+    }
+
+    public Comparison compare(double[] current, double[] baseline) {
+        double currentMedian = Statistics.median(current);
+        double baselineMedian = Statistics.median(baseline);
+        double pValue = Statistics.mannWhitneyPValue(current, baseline);
+        double ratio = currentMedian / baselineMedian;
+
+        Verdict verdict = Verdict.UNCHANGED;
+        if (pValue < alpha) {
+            if (ratio > 1.0 + tolerance) verdict = Verdict.REGRESSION;
+            else if (ratio < 1.0 - tolerance) verdict = Verdict.IMPROVEMENT;
+        }
+        return new Comparison(currentMedian, baselineMedian, ratio, pValue, verdict);
+    }
+
+    public enum Verdict {
+        REGRESSION, IMPROVEMENT, UNCHANGED
+    }
+
+    public static class Comparison {
+        private final double currentMedian;
+        private final double baselineMedian;
+        private final double ratio;
+        private final double pValue;
+        private final Verdict verdict;
+
+        Comparison(double currentMedian, double baselineMedian, double ratio, double pValue, Verdict verdict) {
+            this.currentMedian = currentMedian;
+            this.baselineMedian = baselineMedian;
+            this.ratio = ratio;
+            this.pValue = pValue;
+            this.verdict = verdict;
+        }
+
+        public double getCurrentMedian() {
+            return currentMedian;
+        }
+
+        public double getBaselineMedian() {
+            return baselineMedian;
+        }
+
+        // >1 — медианная задержка выросла, пропускная способность (рёбер/с) упала во столько же раз
+        public double getRatio() {
+            return ratio;
+        }
+
+        public double getPValue() {
+            return pValue;
+        }
+
+        public Verdict getVerdict() {
+            return verdict;
+        }
+
+        public boolean isRegression() {
+            return verdict == Verdict.REGRESSION;
+        }
+    }
+}
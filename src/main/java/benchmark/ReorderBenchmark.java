@@ -0,0 +1,64 @@
+package benchmark;
+
+import algorithms.Kruskal;
+import algorithms.Prim;
+import graph.Edge;
+import graph.Graph;
+import graph.VertexReordering;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Влияние перенумерации вершин на Prim и Kruskal: решётка side x side со случайно
+ * перемешанными номерами вершин (как у имён из произвольного входа).
+ * Запуск: java -cp ... benchmark.ReorderBenchmark (-Dreorder.side=700, -Dbenchmark.iterations=...)
+ */
+public class ReorderBenchmark {
+
+    public static void main(String[] args) {
+        int side = Integer.getInteger("reorder.side", 700);
+        BenchmarkRunner runner = BenchmarkRunner.fromSystemProperties();
+        List<Edge> edges = shuffledGrid(side, new Random(Long.getLong("reorder.seed", 1L)));
+        Graph shuffled = new Graph(side * side);
+        for (Edge e : edges) shuffled.addEdge(e);
+
+        System.out.printf("Grid %dx%d, %d edges, warmup=%d, iterations=%d%n", side, side, edges.size(),
+                runner.getWarmupIterations(), runner.getMeasuredIterations());
+        double basePrim = 0;
+        double baseKruskal = 0;
+        for (VertexReordering.Strategy strategy : VertexReordering.Strategy.values()) {
+            VertexReordering reordering = VertexReordering.compute(shuffled, strategy);
+            Graph graph = reordering.apply(edges);
+
+            Measurement<Prim> prim = runner.measure(() -> new Prim(graph));
+            Measurement<Kruskal> kruskal = runner.measure(() -> new Kruskal(graph));
+            if (strategy == VertexReordering.Strategy.IDENTITY) {
+                basePrim = prim.median();
+                baseKruskal = kruskal.median();
+            }
+            System.out.printf(Locale.US, "  %-8s %s%n           Prim %.1f ms (x%.2f), Kruskal %.1f ms (x%.2f)%n",
+                    strategy, VertexReordering.measure(graph),
+                    prim.median(), prim.median() / basePrim, kruskal.median(), kruskal.median() / baseKruskal);
+        }
+    }
+
+    private static List<Edge> shuffledGrid(int side, Random random) {
+        List<Integer> ids = new ArrayList<>(side * side);
+        for (int i = 0; i < side * side; i++) ids.add(i);
+        Collections.shuffle(ids, random);
+
+        List<Edge> edges = new ArrayList<>(2 * side * side);
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = ids.get(r * side + c);
+                if (c + 1 < side) edges.add(new Edge(v, ids.get(r * side + c + 1), random.nextInt(1000)));
+                if (r + 1 < side) edges.add(new Edge(v, ids.get((r + 1) * side + c), random.nextInt(1000)));
+            }
+        }
+        return edges;
+    }
+}
@@ -0,0 +1,76 @@
+package benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Снимок потребления ресурсов: байты, выделенные текущим потоком (ThreadMXBean HotSpot),
+ * число сборок и их суммарное время по всем GarbageCollectorMXBean.
+ * Разность двух снимков — затраты участка кода. Если JVM не считает выделения, allocatedBytes = -1.
+ */
+public final class ResourceUsage {
+    public static final long UNSUPPORTED = -1L;
+
+    private final long allocatedBytes;
+    private final long gcCount;
+    private final long gcTimeMs;
+
+    public ResourceUsage(long allocatedBytes, long gcCount, long gcTimeMs) {
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcTimeMs = gcTimeMs;
+    }
+
+    public static ResourceUsage snapshot() {
+        long gcCount = 0;
+        long gcTime = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // -1 — коллектор не сообщает значение
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcTime += Math.max(0, gc.getCollectionTime());
+        }
+        return new ResourceUsage(currentThreadAllocatedBytes(), gcCount, gcTime);
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) return UNSUPPORTED;
+        com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) threads;
+        if (!hotspot.isThreadAllocatedMemorySupported() || !hotspot.isThreadAllocatedMemoryEnabled()) {
+            return UNSUPPORTED;
+        }
+        return hotspot.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    // Затраты между earlier и этим снимком
+    public ResourceUsage since(ResourceUsage earlier) {
+        long allocated = allocatedBytes == UNSUPPORTED || earlier.allocatedBytes == UNSUPPORTED
+                ? UNSUPPORTED
+                : allocatedBytes - earlier.allocatedBytes;
+        return new ResourceUsage(allocated, gcCount - earlier.gcCount, gcTimeMs - earlier.gcTimeMs);
+    }
+
+    public boolean allocationTracked() {
+        return allocatedBytes != UNSUPPORTED;
+    }
+
+    public long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long gcCount() {
+        return gcCount;
+    }
+
+    // Суммарное время сборок; для stop-the-world коллекторов — время пауз
+    public long gcTimeMs() {
+        return gcTimeMs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s allocated, %d GC, %d ms GC",
+                allocationTracked() ? allocatedBytes / 1024 + " KB" : "n/a", gcCount, gcTimeMs);
+    }
+}
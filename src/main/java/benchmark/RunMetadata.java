@@ -0,0 +1,84 @@
+package benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+public class RunMetadata {
+    private final String runId;
+    private final String timestamp;
+    private final String commit;
+    private final String jvm;
+    private final int cores;
+    private final long maxHeapMb;
+
+    public RunMetadata(String runId, String timestamp, String commit, String jvm, int cores, long maxHeapMb) {
+        this.runId = runId;
+        this.timestamp = timestamp;
+        this.commit = commit;
+        this.jvm = jvm;
+        this.cores = cores;
+        this.maxHeapMb = maxHeapMb;
+    }
+
+    public static RunMetadata capture() {
+        Instant now = Instant.now();
+        String jvm = System.getProperty("java.vm.name") + " " + System.getProperty("java.version");
+        return new RunMetadata(
+                Long.toString(now.toEpochMilli(), 36),
+                now.toString(),
+                detectCommit(),
+                jvm,
+                Runtime.getRuntime().availableProcessors(),
+                Runtime.getRuntime().maxMemory() / (1024 * 1024));
+    }
+
+    private static String detectCommit() {
+        String fromEnv = System.getenv("GIT_COMMIT");
+        if (fromEnv != null && !fromEnv.isBlank()) return fromEnv.trim();
+
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD")
+                    .redirectErrorStream(true)
+                    .start();
+            String out;
+            try (InputStream in = git.getInputStream()) {
+                out = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+            }
+            if (git.waitFor(5, TimeUnit.SECONDS) && git.exitValue() == 0 && !out.isEmpty()) {
+                return out;
+            }
+        } catch (IOException e) {
+            // git недоступен — коммит неизвестен
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "unknown";
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public String getTimestamp() {
+        return timestamp;
+    }
+
+    public String getCommit() {
+        return commit;
+    }
+
+    public String getJvm() {
+        return jvm;
+    }
+
+    public int getCores() {
+        return cores;
+    }
+
+    public long getMaxHeapMb() {
+        return maxHeapMb;
+    }
+}
@@ -0,0 +1,68 @@
+package benchmark;
+
+import algorithms.Kruskal;
+import algorithms.SlidingWindowMST;
+import graph.Edge;
+import graph.Graph;
+
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Скользящее окно против пересборки: поток рёбер решётки side x side со случайными весами,
+ * окно — последние window событий. SlidingWindowMST обновляет лес на каждом событии;
+ * для сравнения Graph и Kruskal пересобираются раз в rebuild событий.
+ * Запуск: java -cp ... benchmark.SlidingWindowBenchmark (-Dwindow.side=300, -Dwindow.size=200000,
+ * -Dwindow.events=1000000, -Dwindow.rebuild=50000)
+ */
+public class SlidingWindowBenchmark {
+
+    public static void main(String[] args) {
+        int side = Integer.getInteger("window.side", 300);
+        int window = Integer.getInteger("window.size", 200_000);
+        int events = Integer.getInteger("window.events", 1_000_000);
+        int rebuild = Integer.getInteger("window.rebuild", 50_000);
+        Random random = new Random(Long.getLong("window.seed", 1L));
+
+        Edge[] stream = new Edge[events];
+        for (int i = 0; i < events; i++) {
+            int v = random.nextInt(side * side);
+            int r = v / side;
+            int c = v % side;
+            int w = random.nextBoolean() && c + 1 < side ? v + 1 : (r + 1 < side ? v + side : v - 1);
+            stream[i] = new Edge(v, Math.max(0, w), 1 + random.nextInt(1000));
+        }
+        System.out.printf("Grid %dx%d, %d events, window %d events, rebuild every %d%n",
+                side, side, events, window, rebuild);
+
+        // Метка времени — номер события: окно из window последних рёбер
+        long start = System.nanoTime();
+        SlidingWindowMST sliding = new SlidingWindowMST(side * side, window);
+        for (int i = 0; i < events; i++) sliding.add(stream[i], i);
+        double slidingMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        start = System.nanoTime();
+        ArrayDeque<Edge> live = new ArrayDeque<>();
+        double rebuiltWeight = 0;
+        int rebuilds = 0;
+        for (int i = 0; i < events; i++) {
+            live.addLast(stream[i]);
+            if (live.size() > window) live.pollFirst();
+            if ((i + 1) % rebuild == 0 || i == events - 1) {
+                Graph graph = new Graph(side * side);
+                for (Edge e : live) graph.addEdge(e);
+                rebuiltWeight = new Kruskal(graph).weight();
+                rebuilds++;
+            }
+        }
+        double rebuildMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        System.out.printf(Locale.US, "  SlidingWindowMST %.1f ms (%.2f us/event, current after every event): "
+                        + "%d swaps, %.1f updates reapplied per event%n",
+                slidingMs, slidingMs * 1000 / events, sliding.getSwaps(), (double) sliding.getReapplied() / events);
+        System.out.printf(Locale.US, "  Rebuild + Kruskal %.1f ms (%d rebuilds, %.1f ms each)%n",
+                rebuildMs, rebuilds, rebuildMs / rebuilds);
+        System.out.printf(Locale.US, "  Final weights %.1f / %.1f%n", sliding.weight(), rebuiltWeight);
+    }
+}
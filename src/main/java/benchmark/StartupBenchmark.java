@@ -0,0 +1,98 @@
+package benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Время до первого результата: каждый запуск — новая JVM с Main --single, замер от старта
+ * процесса до первой строки в stdout. Если есть AppCDS-архив, запуски с ним и без него
+ * сравниваются тем же тестом Манна-Уитни, что и в RegressionDetector.
+ */
+public class StartupBenchmark {
+    public static final int DEFAULT_RUNS = 20;
+    public static final String DEFAULT_INPUT = "src/main/resources/input_small.json";
+    public static final String DEFAULT_ARCHIVE = "target/mst-app.jsa";
+
+    private final String classPath;
+    private final String input;
+    private final int runs;
+
+    public StartupBenchmark(String classPath, String input, int runs) {
+        if (runs < 1) throw new IllegalArgumentException("At least one run is required");
+        this.classPath = classPath;
+        this.input = input;
+        this.runs = runs;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String input = System.getProperty("startup.input", DEFAULT_INPUT);
+        String archive = System.getProperty("startup.archive", DEFAULT_ARCHIVE);
+        int runs = Integer.getInteger("startup.runs", DEFAULT_RUNS);
+        StartupBenchmark benchmark = new StartupBenchmark(
+                System.getProperty("startup.classpath", System.getProperty("java.class.path")), input, runs);
+
+        System.out.printf("Startup benchmark: %s, %d runs%n", input, runs);
+        double[] plain = benchmark.measure(List.of());
+        report("default", plain);
+
+        if (!new File(archive).isFile()) {
+            System.out.println("No AppCDS archive at " + archive + " (build with -Pappcds)");
+            return;
+        }
+        double[] shared = benchmark.measure(List.of("-XX:SharedArchiveFile=" + archive, "-Xshare:auto"));
+        report("appcds", shared);
+        System.out.printf(Locale.US, "  appcds/default median ratio x%.3f, p=%.4f%n",
+                Statistics.median(shared) / Statistics.median(plain),
+                Statistics.mannWhitneyPValue(shared, plain));
+    }
+
+    // Миллисекунды до первой строки результата для каждого запуска
+    public double[] measure(List<String> jvmOptions) throws IOException, InterruptedException {
+        double[] samples = new double[runs];
+        for (int i = 0; i < runs; i++) {
+            samples[i] = timeToFirstResult(jvmOptions);
+        }
+        return samples;
+    }
+
+    private double timeToFirstResult(List<String> jvmOptions) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(classPath);
+        command.add("org.example.Main");
+        command.add("--single");
+        command.add(input);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        String firstLine;
+        try (BufferedReader out = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            firstLine = out.readLine();
+            double elapsed = (System.nanoTime() - start) / 1_000_000.0;
+            while (out.readLine() != null) {
+                // дочитываем, чтобы процесс не заблокировался на выводе
+            }
+            if (process.waitFor() != 0 || firstLine == null) {
+                throw new IllegalStateException("Main --single failed for " + input);
+            }
+            return elapsed;
+        }
+    }
+
+    private static void report(String label, double[] samples) {
+        System.out.printf(Locale.US, "  %-8s median=%.1f ms, p90=%.1f ms, min=%.1f ms%n",
+                label + ":", Statistics.median(samples), Statistics.percentile(samples, 90),
+                Statistics.percentile(samples, 0));
+    }
+}
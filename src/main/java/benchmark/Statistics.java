@@ -0,0 +1,100 @@
+package benchmark;
+
+import java.util.Arrays;
+
+public final class Statistics {
+
+    private Statistics() {
+    }
+
+    public static double mean(double[] samples) {
+        if (samples.length == 0) return Double.NaN;
+        double sum = 0.0;
+        for (double s : samples) sum += s;
+        return sum / samples.length;
+    }
+
+    public static double stdDev(double[] samples) {
+        if (samples.length < 2) return 0.0;
+        double mean = mean(samples);
+        double sq = 0.0;
+        for (double s : samples) sq += (s - mean) * (s - mean);
+        return Math.sqrt(sq / (samples.length - 1));
+    }
+
+    public static double median(double[] samples) {
+        return percentile(samples, 50.0);
+    }
+
+    // Линейная интерполяция между ближайшими рангами
+    public static double percentile(double[] samples, double p) {
+        if (samples.length == 0) return Double.NaN;
+        if (p < 0.0 || p > 100.0) throw new IllegalArgumentException("Percentile out of range: " + p);
+
+        double[] sorted = samples.clone();
+        Arrays.sort(sorted);
+
+        double rank = p / 100.0 * (sorted.length - 1);
+        int lo = (int) Math.floor(rank);
+        int hi = (int) Math.ceil(rank);
+        return sorted[lo] + (sorted[hi] - sorted[lo]) * (rank - lo);
+    }
+
+    /**
+     * Двусторонний тест Манна-Уитни (нормальное приближение с поправкой на связки).
+     * Возвращает p-value; 1.0, если выборки слишком малы для сравнения.
+     */
+    public static double mannWhitneyPValue(double[] a, double[] b) {
+        int n1 = a.length;
+        int n2 = b.length;
+        if (n1 == 0 || n2 == 0) return 1.0;
+
+        int n = n1 + n2;
+        double[] values = new double[n];
+        boolean[] fromA = new boolean[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n1; i++) values[i] = a[i];
+        for (int i = 0; i < n2; i++) values[n1 + i] = b[i];
+        for (int i = 0; i < n1; i++) fromA[i] = true;
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, (x, y) -> Double.compare(values[x], values[y]));
+
+        double rankSumA = 0.0;
+        double tieCorrection = 0.0;
+        int i = 0;
+        while (i < n) {
+            int j = i;
+            while (j + 1 < n && values[order[j + 1]] == values[order[i]]) j++;
+            double avgRank = (i + j) / 2.0 + 1.0;
+            for (int k = i; k <= j; k++) {
+                if (fromA[order[k]]) rankSumA += avgRank;
+            }
+            double t = j - i + 1;
+            tieCorrection += t * t * t - t;
+            i = j + 1;
+        }
+
+        double u = rankSumA - n1 * (n1 + 1) / 2.0;
+        double meanU = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieCorrection / ((double) n * (n - 1)));
+        if (variance <= 0.0) return 1.0;
+
+        double z = (Math.abs(u - meanU) - 0.5) / Math.sqrt(variance);
+        if (z < 0.0) z = 0.0;
+        return 2.0 * (1.0 - normalCdf(z));
+    }
+
+    static double normalCdf(double z) {
+        return 0.5 * (1.0 + erf(z / Math.sqrt(2.0)));
+    }
+
+    // Abramowitz & Stegun 7.1.26, погрешность < 1.5e-7
+    private static double erf(double x) {
+        double sign = Math.signum(x);
+        x = Math.abs(x);
+        double t = 1.0 / (1.0 + 0.3275911 * x);
+        double y = 1.0 - (((((1.061405429 * t - 1.453152027) * t) + 1.421413741) * t
+                - 0.284496736) * t + 0.254829592) * t * Math.exp(-x * x);
+        return sign * y;
+    }
+}
@@ -0,0 +1,198 @@
+package distributed;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+
+/**
+ * Воркер распределённого Борувки: хранит рёбра, инцидентные своему диапазону вершин,
+ * и на каждом раунде возвращает минимальное исходящее ребро каждой своей компоненты.
+ * Компоненты ведутся локальным лесом корней: координатор присылает только слияния.
+ * Запуск отдельным процессом: java -cp ... distributed.BoruvkaWorker [port]
+ */
+public class BoruvkaWorker implements AutoCloseable {
+    private static final int NONE = -1;
+
+    private final ServerSocket server;
+    private final Thread acceptor;
+
+    // Раздел графа текущей сессии
+    private int lo;
+    private int hi;
+    private int count;
+    private int[] ids = new int[0];
+    private int[] from = new int[0];
+    private int[] to = new int[0];
+    private double[] weight = new double[0];
+
+    // parent — лес корней координатора; best и touched переиспользуются между раундами
+    private int[] parent = new int[0];
+    private int[] best = new int[0];
+    private int[] touched = new int[0];
+
+    public BoruvkaWorker(int port) throws IOException {
+        server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        acceptor = new Thread(this::serve, "boruvka-worker-" + server.getLocalPort());
+        acceptor.setDaemon(true);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        BoruvkaWorker worker = new BoruvkaWorker(args.length > 0 ? Integer.parseInt(args[0]) : 0);
+        worker.start();
+        // Координатор ждёт эту строку, чтобы узнать выбранный порт
+        System.out.println(Protocol.READY + worker.port());
+        System.out.flush();
+        worker.acceptor.join();
+    }
+
+    public BoruvkaWorker start() {
+        acceptor.start();
+        return this;
+    }
+
+    public int port() {
+        return server.getLocalPort();
+    }
+
+    private void serve() {
+        while (!server.isClosed()) {
+            try (Socket socket = server.accept()) {
+                socket.setTcpNoDelay(true);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                if (!session(in, out)) return;
+            } catch (EOFException e) {
+                // координатор закрыл соединение — ждём следующего
+            } catch (IOException e) {
+                if (server.isClosed()) return;
+                System.err.println("Worker session failed: " + e.getMessage());
+            }
+        }
+    }
+
+    // false — получен SHUTDOWN, воркер завершается
+    private boolean session(DataInputStream in, DataOutputStream out) throws IOException {
+        while (true) {
+            int type = in.readInt();
+            if (type == Protocol.PARTITION) {
+                readPartition(in);
+            } else if (type == Protocol.ROUND) {
+                int merges = in.readInt();
+                for (int k = 0; k < merges; k++) {
+                    int absorbed = in.readInt();
+                    parent[absorbed] = in.readInt();
+                }
+                round(out);
+                out.flush();
+            } else if (type == Protocol.SHUTDOWN) {
+                close();
+                return false;
+            } else {
+                throw new IOException("Unknown message type " + type);
+            }
+        }
+    }
+
+    private void readPartition(DataInputStream in) throws IOException {
+        int V = in.readInt();
+        if (parent.length != V) {
+            parent = new int[V];
+            best = new int[V];
+        }
+        for (int v = 0; v < V; v++) parent[v] = v;
+        Arrays.fill(best, NONE);
+        lo = in.readInt();
+        hi = in.readInt();
+        count = in.readInt();
+        ids = new int[count];
+        from = new int[count];
+        to = new int[count];
+        weight = new double[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = in.readInt();
+            from[i] = in.readInt();
+            to[i] = in.readInt();
+            weight[i] = in.readDouble();
+        }
+        touched = new int[Math.min(V, 2 * count)];
+    }
+
+    private void round(DataOutputStream out) throws IOException {
+        int components = 0;
+
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int cv = find(from[i]);
+            int cw = find(to[i]);
+            // Рёбра внутри компоненты больше не понадобятся
+            if (cv == cw) continue;
+            moveEdge(i, kept++);
+
+            int e = kept - 1;
+            if (owns(from[e])) components = offer(components, cv, e);
+            if (owns(to[e])) components = offer(components, cw, e);
+        }
+        count = kept;
+
+        out.writeInt(components);
+        for (int k = 0; k < components; k++) {
+            int c = touched[k];
+            out.writeInt(c);
+            out.writeInt(ids[best[c]]);
+            best[c] = NONE;
+        }
+    }
+
+    // Корень компоненты с сокращением путей: корни координатора меняются только слияниями
+    private int find(int v) {
+        int root = v;
+        while (parent[root] != root) root = parent[root];
+        while (parent[v] != root) {
+            int next = parent[v];
+            parent[v] = root;
+            v = next;
+        }
+        return root;
+    }
+
+    private int offer(int components, int component, int e) {
+        int current = best[component];
+        if (current == NONE) {
+            touched[components++] = component;
+            best[component] = e;
+        } else if (lighter(e, current)) {
+            best[component] = e;
+        }
+        return components;
+    }
+
+    // Строгий порядок (вес, номер ребра): минимальные рёбра всех компонент не образуют цикла
+    private boolean lighter(int a, int b) {
+        int c = Double.compare(weight[a], weight[b]);
+        return c < 0 || (c == 0 && ids[a] < ids[b]);
+    }
+
+    private boolean owns(int v) {
+        return v >= lo && v < hi;
+    }
+
+    private void moveEdge(int src, int dst) {
+        if (src == dst) return;
+        ids[dst] = ids[src];
+        from[dst] = from[src];
+        to[dst] = to[src];
+        weight[dst] = weight[src];
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+}
@@ -0,0 +1,190 @@
+package distributed;
+
+import algorithms.MST;
+import algorithms.UnionFind;
+import graph.Edge;
+import graph.Graph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Координатор распределённого Борувки: делит вершины на диапазоны по числу воркеров,
+ * отправляет каждому инцидентные рёбра, а затем по раундам сливает компоненты по присланным
+ * минимальным исходящим рёбрам. Воркеры ведут свой лес корней, поэтому им рассылаются только
+ * слияния прошлого раунда (поглощённый корень, новый корень): V - 1 пар за весь расчёт
+ * вместо V меток на каждом раунде.
+ */
+public class DistributedBoruvka implements MST {
+    private static final int NONE = -1;
+    private static final int CONNECT_TIMEOUT_MS = 5000;
+
+    private final List<Edge> mst;
+    private double totalWeight;
+    private int rounds;
+    private long bytesSent;
+
+    public DistributedBoruvka(Graph graph, List<InetSocketAddress> workers) throws IOException {
+        if (workers.isEmpty()) throw new IllegalArgumentException("At least one worker is required");
+        int V = graph.V();
+
+        List<Edge> edges = new ArrayList<>(graph.E());
+        for (Edge e : graph.edges()) edges.add(e);
+        mst = new ArrayList<>(Math.max(0, V - 1));
+
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (InetSocketAddress address : workers) connections.add(new Connection(address));
+            distribute(V, edges, connections);
+
+            UnionFind uf = new UnionFind(V);
+            int[] merges = new int[2 * Math.max(0, V - 1)];
+            int mergeCount = 0;
+            int[] best = new int[V];
+            while (true) {
+                for (Connection c : connections) c.sendRound(merges, mergeCount);
+                mergeCount = 0;
+
+                Arrays.fill(best, NONE);
+                boolean any = false;
+                for (Connection c : connections) {
+                    int replies = c.in.readInt();
+                    for (int k = 0; k < replies; k++) {
+                        int component = c.in.readInt();
+                        int id = c.in.readInt();
+                        if (best[component] == NONE || lighter(edges, id, best[component])) best[component] = id;
+                        any = true;
+                    }
+                }
+                if (!any) break;
+
+                rounds++;
+                for (int component = 0; component < V; component++) {
+                    int id = best[component];
+                    if (id == NONE) continue;
+                    Edge e = edges.get(id);
+                    int rv = uf.find(e.either());
+                    int rw = uf.find(e.other(e.either()));
+                    if (uf.union(rv, rw)) {
+                        int root = uf.find(rv);
+                        merges[mergeCount++] = root == rv ? rw : rv;
+                        merges[mergeCount++] = root;
+                        mst.add(e);
+                        totalWeight += e.weight();
+                    }
+                }
+            }
+        } finally {
+            for (Connection c : connections) {
+                bytesSent += c.out.size();
+                c.close();
+            }
+        }
+    }
+
+    // Вершины делятся на равные диапазоны; ребро между диапазонами получают оба владельца
+    private static void distribute(int V, List<Edge> edges, List<Connection> connections) throws IOException {
+        int parts = connections.size();
+        int[] bounds = new int[parts + 1];
+        for (int p = 0; p <= parts; p++) bounds[p] = (int) ((long) V * p / parts);
+
+        List<List<Integer>> owned = new ArrayList<>(parts);
+        for (int p = 0; p < parts; p++) owned.add(new ArrayList<>());
+        for (int id = 0; id < edges.size(); id++) {
+            Edge e = edges.get(id);
+            int v = e.either();
+            int pv = partOf(bounds, v);
+            int pw = partOf(bounds, e.other(v));
+            owned.get(pv).add(id);
+            if (pw != pv) owned.get(pw).add(id);
+        }
+
+        for (int p = 0; p < parts; p++) {
+            DataOutputStream out = connections.get(p).out;
+            List<Integer> ids = owned.get(p);
+            out.writeInt(Protocol.PARTITION);
+            out.writeInt(V);
+            out.writeInt(bounds[p]);
+            out.writeInt(bounds[p + 1]);
+            out.writeInt(ids.size());
+            for (int id : ids) {
+                Edge e = edges.get(id);
+                int v = e.either();
+                out.writeInt(id);
+                out.writeInt(v);
+                out.writeInt(e.other(v));
+                out.writeDouble(e.weight());
+            }
+        }
+    }
+
+    private static int partOf(int[] bounds, int v) {
+        int p = Arrays.binarySearch(bounds, v);
+        if (p < 0) return -p - 2;
+        // Пустые диапазоны дают повторы границ — берём последний с началом v
+        while (p + 1 < bounds.length - 1 && bounds[p + 1] == v) p++;
+        return p;
+    }
+
+    // Тот же строгий порядок (вес, номер ребра), что и у воркеров
+    private static boolean lighter(List<Edge> edges, int a, int b) {
+        int c = Double.compare(edges.get(a).weight(), edges.get(b).weight());
+        return c < 0 || (c == 0 && a < b);
+    }
+
+    @Override
+    public Iterable<Edge> edges() {
+        return mst;
+    }
+
+    @Override
+    public double weight() {
+        return totalWeight;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    // Объём, отправленный координатором всем воркерам (раздел + слияния раундов)
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    private static final class Connection {
+        private final Socket socket;
+        final DataInputStream in;
+        final DataOutputStream out;
+
+        Connection(InetSocketAddress address) throws IOException {
+            socket = new Socket();
+            socket.connect(address, CONNECT_TIMEOUT_MS);
+            socket.setTcpNoDelay(true);
+            in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        void sendRound(int[] merges, int count) throws IOException {
+            out.writeInt(Protocol.ROUND);
+            out.writeInt(count / 2);
+            Protocol.writeInts(out, merges, count);
+            out.flush();
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // соединение уже разорвано
+            }
+        }
+    }
+}
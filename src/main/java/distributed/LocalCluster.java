@@ -0,0 +1,122 @@
+package distributed;
+
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Набор воркеров на localhost: отдельные JVM (spawn) или потоки текущей JVM (inProcess).
+ */
+public class LocalCluster implements AutoCloseable {
+    private final List<InetSocketAddress> addresses = new ArrayList<>();
+    private final List<Process> processes = new ArrayList<>();
+    private final List<BoruvkaWorker> threads = new ArrayList<>();
+
+    private LocalCluster() {
+    }
+
+    /**
+     * Запускает workers процессов с тем же classpath; jvmOptions — например, "-Xmx4g".
+     */
+    public static LocalCluster spawn(int workers, List<String> jvmOptions) throws IOException {
+        LocalCluster cluster = new LocalCluster();
+        try {
+            for (int i = 0; i < workers; i++) {
+                List<String> command = new ArrayList<>();
+                command.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+                command.addAll(jvmOptions);
+                command.add("-cp");
+                command.add(workerClassPath());
+                command.add(BoruvkaWorker.class.getName());
+                command.add("0");
+                Process process = new ProcessBuilder(command)
+                        .redirectError(ProcessBuilder.Redirect.INHERIT)
+                        .start();
+                cluster.processes.add(process);
+                cluster.addresses.add(new InetSocketAddress(InetAddress.getLoopbackAddress(), readPort(process)));
+            }
+        } catch (IOException | RuntimeException e) {
+            cluster.close();
+            throw e;
+        }
+        return cluster;
+    }
+
+    // Каталог/jar с классами воркера: под exec:java java.class.path — это classpath Maven
+    private static String workerClassPath() {
+        String classPath = System.getProperty("java.class.path");
+        CodeSource source = BoruvkaWorker.class.getProtectionDomain().getCodeSource();
+        if (source == null) return classPath;
+        try {
+            return new File(source.getLocation().toURI()).getPath() + File.pathSeparator + classPath;
+        } catch (URISyntaxException e) {
+            return classPath;
+        }
+    }
+
+    public static LocalCluster inProcess(int workers) throws IOException {
+        LocalCluster cluster = new LocalCluster();
+        for (int i = 0; i < workers; i++) {
+            BoruvkaWorker worker = new BoruvkaWorker(0).start();
+            cluster.threads.add(worker);
+            cluster.addresses.add(new InetSocketAddress(InetAddress.getLoopbackAddress(), worker.port()));
+        }
+        return cluster;
+    }
+
+    private static int readPort(Process process) throws IOException {
+        BufferedReader out = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        String line;
+        while ((line = out.readLine()) != null) {
+            if (line.startsWith(Protocol.READY)) {
+                return Integer.parseInt(line.substring(Protocol.READY.length()).trim());
+            }
+        }
+        throw new IOException("Worker process exited before reporting its port");
+    }
+
+    public List<InetSocketAddress> addresses() {
+        return addresses;
+    }
+
+    @Override
+    public void close() {
+        for (InetSocketAddress address : addresses) {
+            try (Socket socket = new Socket()) {
+                socket.connect(address, 1000);
+                DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+                out.writeInt(Protocol.SHUTDOWN);
+                out.flush();
+            } catch (IOException ignored) {
+                // воркер уже остановлен
+            }
+        }
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(2, TimeUnit.SECONDS)) process.destroyForcibly();
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (BoruvkaWorker worker : threads) {
+            try {
+                worker.close();
+            } catch (IOException ignored) {
+                // сокет уже закрыт
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package distributed;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Сообщения между координатором и воркером (DataOutputStream, big-endian).
+ * PARTITION: V, lo, hi, count, затем count × (id, v, w, weight)
+ * ROUND:     count, затем count × (absorbed, root) — слияния корней за прошлый раунд;
+ *            ответ: count, затем count × (component, edgeId)
+ * SHUTDOWN:  без тела, соединение закрывается
+ */
+final class Protocol {
+    static final int PARTITION = 1;
+    static final int ROUND = 2;
+    static final int SHUTDOWN = 3;
+
+    static final String READY = "LISTENING ";
+
+    private Protocol() {
+    }
+
+    static void writeInts(DataOutputStream out, int[] values, int count) throws IOException {
+        for (int i = 0; i < count; i++) out.writeInt(values[i]);
+    }
+
+}
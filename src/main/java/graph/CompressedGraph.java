@@ -0,0 +1,276 @@
+package graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Сжатые списки смежности: соседи вершины отсортированы и записаны varint-разностями
+ * (первый — зигзаг-разность с самой вершиной), вес — varint-номер в словаре различных весов.
+ * Словарь упорядочен, поэтому номера сравниваются так же, как веса, и сжатие без потерь.
+ * Вместо объекта Edge и двух ссылок на ребро — обычно 2-4 байта на запись смежности, пока
+ * различных весов мало. У вещественных весов почти каждое ребро добавляет в словарь 8 байт,
+ * а номер веса занимает 3 байта: около 20 байт на ребро вместо 9 на целочисленной решётке.
+ * Петли не хранятся: в остовный лес они не входят.
+ */
+public final class CompressedGraph {
+    private final int V;
+    private final int E;
+    // Записи вершины v — байты [offset[v], offset[v + 1])
+    private final int[] offset;
+    private final byte[] data;
+    private final double[] dictionary;
+
+    private CompressedGraph(int V, int E, int[] offset, byte[] data, double[] dictionary) {
+        this.V = V;
+        this.E = E;
+        this.offset = offset;
+        this.data = data;
+        this.dictionary = dictionary;
+    }
+
+    public static CompressedGraph of(Graph graph) {
+        return fromEdges(graph.V(), graph.edges());
+    }
+
+    public static CompressedGraph fromEdges(int V, Iterable<Edge> edges) {
+        int count = 0;
+        for (Edge ignored : edges) count++;
+        int[] from = new int[count];
+        int[] to = new int[count];
+        double[] weight = new double[count];
+        int i = 0;
+        for (Edge e : edges) {
+            from[i] = e.either();
+            to[i] = e.other(from[i]);
+            weight[i] = e.weight();
+            i++;
+        }
+        return fromArrays(V, from, to, weight, count);
+    }
+
+    /**
+     * Сборка из примитивных массивов рёбер (их не меняет): для загрузчиков, которые не
+     * создают объекты Edge. Сверх входа временно нужны номер веса на ребро и номер ребра
+     * на запись смежности — 4 + 8 байт на ребро, отсортированная копия весов — до них.
+     */
+    public static CompressedGraph fromArrays(int V, int[] from, int[] to, double[] weight, int count) {
+        double[] sorted = new double[count];
+        int E = 0;
+        for (int i = 0; i < count; i++) {
+            if (from[i] != to[i]) sorted[E++] = weight[i];
+        }
+        Arrays.sort(sorted, 0, E);
+        int distinct = 0;
+        for (int i = 0; i < E; i++) {
+            if (distinct == 0 || Double.compare(sorted[distinct - 1], sorted[i]) != 0) sorted[distinct++] = sorted[i];
+        }
+        double[] dictionary = Arrays.copyOf(sorted, distinct);
+        sorted = null;
+
+        int[] code = new int[count];
+        int[] start = new int[V + 1];
+        for (int i = 0; i < count; i++) {
+            if (from[i] == to[i]) continue;
+            code[i] = Arrays.binarySearch(dictionary, weight[i]);
+            start[from[i] + 1]++;
+            start[to[i] + 1]++;
+        }
+        int maxDegree = 0;
+        for (int v = 0; v < V; v++) {
+            maxDegree = Math.max(maxDegree, start[v + 1]);
+            start[v + 1] += start[v];
+        }
+        // Номера рёбер по вершинам; порядок внутри вершины задаётся сортировкой по соседу
+        int[] entries = new int[2 * E];
+        int[] next = Arrays.copyOf(start, V);
+        for (int i = 0; i < count; i++) {
+            if (from[i] == to[i]) continue;
+            entries[next[from[i]]++] = i;
+            entries[next[to[i]]++] = i;
+        }
+        next = null;
+
+        // Сосед << 32 | номер ребра: сортировка long упорядочит записи вершины по соседу
+        long[] scratch = new long[maxDegree];
+        long size = 0;
+        for (int v = 0; v < V; v++) {
+            int degree = start[v + 1] - start[v];
+            for (int k = 0; k < degree; k++) {
+                int id = entries[start[v] + k];
+                int w = from[id] == v ? to[id] : from[id];
+                scratch[k] = ((long) w << 32) | id;
+            }
+            Arrays.sort(scratch, 0, degree);
+            int previous = v;
+            for (int k = 0; k < degree; k++) {
+                int w = (int) (scratch[k] >>> 32);
+                int id = (int) scratch[k];
+                entries[start[v] + k] = id;
+                size += varintSize(k == 0 ? zigzag(w - v) : w - previous);
+                size += varintSize(code[id]);
+                previous = w;
+            }
+        }
+        scratch = null;
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Graph too large for compressed adjacency: " + size + " bytes");
+        }
+
+        byte[] data = new byte[(int) size];
+        int[] offset = new int[V + 1];
+        int position = 0;
+        for (int v = 0; v < V; v++) {
+            offset[v] = position;
+            int previous = v;
+            for (int k = start[v]; k < start[v + 1]; k++) {
+                int id = entries[k];
+                int w = from[id] == v ? to[id] : from[id];
+                position = writeVarint(data, position, k == start[v] ? zigzag(w - v) : w - previous);
+                position = writeVarint(data, position, code[id]);
+                previous = w;
+            }
+        }
+        offset[V] = position;
+        return new CompressedGraph(V, E, offset, data, dictionary);
+    }
+
+    private static int zigzag(int delta) {
+        return (delta << 1) ^ (delta >> 31);
+    }
+
+    // Значение рассматривается как беззнаковое: зигзаг может занять все 32 бита
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static int writeVarint(byte[] data, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            data[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[position++] = (byte) value;
+        return position;
+    }
+
+    public int V() {
+        return V;
+    }
+
+    public int E() {
+        return E;
+    }
+
+    // Число различных весов; номер веса — индекс в этом словаре
+    public int distinctWeights() {
+        return dictionary.length;
+    }
+
+    public double weightOf(int code) {
+        return dictionary[code];
+    }
+
+    // Байты на куче: записи смежности, смещения и словарь весов
+    public long sizeInBytes() {
+        return data.length + 4L * offset.length + 8L * dictionary.length;
+    }
+
+    // Курсор без выделения памяти на запись; один курсор — один поток
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    public int degree(int v) {
+        Cursor cursor = new Cursor();
+        cursor.reset(v);
+        int degree = 0;
+        while (cursor.next()) degree++;
+        return degree;
+    }
+
+    // Совместимость с кодом на Edge: рёбра создаются заново при каждом вызове
+    public Iterable<Edge> adj(int v) {
+        List<Edge> list = new ArrayList<>();
+        Cursor cursor = new Cursor();
+        cursor.reset(v);
+        while (cursor.next()) list.add(new Edge(v, cursor.vertex(), cursor.weight()));
+        return list;
+    }
+
+    public Iterable<Edge> edges() {
+        List<Edge> list = new ArrayList<>(E);
+        Cursor cursor = new Cursor();
+        for (int v = 0; v < V; v++) {
+            cursor.reset(v);
+            while (cursor.next()) {
+                if (cursor.vertex() > v) list.add(new Edge(v, cursor.vertex(), cursor.weight()));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Декодирует записи одной вершины по мере обхода: reset(v), затем next() до false;
+     * vertex() и weightCode() относятся к последней прочитанной записи.
+     */
+    public final class Cursor {
+        private int source;
+        private int position;
+        private int end;
+        private int vertex;
+        private int code;
+        private boolean first;
+
+        private Cursor() {
+        }
+
+        public void reset(int v) {
+            source = v;
+            position = offset[v];
+            end = offset[v + 1];
+            first = true;
+        }
+
+        public boolean next() {
+            if (position >= end) return false;
+            int gap = readVarint();
+            if (first) {
+                vertex = source + ((gap >>> 1) ^ -(gap & 1));
+                first = false;
+            } else {
+                vertex += gap;
+            }
+            code = readVarint();
+            return true;
+        }
+
+        public int vertex() {
+            return vertex;
+        }
+
+        public int weightCode() {
+            return code;
+        }
+
+        public double weight() {
+            return dictionary[code];
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Параллельное построение Graph: потоки-загрузчики пишут рёбра в собственные буферы,
+ * затем build() считает степени по кускам, делает префиксные суммы и раскладывает
+ * рёбра по спискам смежности без блокировок (каждый кусок пишет в свои позиции).
+ * Порядок рёбер в adj(v) совпадает с последовательным addEdge по буферам подряд.
+ */
+public class ConcurrentGraphBuilder {
+    private static final Edge[] EMPTY = new Edge[0];
+
+    private final int V;
+    private final List<Buffer> buffers = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Buffer> local = ThreadLocal.withInitial(this::register);
+
+    public ConcurrentGraphBuilder(int V) {
+        if (V < 0) throw new IllegalArgumentException("Negative vertex count: " + V);
+        this.V = V;
+    }
+
+    public int V() {
+        return V;
+    }
+
+    // Можно вызывать из любого числа потоков одновременно
+    public void addEdge(Edge e) {
+        int v = e.either();
+        int w = e.other(v);
+        if (v < 0 || v >= V || w < 0 || w >= V) {
+            throw new IllegalArgumentException("Edge " + e + " is outside 0.." + (V - 1));
+        }
+        local.get().add(e);
+    }
+
+    private Buffer register() {
+        Buffer buffer = new Buffer();
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    public Graph build() {
+        return build(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Вызывается после завершения всех загрузчиков; после построения буферы пусты.
+     */
+    public Graph build(int threads) {
+        if (threads < 1) throw new IllegalArgumentException("Thread count must be positive: " + threads);
+
+        List<Buffer> parts = new ArrayList<>(buffers);
+        Graph graph = assemble(V, parts, threads);
+        // Буферы остаются закреплены за своими потоками — следующий граф пишется в них же
+        for (Buffer b : parts) b.clear();
+        return graph;
+    }
+
+    /**
+     * Граф из готового массива рёбер (концы уже проверены): adj(v) в порядке массива,
+     * как при последовательном addEdge. Массив не копируется и после вызова не нужен.
+     */
+    public static Graph fromEdges(int V, Edge[] edges, int count, int threads) {
+        if (threads < 1) throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        Buffer all = new Buffer();
+        all.edges = edges;
+        all.size = count;
+        return assemble(V, List.of(all), threads);
+    }
+
+    private static Graph assemble(int V, List<Buffer> parts, int threads) {
+        long total = 0;
+        for (Buffer b : parts) total += b.size;
+        if (total > Integer.MAX_VALUE) throw new IllegalStateException("Too many edges: " + total);
+        int E = (int) total;
+
+        // Сквозная нумерация рёбер по буферам; куски — равные отрезки этой нумерации
+        int[] bufferStart = new int[parts.size() + 1];
+        for (int i = 0; i < parts.size(); i++) bufferStart[i + 1] = bufferStart[i] + parts.get(i).size;
+        int chunks = Math.max(1, Math.min(threads, E / 4096 + 1));
+        int[] chunkStart = new int[chunks + 1];
+        for (int c = 0; c <= chunks; c++) chunkStart[c] = (int) ((long) E * c / chunks);
+
+        // 1. Степени по кускам: counts[c][v]
+        int[][] counts = new int[chunks][];
+        ParallelTasks.run(chunks, c -> {
+            int[] count = new int[V];
+            forEach(parts, bufferStart, chunkStart[c], chunkStart[c + 1], e -> {
+                int v = e.either();
+                count[v]++;
+                count[e.other(v)]++;
+            });
+            counts[c] = count;
+        });
+
+        // 2. Префиксные суммы по кускам для каждой вершины, массивы смежности нужной длины
+        Edge[][] slots = new Edge[V][];
+        int vertexChunks = Math.max(1, Math.min(threads, V / 65536 + 1));
+        ParallelTasks.run(vertexChunks, part -> {
+            int from = (int) ((long) V * part / vertexChunks);
+            int to = (int) ((long) V * (part + 1) / vertexChunks);
+            for (int v = from; v < to; v++) {
+                int offset = 0;
+                for (int c = 0; c < chunks; c++) {
+                    int degree = counts[c][v];
+                    counts[c][v] = offset;
+                    offset += degree;
+                }
+                slots[v] = offset == 0 ? EMPTY : new Edge[offset];
+            }
+        });
+
+        // 3. Раскладка: кусок c пишет в adj(v) только в свои позиции counts[c][v]...
+        ParallelTasks.run(chunks, c -> {
+            int[] next = counts[c];
+            forEach(parts, bufferStart, chunkStart[c], chunkStart[c + 1], e -> {
+                int v = e.either();
+                int w = e.other(v);
+                slots[v][next[v]++] = e;
+                slots[w][next[w]++] = e;
+            });
+        });
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        List<Edge>[] adj = (List<Edge>[]) new List[V];
+        for (int v = 0; v < V; v++) adj[v] = new EdgeList(slots[v]);
+        return new Graph(V, E, adj);
+    }
+
+    private interface EdgeConsumer {
+        void accept(Edge e);
+    }
+
+    private static void forEach(List<Buffer> parts, int[] bufferStart, int from, int to, EdgeConsumer action) {
+        if (from >= to) return;
+        int b = Arrays.binarySearch(bufferStart, from);
+        b = b >= 0 ? b : -b - 2;
+        int position = from;
+        while (position < to) {
+            while (bufferStart[b + 1] <= position) b++;
+            Buffer buffer = parts.get(b);
+            int end = Math.min(to, bufferStart[b + 1]);
+            for (int i = position - bufferStart[b]; i < end - bufferStart[b]; i++) action.accept(buffer.edges[i]);
+            position = end;
+        }
+    }
+
+    // Буфер одного потока-загрузчика: пишет только владелец
+    private static final class Buffer {
+        private Edge[] edges = new Edge[256];
+        private int size;
+
+        void add(Edge e) {
+            if (size == edges.length) edges = Arrays.copyOf(edges, size * 2);
+            edges[size++] = e;
+        }
+
+        void clear() {
+            edges = new Edge[256];
+            size = 0;
+        }
+    }
+}
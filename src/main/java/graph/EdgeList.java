@@ -0,0 +1,38 @@
+package graph;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Растущий список поверх готового массива: ConcurrentGraphBuilder заполняет массив
+ * напрямую, без копирования в ArrayList, а Graph.addEdge продолжает работать.
+ */
+final class EdgeList extends AbstractList<Edge> implements RandomAccess {
+    private Edge[] items;
+    private int size;
+
+    EdgeList(Edge[] items) {
+        this.items = items;
+        this.size = items.length;
+    }
+
+    @Override
+    public Edge get(int index) {
+        if (index >= size) throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+        return items[index];
+    }
+
+    @Override
+    public boolean add(Edge e) {
+        if (size == items.length) items = Arrays.copyOf(items, Math.max(4, size + (size >> 1)));
+        items[size++] = e;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
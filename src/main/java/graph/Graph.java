@@ -18,6 +18,13 @@ public class Graph {
         }
     }
 
+    // Готовые списки смежности от ConcurrentGraphBuilder
+    Graph(int V, int E, List<Edge>[] adj) {
+        this.V = V;
+        this.E = E;
+        this.adj = adj;
+    }
+
     public int V() {
         return V;
     }
@@ -0,0 +1,121 @@
+package graph;
+
+/**
+ * Граф с целочисленными весами в CSR-представлении: веса хранятся как int
+ * (вдвое меньше памяти, чем double в {@link Edge}), смежность — массивы номеров рёбер.
+ */
+public class IntWeightGraph {
+    // Верхняя граница веса, при которой имеет смысл очередь с корзинами
+    public static final int MAX_BUCKET_WEIGHT = 1 << 20;
+
+    private final int V;
+    private final int E;
+    private final int[] from;
+    private final int[] to;
+    private final int[] weight;
+    private final int[] offset;
+    private final int[] adjEdges;
+    private final int maxWeight;
+
+    private IntWeightGraph(int V, int[] from, int[] to, int[] weight) {
+        this.V = V;
+        this.E = from.length;
+        this.from = from;
+        this.to = to;
+        this.weight = weight;
+
+        int max = 0;
+        offset = new int[V + 1];
+        for (int e = 0; e < E; e++) {
+            offset[from[e] + 1]++;
+            offset[to[e] + 1]++;
+            if (weight[e] > max) max = weight[e];
+        }
+        for (int v = 0; v < V; v++) {
+            offset[v + 1] += offset[v];
+        }
+        maxWeight = max;
+
+        adjEdges = new int[2 * E];
+        int[] next = new int[V];
+        System.arraycopy(offset, 0, next, 0, V);
+        for (int e = 0; e < E; e++) {
+            adjEdges[next[from[e]]++] = e;
+            adjEdges[next[to[e]]++] = e;
+        }
+    }
+
+    public static boolean hasBucketableWeights(Iterable<Edge> edges) {
+        for (Edge e : edges) {
+            double w = e.weight();
+            if (w < 0 || w > MAX_BUCKET_WEIGHT || w != Math.rint(w)) return false;
+        }
+        return true;
+    }
+
+    public static IntWeightGraph fromEdges(int V, Iterable<Edge> edges) {
+        int count = 0;
+        for (Edge ignored : edges) count++;
+
+        int[] from = new int[count];
+        int[] to = new int[count];
+        int[] weight = new int[count];
+        int i = 0;
+        for (Edge e : edges) {
+            double w = e.weight();
+            if (w < 0 || w > MAX_BUCKET_WEIGHT || w != Math.rint(w)) {
+                throw new IllegalArgumentException("Weight is not a small non-negative integer: " + w);
+            }
+            from[i] = e.either();
+            to[i] = e.other(from[i]);
+            weight[i] = (int) w;
+            i++;
+        }
+        return new IntWeightGraph(V, from, to, weight);
+    }
+
+    public int V() {
+        return V;
+    }
+
+    public int E() {
+        return E;
+    }
+
+    public int maxWeight() {
+        return maxWeight;
+    }
+
+    public int from(int edge) {
+        return from[edge];
+    }
+
+    public int to(int edge) {
+        return to[edge];
+    }
+
+    public int weight(int edge) {
+        return weight[edge];
+    }
+
+    public int other(int edge, int vertex) {
+        return from[edge] == vertex ? to[edge] : from[edge];
+    }
+
+    // Рёбра вершины v: adjEdge(i) для i из [adjStart(v), adjEnd(v))
+    public int adjStart(int v) {
+        return offset[v];
+    }
+
+    public int adjEnd(int v) {
+        return offset[v + 1];
+    }
+
+    public int adjEdge(int i) {
+        return adjEdges[i];
+    }
+
+    public Edge edge(int id) {
+        return new Edge(from[id], to[id], weight[id]);
+    }
+}
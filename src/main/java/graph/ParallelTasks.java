@@ -0,0 +1,63 @@
+package graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Общий пул для параллельных шагов (ConcurrentGraphBuilder, PathMaxIndex, ParallelPrim):
+ * потоки переиспользуются между вызовами, вызывающий поток ждёт все задачи. Первая ошибка
+ * выбрасывается, ошибки остальных задач добавляются к ней через addSuppressed.
+ */
+public final class ParallelTasks {
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+    // Без верхней границы: задачи одного вызова не ждут, пока освободятся потоки другого
+    private static final ExecutorService POOL = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "mst-worker-" + THREAD_IDS.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    private ParallelTasks() {
+    }
+
+    // task(0), ..., task(tasks - 1); одна задача выполняется в вызывающем потоке
+    public static void run(int tasks, IntConsumer task) {
+        if (tasks < 1) throw new IllegalArgumentException("Task count must be positive: " + tasks);
+        if (tasks == 1) {
+            task.accept(0);
+            return;
+        }
+        List<Callable<Void>> calls = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            int id = t;
+            calls.add(() -> {
+                task.accept(id);
+                return null;
+            });
+        }
+
+        Throwable failure = null;
+        try {
+            for (Future<Void> future : POOL.invokeAll(calls)) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) failure = e.getCause();
+                    else failure.addSuppressed(e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for parallel tasks", e);
+        }
+        if (failure instanceof Error) throw (Error) failure;
+        if (failure != null) throw (RuntimeException) failure;
+    }
+}
@@ -0,0 +1,208 @@
+package graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Перенумерация вершин для локальности памяти: соседи получают близкие номера, и обходы
+ * Prim/Kruskal по marked[]/distTo[]/parent[] реже выходят за кэш-линию.
+ * newId(old) -> new, oldId(new) -> old; результаты отображаются обратно через names/original.
+ */
+public final class VertexReordering {
+    // Столько элементов int-массива помещается в 64-байтную кэш-линию
+    public static final int CACHE_LINE_VERTICES = 16;
+
+    public enum Strategy {
+        IDENTITY, BFS, RCM, DEGREE
+    }
+
+    private final Strategy strategy;
+    private final int[] newId;
+    private final int[] oldId;
+
+    private VertexReordering(Strategy strategy, int[] oldId) {
+        this.strategy = strategy;
+        this.oldId = oldId;
+        this.newId = new int[oldId.length];
+        for (int i = 0; i < oldId.length; i++) newId[oldId[i]] = i;
+    }
+
+    public static VertexReordering compute(Graph graph, Strategy strategy) {
+        int V = graph.V();
+        int[] order;
+        switch (strategy) {
+            case IDENTITY:
+                order = identity(V);
+                break;
+            case BFS:
+                order = breadthFirst(graph, false);
+                break;
+            case RCM:
+                order = breadthFirst(graph, true);
+                for (int i = 0, j = V - 1; i < j; i++, j--) {
+                    int t = order[i];
+                    order[i] = order[j];
+                    order[j] = t;
+                }
+                break;
+            case DEGREE:
+                order = byDegreeDescending(graph);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown strategy " + strategy);
+        }
+        return new VertexReordering(strategy, order);
+    }
+
+    /**
+     * Обход в ширину по компонентам. cuthillMcKee: старт с вершины минимальной степени,
+     * соседи добавляются по возрастанию степени.
+     */
+    private static int[] breadthFirst(Graph graph, boolean cuthillMcKee) {
+        int V = graph.V();
+        int[] degree = degrees(graph);
+        int[] starts = cuthillMcKee ? sortByKey(degree, V, true) : identity(V);
+
+        boolean[] seen = new boolean[V];
+        int[] order = new int[V];
+        int tail = 0;
+        long[] neighbours = new long[16];
+        for (int root : starts) {
+            if (seen[root]) continue;
+            seen[root] = true;
+            int head = tail;
+            order[tail++] = root;
+            while (head < tail) {
+                int v = order[head++];
+                int count = 0;
+                for (Edge e : graph.adj(v)) {
+                    int w = e.other(v);
+                    if (seen[w]) continue;
+                    seen[w] = true;
+                    if (count == neighbours.length) neighbours = Arrays.copyOf(neighbours, count * 2);
+                    // Старшие биты — степень: сортировка long упорядочит соседей по степени
+                    neighbours[count++] = cuthillMcKee ? ((long) degree[w] << 32) | w : w;
+                }
+                if (cuthillMcKee) Arrays.sort(neighbours, 0, count);
+                for (int k = 0; k < count; k++) order[tail++] = (int) neighbours[k];
+            }
+        }
+        return order;
+    }
+
+    private static int[] byDegreeDescending(Graph graph) {
+        return sortByKey(degrees(graph), graph.V(), false);
+    }
+
+    private static int[] degrees(Graph graph) {
+        int[] degree = new int[graph.V()];
+        for (int v = 0; v < graph.V(); v++) {
+            for (Edge ignored : graph.adj(v)) degree[v]++;
+        }
+        return degree;
+    }
+
+    // Устойчивая сортировка вершин подсчётом по ключу
+    private static int[] sortByKey(int[] key, int V, boolean ascending) {
+        int max = 0;
+        for (int v = 0; v < V; v++) max = Math.max(max, key[v]);
+        int[] start = new int[max + 2];
+        for (int v = 0; v < V; v++) start[(ascending ? key[v] : max - key[v]) + 1]++;
+        for (int k = 0; k <= max; k++) start[k + 1] += start[k];
+        int[] order = new int[V];
+        for (int v = 0; v < V; v++) order[start[ascending ? key[v] : max - key[v]]++] = v;
+        return order;
+    }
+
+    private static int[] identity(int V) {
+        int[] order = new int[V];
+        for (int v = 0; v < V; v++) order[v] = v;
+        return order;
+    }
+
+    public Strategy strategy() {
+        return strategy;
+    }
+
+    public int newId(int oldVertex) {
+        return newId[oldVertex];
+    }
+
+    public int oldId(int newVertex) {
+        return oldId[newVertex];
+    }
+
+    // Ребро в новой нумерации
+    public Edge relabel(Edge e) {
+        int v = e.either();
+        return new Edge(newId[v], newId[e.other(v)], e.weight());
+    }
+
+    // Ребро результата обратно в исходную нумерацию
+    public Edge original(Edge e) {
+        int v = e.either();
+        return new Edge(oldId[v], oldId[e.other(v)], e.weight());
+    }
+
+    public List<Edge> relabel(Iterable<Edge> edges) {
+        List<Edge> result = new ArrayList<>();
+        for (Edge e : edges) result.add(relabel(e));
+        return result;
+    }
+
+    public Graph apply(Iterable<Edge> edges) {
+        Graph graph = new Graph(newId.length);
+        for (Edge e : edges) graph.addEdge(relabel(e));
+        return graph;
+    }
+
+    // Имена в новой нумерации: names.get(v) для новой v — имя её исходной вершины
+    public <T> List<T> names(List<T> originalNames) {
+        List<T> result = new ArrayList<>(originalNames.size());
+        for (int v = 0; v < oldId.length; v++) result.add(originalNames.get(oldId[v]));
+        return result;
+    }
+
+    /**
+     * Прокси кэш-промахов: средний разрыв номеров |v - w| по записям смежности и доля записей,
+     * сосед в которых дальше кэш-линии от v.
+     */
+    public static Locality measure(Graph graph) {
+        long entries = 0;
+        double gapSum = 0;
+        long far = 0;
+        for (int v = 0; v < graph.V(); v++) {
+            for (Edge e : graph.adj(v)) {
+                int gap = Math.abs(e.other(v) - v);
+                gapSum += gap;
+                if (gap >= CACHE_LINE_VERTICES) far++;
+                entries++;
+            }
+        }
+        return new Locality(entries == 0 ? 0 : gapSum / entries, entries == 0 ? 0 : (double) far / entries);
+    }
+
+    public static class Locality {
+        private final double meanGap;
+        private final double farFraction;
+
+        Locality(double meanGap, double farFraction) {
+            this.meanGap = meanGap;
+            this.farFraction = farFraction;
+        }
+
+        public double meanGap() {
+            return meanGap;
+        }
+
+        public double farFraction() {
+            return farFraction;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("mean gap %.1f, %.1f%% neighbours beyond a cache line", meanGap, farFraction * 100);
+        }
+    }
+}
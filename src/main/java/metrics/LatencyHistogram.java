@@ -0,0 +1,72 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+    // Корзина i покрывает задержки в (2^(i-1), 2^i] микросекунд; последняя — всё, что больше
+    private static final int BUCKETS = 26;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+
+    public void record(long nanos) {
+        long micros = Math.max(1, (nanos + 999) / 1000);
+        int bucket = 64 - Long.numberOfLeadingZeros(micros - 1);
+        counts.incrementAndGet(Math.min(bucket, BUCKETS - 1));
+        totalNanos.add(nanos);
+        samples.increment();
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) counts.set(i, 0);
+        totalNanos.reset();
+        samples.reset();
+    }
+
+    public long count() {
+        return samples.sum();
+    }
+
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    public double meanMs() {
+        long n = samples.sum();
+        return n == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / n;
+    }
+
+    // Верхняя граница корзины, в которую попадает p-й процентиль
+    public double percentileMs(double p) {
+        long[] snapshot = bucketCounts();
+        long total = 0;
+        for (long c : snapshot) total += c;
+        if (total == 0) return 0.0;
+
+        long threshold = (long) Math.ceil(total * p / 100.0);
+        long cumulative = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= threshold) return upperBoundMicros(i) / 1000.0;
+        }
+        return upperBoundMicros(BUCKETS - 1) / 1000.0;
+    }
+
+    public long[] bucketCounts() {
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) snapshot[i] = counts.get(i);
+        return snapshot;
+    }
+
+    public static long[] bucketUpperBoundsMicros() {
+        long[] bounds = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) bounds[i] = upperBoundMicros(i);
+        return bounds;
+    }
+
+    private static long upperBoundMicros(int bucket) {
+        return 1L << bucket;
+    }
+}
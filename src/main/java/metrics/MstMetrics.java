@@ -0,0 +1,216 @@
+package metrics;
+
+import algorithms.Kruskal;
+import algorithms.PrimEngine;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class MstMetrics implements MstMetricsMBean {
+    public static final String OBJECT_NAME = "org.example:type=MstMetrics";
+
+    private static final MstMetrics INSTANCE = new MstMetrics();
+
+    private final LongAdder graphsProcessed = new LongAdder();
+    private final LongAdder edgesProcessed = new LongAdder();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    private final LatencyHistogram primLatency = new LatencyHistogram();
+    private final LongAdder primComparisons = new LongAdder();
+    private final LongAdder primEdgeVisits = new LongAdder();
+    private final LongAdder primQueueOperations = new LongAdder();
+    private final AtomicInteger primMaxHeapSize = new AtomicInteger();
+
+    private final LatencyHistogram kruskalLatency = new LatencyHistogram();
+    private final LongAdder kruskalComparisons = new LongAdder();
+    private final LongAdder kruskalUnionFindOperations = new LongAdder();
+    private final LongAdder kruskalSortOperations = new LongAdder();
+
+    public static MstMetrics get() {
+        return INSTANCE;
+    }
+
+    public static MstMetrics register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // уже зарегистрирован
+        } catch (JMException e) {
+            System.err.println("Error registering JMX metrics: " + e.getMessage());
+        }
+        return INSTANCE;
+    }
+
+    public void graphProcessed() {
+        graphsProcessed.increment();
+    }
+
+    public void setQueueDepth(int depth) {
+        queueDepth.set(depth);
+    }
+
+    public void queueDepthChanged(int delta) {
+        queueDepth.addAndGet(delta);
+    }
+
+    public void recordPrim(PrimEngine prim, int E, double... samplesMs) {
+        for (double ms : samplesMs) {
+            primLatency.record((long) (ms * 1_000_000.0));
+        }
+        int runs = samplesMs.length;
+        edgesProcessed.add((long) E * runs);
+        primComparisons.add((long) prim.getComparisonCount() * runs);
+        primEdgeVisits.add((long) prim.getEdgeVisitCount() * runs);
+        primQueueOperations.add((long) prim.getQueueOperations() * runs);
+        primMaxHeapSize.accumulateAndGet(prim.getMaxQueueSize(), Math::max);
+    }
+
+    public void recordKruskal(Kruskal kruskal, int E, double... samplesMs) {
+        for (double ms : samplesMs) {
+            kruskalLatency.record((long) (ms * 1_000_000.0));
+        }
+        int runs = samplesMs.length;
+        edgesProcessed.add((long) E * runs);
+        kruskalComparisons.add((long) kruskal.getComparisonCount() * runs);
+        kruskalUnionFindOperations.add((long) kruskal.getUnionFindOperations() * runs);
+        kruskalSortOperations.add((long) kruskal.getSortOperations() * runs);
+    }
+
+    @Override
+    public long getGraphsProcessed() {
+        return graphsProcessed.sum();
+    }
+
+    @Override
+    public long getEdgesProcessed() {
+        return edgesProcessed.sum();
+    }
+
+    @Override
+    public double getEdgesPerSecond() {
+        long busyNanos = primLatency.totalNanos() + kruskalLatency.totalNanos();
+        return busyNanos == 0 ? 0.0 : edgesProcessed.sum() * 1e9 / busyNanos;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    @Override
+    public long getPrimRuns() {
+        return primLatency.count();
+    }
+
+    @Override
+    public double getPrimLatencyMeanMs() {
+        return primLatency.meanMs();
+    }
+
+    @Override
+    public double getPrimLatencyP50Ms() {
+        return primLatency.percentileMs(50);
+    }
+
+    @Override
+    public double getPrimLatencyP99Ms() {
+        return primLatency.percentileMs(99);
+    }
+
+    @Override
+    public long[] getPrimLatencyHistogram() {
+        return primLatency.bucketCounts();
+    }
+
+    @Override
+    public long getPrimComparisons() {
+        return primComparisons.sum();
+    }
+
+    @Override
+    public long getPrimEdgeVisits() {
+        return primEdgeVisits.sum();
+    }
+
+    @Override
+    public long getPrimQueueOperations() {
+        return primQueueOperations.sum();
+    }
+
+    @Override
+    public int getPrimMaxHeapSize() {
+        return primMaxHeapSize.get();
+    }
+
+    @Override
+    public long getKruskalRuns() {
+        return kruskalLatency.count();
+    }
+
+    @Override
+    public double getKruskalLatencyMeanMs() {
+        return kruskalLatency.meanMs();
+    }
+
+    @Override
+    public double getKruskalLatencyP50Ms() {
+        return kruskalLatency.percentileMs(50);
+    }
+
+    @Override
+    public double getKruskalLatencyP99Ms() {
+        return kruskalLatency.percentileMs(99);
+    }
+
+    @Override
+    public long[] getKruskalLatencyHistogram() {
+        return kruskalLatency.bucketCounts();
+    }
+
+    @Override
+    public long getKruskalComparisons() {
+        return kruskalComparisons.sum();
+    }
+
+    @Override
+    public long getKruskalUnionFindOperations() {
+        return kruskalUnionFindOperations.sum();
+    }
+
+    @Override
+    public long getKruskalSortOperations() {
+        return kruskalSortOperations.sum();
+    }
+
+    @Override
+    public double getUnionFindOperationsPerSecond() {
+        long busyNanos = kruskalLatency.totalNanos();
+        return busyNanos == 0 ? 0.0 : kruskalUnionFindOperations.sum() * 1e9 / busyNanos;
+    }
+
+    @Override
+    public long[] getLatencyHistogramBoundsMicros() {
+        return LatencyHistogram.bucketUpperBoundsMicros();
+    }
+
+    @Override
+    public void reset() {
+        graphsProcessed.reset();
+        edgesProcessed.reset();
+        primLatency.reset();
+        primComparisons.reset();
+        primEdgeVisits.reset();
+        primQueueOperations.reset();
+        primMaxHeapSize.set(0);
+        kruskalLatency.reset();
+        kruskalComparisons.reset();
+        kruskalUnionFindOperations.reset();
+        kruskalSortOperations.reset();
+    }
+}
@@ -0,0 +1,51 @@
+package metrics;
+
+public interface MstMetricsMBean {
+    long getGraphsProcessed();
+
+    long getEdgesProcessed();
+
+    double getEdgesPerSecond();
+
+    int getQueueDepth();
+
+    long getPrimRuns();
+
+    double getPrimLatencyMeanMs();
+
+    double getPrimLatencyP50Ms();
+
+    double getPrimLatencyP99Ms();
+
+    long[] getPrimLatencyHistogram();
+
+    long getPrimComparisons();
+
+    long getPrimEdgeVisits();
+
+    long getPrimQueueOperations();
+
+    int getPrimMaxHeapSize();
+
+    long getKruskalRuns();
+
+    double getKruskalLatencyMeanMs();
+
+    double getKruskalLatencyP50Ms();
+
+    double getKruskalLatencyP99Ms();
+
+    long[] getKruskalLatencyHistogram();
+
+    long getKruskalComparisons();
+
+    long getKruskalUnionFindOperations();
+
+    long getKruskalSortOperations();
+
+    double getUnionFindOperationsPerSecond();
+
+    long[] getLatencyHistogramBoundsMicros();
+
+    void reset();
+}
@@ -0,0 +1,176 @@
+package org.example;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import graph.Edge;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Компактный формат результата: рёбра MST хранятся как номера во входном массиве "edges"
+ * (отсортированы, дельты в varint, Base64). Совпадающие деревья движков записываются один раз.
+ */
+public final class CompactResultFormat {
+    public static final String FORMAT = "mst-compact/1";
+
+    private CompactResultFormat() {
+    }
+
+    /**
+     * Дополняет сводку (блоки движков без "mstEdges") ссылками "tree" на общий массив "trees".
+     * Ключи trees — имена блоков сводки, например "PrimMST".
+     */
+    public static JsonObject compact(JsonObject summary, List<Edge> inputEdges,
+                                     Map<String, Iterable<Edge>> trees) {
+        EdgeIds ids = new EdgeIds(inputEdges);
+        JsonObject result = new JsonObject();
+        result.addProperty("format", FORMAT);
+        for (Map.Entry<String, JsonElement> entry : summary.entrySet()) {
+            result.add(entry.getKey(), entry.getValue().deepCopy());
+        }
+
+        List<int[]> distinct = new ArrayList<>();
+        JsonArray encoded = new JsonArray();
+        for (Map.Entry<String, Iterable<Edge>> tree : trees.entrySet()) {
+            JsonObject block = result.getAsJsonObject(tree.getKey());
+            if (block == null) throw new IllegalArgumentException("No result block " + tree.getKey());
+
+            int[] indices = ids.indicesOf(tree.getValue());
+            int slot = 0;
+            while (slot < distinct.size() && !Arrays.equals(distinct.get(slot), indices)) slot++;
+            if (slot == distinct.size()) {
+                distinct.add(indices);
+                encoded.add(encodeIndices(indices));
+            }
+            block.addProperty("tree", slot);
+        }
+        result.add("trees", encoded);
+        return result;
+    }
+
+    /**
+     * Восстанавливает полный документ: "tree" заменяется на "mstEdges" с именами вершин.
+     */
+    public static JsonObject expand(JsonObject compact, LoadedGraph input) {
+        if (!compact.has("format") || !FORMAT.equals(compact.get("format").getAsString())) {
+            throw new IllegalArgumentException("Not a " + FORMAT + " document");
+        }
+        JsonArray encoded = compact.getAsJsonArray("trees");
+        List<Edge> inputEdges = input.inputEdges();
+        List<String> names = input.vertexNames();
+
+        JsonObject result = new JsonObject();
+        for (Map.Entry<String, JsonElement> entry : compact.entrySet()) {
+            String key = entry.getKey();
+            if (key.equals("format") || key.equals("trees")) continue;
+
+            JsonElement value = entry.getValue().deepCopy();
+            if (value.isJsonObject() && value.getAsJsonObject().has("tree")) {
+                JsonObject block = value.getAsJsonObject();
+                int[] indices = decodeIndices(encoded.get(block.remove("tree").getAsInt()).getAsString());
+                JsonArray edges = new JsonArray();
+                for (int index : indices) {
+                    if (index >= inputEdges.size()) {
+                        throw new IllegalArgumentException("Edge index " + index + " is outside the input");
+                    }
+                    Edge edge = inputEdges.get(index);
+                    JsonObject edgeJson = new JsonObject();
+                    edgeJson.addProperty("source", names.get(edge.either()));
+                    edgeJson.addProperty("destination", names.get(edge.other(edge.either())));
+                    edgeJson.addProperty("weight", edge.weight());
+                    edges.add(edgeJson);
+                }
+                block.add("mstEdges", edges);
+            }
+            result.add(key, value);
+        }
+        return result;
+    }
+
+    // Возрастающие номера -> дельты (первая от -1) в LEB128 -> Base64 без выравнивания
+    public static String encodeIndices(int[] sorted) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(sorted.length + 4);
+        int previous = -1;
+        for (int index : sorted) {
+            int gap = index - previous - 1;
+            if (gap < 0) throw new IllegalArgumentException("Indices must be strictly increasing");
+            while ((gap & ~0x7F) != 0) {
+                bytes.write((gap & 0x7F) | 0x80);
+                gap >>>= 7;
+            }
+            bytes.write(gap);
+            previous = index;
+        }
+        return Base64.getEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    public static int[] decodeIndices(String encoded) {
+        byte[] bytes = Base64.getDecoder().decode(encoded);
+        int[] indices = new int[bytes.length];
+        int count = 0;
+        int previous = -1;
+        int i = 0;
+        while (i < bytes.length) {
+            int gap = 0;
+            int shift = 0;
+            int b;
+            do {
+                if (i == bytes.length || shift > 28) throw new IllegalArgumentException("Malformed varint");
+                b = bytes[i++];
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            previous = previous + 1 + gap;
+            indices[count++] = previous;
+        }
+        return Arrays.copyOf(indices, count);
+    }
+
+    // Номера рёбер во входном списке: сначала по ссылке, затем по (концы, вес)
+    private static final class EdgeIds {
+        private final Map<Edge, Integer> byIdentity = new IdentityHashMap<>();
+        private final List<Edge> inputEdges;
+        private Map<List<Long>, Integer> byValue;
+
+        EdgeIds(List<Edge> inputEdges) {
+            this.inputEdges = inputEdges;
+            for (int i = 0; i < inputEdges.size(); i++) byIdentity.putIfAbsent(inputEdges.get(i), i);
+        }
+
+        int[] indicesOf(Iterable<Edge> tree) {
+            List<Integer> found = new ArrayList<>();
+            for (Edge e : tree) {
+                Integer index = byIdentity.get(e);
+                if (index == null) index = byValue().get(key(e));
+                if (index == null) throw new IllegalArgumentException("Edge is not in the input: " + e);
+                found.add(index);
+            }
+            int[] indices = new int[found.size()];
+            for (int i = 0; i < indices.length; i++) indices[i] = found.get(i);
+            Arrays.sort(indices);
+            return indices;
+        }
+
+        private Map<List<Long>, Integer> byValue() {
+            if (byValue == null) {
+                byValue = new HashMap<>();
+                for (int i = 0; i < inputEdges.size(); i++) byValue.putIfAbsent(key(inputEdges.get(i)), i);
+            }
+            return byValue;
+        }
+
+        private static List<Long> key(Edge e) {
+            int v = e.either();
+            int w = e.other(v);
+            return List.of((long) Math.min(v, w), (long) Math.max(v, w), Double.doubleToLongBits(e.weight()));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package org.example;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import graph.CompressedGraph;
+import graph.Edge;
+import graph.Graph;
+import profiling.PhaseEvents;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class GraphLoader {
+    // Файлы не больше этого размера разбираются SmallGraphParser без загрузки Gson
+    public static final int SMALL_INPUT_BYTES = 64 * 1024;
+    // Файлы от этого размера читает ParallelGraphLoader
+    public static final long PARALLEL_INPUT_BYTES = 16L << 20;
+
+    private GraphLoader() {
+    }
+
+    // Gson создаётся при первом обращении: быстрый путь его не загружает
+    private static final class Json {
+        static final Gson GSON = new Gson();
+    }
+
+    public static LoadedGraph load(String inputFilePath) throws IOException {
+        PhaseEvents.Load loadEvent = new PhaseEvents.Load();
+        loadEvent.begin();
+        File file = new File(inputFilePath);
+        LoadedGraph loaded;
+        if (file.length() <= SMALL_INPUT_BYTES) {
+            loaded = fromText(new String(Files.readAllBytes(file.toPath()), Charset.defaultCharset()));
+        } else {
+            loaded = file.length() >= PARALLEL_INPUT_BYTES ? loadParallel(file) : null;
+            if (loaded == null) {
+                JsonObject json;
+                try (FileReader reader = new FileReader(file)) {
+                    json = parse(reader);
+                }
+                loaded = fromJson(json);
+            }
+        }
+        if (loadEvent.shouldCommit()) {
+            loadEvent.file = inputFilePath;
+            loadEvent.bytes = file.length();
+            loadEvent.commit();
+        }
+        return loaded;
+    }
+
+    /**
+     * Загрузка сразу в CompressedGraph: большие файлы разбирает ParallelGraphLoader
+     * в примитивные буферы, остальные — Gson; Graph и объекты Edge не создаются.
+     */
+    public static LoadedCompressedGraph loadCompressed(String inputFilePath) throws IOException {
+        PhaseEvents.Load loadEvent = new PhaseEvents.Load();
+        loadEvent.begin();
+        File file = new File(inputFilePath);
+        LoadedCompressedGraph loaded = null;
+        if (file.length() >= PARALLEL_INPUT_BYTES) {
+            try {
+                loaded = ParallelGraphLoader.loadCompressed(file.toPath());
+            } catch (IllegalArgumentException e) {
+                // раскладка не подходит для разбиения на куски
+            }
+        }
+        if (loaded == null) {
+            JsonObject json;
+            try (FileReader reader = new FileReader(file)) {
+                json = parse(reader);
+            }
+            EdgeColumns columns = EdgeColumns.of(json);
+            loaded = buildCompressed(columns.vertexNames, columns.sources, columns.destinations, columns.weights);
+        }
+        if (loadEvent.shouldCommit()) {
+            loadEvent.file = inputFilePath;
+            loadEvent.bytes = file.length();
+            loadEvent.commit();
+        }
+        return loaded;
+    }
+
+    // null — раскладка файла не подходит для разбиения на куски; точное сообщение об ошибке даст Gson
+    private static LoadedGraph loadParallel(File file) throws IOException {
+        try {
+            return ParallelGraphLoader.load(file.toPath());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public static LoadedGraph fromText(String text) {
+        if (text.length() <= SMALL_INPUT_BYTES) {
+            try {
+                return SmallGraphParser.parse(text);
+            } catch (IllegalArgumentException e) {
+                // Нестандартный или ошибочный документ: точный разбор и сообщение — от Gson
+            }
+        }
+        return fromJson(parse(new StringReader(text)));
+    }
+
+    public static JsonObject parse(Reader reader) {
+        JsonObject json = Json.GSON.fromJson(reader, JsonObject.class);
+        if (json == null) throw new IllegalArgumentException("Empty graph document");
+        return json;
+    }
+
+    public static LoadedGraph fromJson(JsonObject json) {
+        EdgeColumns columns = EdgeColumns.of(json);
+        return build(columns.vertexNames, columns.sources, columns.destinations, columns.weights);
+    }
+
+    static LoadedGraph build(List<String> vertexNames, List<String> sources,
+                             List<String> destinations, double[] weights) {
+        PhaseEvents.Build buildEvent = new PhaseEvents.Build();
+        buildEvent.begin();
+
+        int V = vertexNames.size();
+        int E = sources.size();
+        Graph graph = new Graph(V);
+
+        Map<String, Integer> vertexMap = new HashMap<>();
+        for (int i = 0; i < V; i++) {
+            vertexMap.put(vertexNames.get(i), i);
+        }
+
+        List<Edge> inputEdges = new ArrayList<>(E);
+        for (int i = 0; i < E; i++) {
+            int v = vertexIndex(vertexMap, sources.get(i));
+            int w = vertexIndex(vertexMap, destinations.get(i));
+            Edge edge = new Edge(v, w, weights[i]);
+            graph.addEdge(edge);
+            inputEdges.add(edge);
+        }
+
+        if (buildEvent.shouldCommit()) {
+            buildEvent.vertices = V;
+            buildEvent.edges = E;
+            buildEvent.commit();
+        }
+        return new LoadedGraph(graph, vertexNames, inputEdges);
+    }
+
+    static LoadedCompressedGraph buildCompressed(List<String> vertexNames, List<String> sources,
+                                                 List<String> destinations, double[] weights) {
+        PhaseEvents.Build buildEvent = new PhaseEvents.Build();
+        buildEvent.begin();
+
+        int V = vertexNames.size();
+        int E = sources.size();
+        Map<String, Integer> vertexMap = new HashMap<>();
+        for (int i = 0; i < V; i++) {
+            vertexMap.put(vertexNames.get(i), i);
+        }
+        int[] from = new int[E];
+        int[] to = new int[E];
+        for (int i = 0; i < E; i++) {
+            from[i] = vertexIndex(vertexMap, sources.get(i));
+            to[i] = vertexIndex(vertexMap, destinations.get(i));
+        }
+        CompressedGraph graph = CompressedGraph.fromArrays(V, from, to, weights, E);
+
+        if (buildEvent.shouldCommit()) {
+            buildEvent.vertices = V;
+            buildEvent.edges = E;
+            buildEvent.commit();
+        }
+        return new LoadedCompressedGraph(graph, vertexNames);
+    }
+
+    private static int vertexIndex(Map<String, Integer> vertexMap, String name) {
+        Integer index = vertexMap.get(name);
+        if (index == null) throw new IllegalArgumentException("Unknown vertex: " + name);
+        return index;
+    }
+
+    // Массивы документа Gson: имена вершин и поля рёбер по столбцам
+    private static final class EdgeColumns {
+        final List<String> vertexNames;
+        final List<String> sources;
+        final List<String> destinations;
+        final double[] weights;
+
+        private EdgeColumns(List<String> vertexNames, List<String> sources, List<String> destinations,
+                            double[] weights) {
+            this.vertexNames = vertexNames;
+            this.sources = sources;
+            this.destinations = destinations;
+            this.weights = weights;
+        }
+
+        static EdgeColumns of(JsonObject json) {
+            JsonArray verticesJson = json.getAsJsonArray("vertices");
+            JsonArray edgesJson = json.getAsJsonArray("edges");
+            if (verticesJson == null || edgesJson == null) {
+                throw new IllegalArgumentException("Graph must contain 'vertices' and 'edges' arrays");
+            }
+
+            List<String> vertexNames = new ArrayList<>(verticesJson.size());
+            for (JsonElement vertex : verticesJson) vertexNames.add(vertex.getAsString());
+
+            int E = edgesJson.size();
+            List<String> sources = new ArrayList<>(E);
+            List<String> destinations = new ArrayList<>(E);
+            double[] weights = new double[E];
+            for (JsonElement element : edgesJson) {
+                JsonObject e = element.getAsJsonObject();
+                weights[sources.size()] = e.get("weight").getAsDouble();
+                sources.add(e.get("source").getAsString());
+                destinations.add(e.get("destination").getAsString());
+            }
+            return new EdgeColumns(vertexNames, sources, destinations, weights);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.example;
+
+import graph.CompressedGraph;
+
+import java.util.List;
+
+// Вход, загруженный сразу в сжатые списки смежности: без Graph и объектов Edge
+public class LoadedCompressedGraph {
+    private final CompressedGraph graph;
+    private final List<String> vertexNames;
+
+    public LoadedCompressedGraph(CompressedGraph graph, List<String> vertexNames) {
+        this.graph = graph;
+        this.vertexNames = vertexNames;
+    }
+
+    public CompressedGraph graph() {
+        return graph;
+    }
+
+    public List<String> vertexNames() {
+        return vertexNames;
+    }
+
+    public int V() {
+        return graph.V();
+    }
+
+    public int E() {
+        return graph.E();
+    }
+}
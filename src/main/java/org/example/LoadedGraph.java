@@ -0,0 +1,69 @@
+package org.example;
+
+import algorithms.EdgeReducer;
+import graph.Edge;
+import graph.Graph;
+import graph.IntWeightGraph;
+import graph.VertexReordering;
+
+import java.util.List;
+
+public class LoadedGraph {
+    private final Graph graph;
+    private final List<String> vertexNames;
+    private final List<Edge> inputEdges;
+    private IntWeightGraph intGraph;
+    private boolean intGraphBuilt;
+
+    public LoadedGraph(Graph graph, List<String> vertexNames, List<Edge> inputEdges) {
+        this.graph = graph;
+        this.vertexNames = vertexNames;
+        this.inputEdges = inputEdges;
+    }
+
+    public Graph graph() {
+        return graph;
+    }
+
+    public List<String> vertexNames() {
+        return vertexNames;
+    }
+
+    // Рёбра в порядке массива "edges" входного файла
+    public List<Edge> inputEdges() {
+        return inputEdges;
+    }
+
+    // Целочисленное представление, если все веса — небольшие неотрицательные целые; иначе null.
+    // Строится при первом обращении: путям без DialPrim оно не нужно
+    public IntWeightGraph intGraph() {
+        if (!intGraphBuilt) {
+            intGraph = IntWeightGraph.hasBucketableWeights(inputEdges)
+                    ? IntWeightGraph.fromEdges(graph.V(), inputEdges)
+                    : null;
+            intGraphBuilt = true;
+        }
+        return intGraph;
+    }
+
+    // Тот же граф в новой нумерации вершин; имена переставлены, порядок inputEdges сохранён
+    public LoadedGraph reordered(VertexReordering reordering) {
+        List<Edge> edges = reordering.relabel(inputEdges);
+        Graph reordered = new Graph(graph.V());
+        for (Edge e : edges) reordered.addEdge(e);
+        return new LoadedGraph(reordered, reordering.names(vertexNames), edges);
+    }
+
+    // Граф для движков после EdgeReducer: inputEdges здесь — оставшиеся рёбра, не массив файла
+    public LoadedGraph reduced(EdgeReducer.Reduction reduction) {
+        return new LoadedGraph(reduction.graph(), vertexNames, reduction.edges());
+    }
+
+    public int V() {
+        return graph.V();
+    }
+
+    public int E() {
+        return graph.E();
+    }
+}
@@ -4,15 +4,38 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import graph.CompressedGraph;
 import graph.Edge;
 import graph.Graph;
+import graph.IntWeightGraph;
+import graph.VertexReordering;
+import metrics.MstMetrics;
+import profiling.PhaseEvents;
+import algorithms.CompressedPrim;
+import algorithms.DialPrim;
+import algorithms.EdgeReducer;
 import algorithms.Kruskal;
+import algorithms.MST;
+import algorithms.MSTSensitivity;
+import algorithms.MSTVerifier;
 import algorithms.Prim;
-
+import algorithms.PrimEngine;
+import benchmark.BenchmarkRunner;
+import benchmark.BenchmarkStore;
+import benchmark.Measurement;
+import benchmark.RegressionDetector;
+import benchmark.RunMetadata;
+import distributed.DistributedBoruvka;
+import distributed.LocalCluster;
+
+import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Supplier;
 
 public class Main {
 
@@ -24,11 +47,67 @@ public class Main {
     };
 
     private static final String BENCHMARK_FILE = "src/main/resources/benchmark_results.csv";
+    private static final String HISTORY_FILE = "src/main/resources/benchmark_history.csv";
+
+    // Состояние пакетного прогона (git rev-parse, JMX) создаётся только в пакетном режиме
+    private static final class Batch {
+        static final BenchmarkRunner RUNNER = BenchmarkRunner.fromSystemProperties();
+        static final BenchmarkStore HISTORY = new BenchmarkStore(HISTORY_FILE);
+        static final RegressionDetector DETECTOR = new RegressionDetector();
+        static final RunMetadata RUN = RunMetadata.capture();
+        static final MstMetrics METRICS = MstMetrics.register();
+    }
+
+    // Gson нужен только для записи файлов; --single обходится без него
+    private static final class Json {
+        static final Gson PRETTY = new GsonBuilder().setPrettyPrinting().create();
+        static final Gson PLAIN = new Gson();
+    }
+
+    private static boolean compactOutput;
 
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--serve")) {
+            serve(args.length > 1 ? Integer.parseInt(args[1]) : MstService.DEFAULT_PORT);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--expand")) {
+            if (args.length < 3) {
+                System.err.println("Usage: --expand <compact result> <input graph>");
+                return;
+            }
+            expand(args[1], args[2]);
+            return;
+        }
+        if (args.length > 1 && args[0].equals("--distributed")) {
+            distributed(args[1], args.length > 2 ? Integer.parseInt(args[2]) : 2);
+            return;
+        }
+        if (args.length > 1 && args[0].equals("--compressed")) {
+            compressed(args[1]);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--single")) {
+            if (args.length < 2) {
+                System.err.println("Usage: --single <input graph> [--format compact]");
+                System.exit(2);
+            }
+            boolean compact = args.length > 3 && args[2].equals("--format") && args[3].equals("compact");
+            if (!single(args[1], compact)) System.exit(1);
+            return;
+        }
+        if (args.length > 1 && args[0].equals("--format")) {
+            compactOutput = args[1].equals("compact");
+        }
+
         initializeBenchmarkFile();
+        System.out.printf("Run %s: commit=%s, jvm=%s, cores=%d, heap=%d MB, warmup=%d, iterations=%d%n",
+                Batch.RUN.getRunId(), Batch.RUN.getCommit(), Batch.RUN.getJvm(),
+                Batch.RUN.getCores(), Batch.RUN.getMaxHeapMb(),
+                Batch.RUNNER.getWarmupIterations(), Batch.RUNNER.getMeasuredIterations());
 
         // Обрабатываем каждый тестовый файл
+        Batch.METRICS.setQueueDepth(INPUT_FILES.length);
         for (String inputFile : INPUT_FILES) {
             System.out.println("\n" + "=".repeat(50));
             System.out.println("FILE PROCESSING: " + inputFile);
@@ -40,6 +119,7 @@ public class Main {
                 System.err.println("Error processing file " + inputFile + ": " + e.getMessage());
                 e.printStackTrace();
             }
+            Batch.METRICS.queueDepthChanged(-1);
         }
 
         System.out.println("\nALL FILES HAVE BEEN PROCESSED!");
@@ -47,64 +127,315 @@ public class Main {
         System.out.println("Individual reports in a folder src/main/resources/");
     }
 
-    private static void processGraphFile(String inputFilePath) {
+    private static void serve(int port) {
+        try {
+            MstService service = new MstService(port);
+            service.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(service::stop));
+            System.out.println("MST service listening on http://localhost:" + service.port() + "/mst");
+        } catch (IOException e) {
+            System.err.println("Error starting MST service: " + e.getMessage());
+        }
+    }
+
+    // Один файл без прогрева, истории и JMX: результат — одна строка JSON в stdout
+    private static boolean single(String inputFilePath, boolean compact) {
         try {
-            Gson gson = new Gson();
-            JsonObject json = gson.fromJson(new FileReader(inputFilePath), JsonObject.class);
-
-            JsonArray verticesJson = json.getAsJsonArray("vertices");
-            JsonArray edgesJson = json.getAsJsonArray("edges");
-
-            int V = verticesJson.size();
-            int E = edgesJson.size();
-            Graph graph = new Graph(V);
-
-            Map<String, Integer> vertexMap = new HashMap<>();
-            List<String> vertexNames = new ArrayList<>();
-            for (int i = 0; i < V; i++) {
-                String vertexName = verticesJson.get(i).getAsString();
-                vertexMap.put(vertexName, i);
-                vertexNames.add(vertexName);
+            LoadedGraph loaded = GraphLoader.load(inputFilePath);
+            EdgeReducer.Reduction reduction = reduce(loaded);
+            LoadedGraph engineInput = reduction == null ? loaded : loaded.reduced(reduction);
+
+            Supplier<PrimEngine> primEngine = primEngineFor(engineInput);
+            long start = System.nanoTime();
+            PrimEngine prim = primEngine.get();
+            double primTime = (System.nanoTime() - start) / 1_000_000.0;
+            start = System.nanoTime();
+            Kruskal kruskal = new Kruskal(engineInput.graph());
+            double kruskalTime = (System.nanoTime() - start) / 1_000_000.0;
+            MST primTree = complete(reduction, prim);
+            MST kruskalTree = complete(reduction, kruskal);
+
+            JsonObject result = compact
+                    ? buildCompactJson(loaded, prim, primTree, kruskal, kruskalTree, primTime, kruskalTime)
+                    : buildResultJson(loaded.graph(), prim, primTree, kruskal, kruskalTree,
+                            primTime, kruskalTime, loaded.vertexNames());
+            PhaseEvents.Write writeEvent = new PhaseEvents.Write();
+            writeEvent.begin();
+            System.out.println(result);
+            if (writeEvent.shouldCommit()) {
+                writeEvent.file = "stdout";
+                writeEvent.mstEdges = countEdges(primTree.edges()) + countEdges(kruskalTree.edges());
+                writeEvent.commit();
             }
+            return true;
+        } catch (IOException | IllegalArgumentException | JsonParseException e) {
+            System.err.println("Error processing file " + inputFilePath + ": " + e.getMessage());
+            return false;
+        }
+    }
 
-            for (int i = 0; i < edgesJson.size(); i++) {
-                JsonObject e = edgesJson.get(i).getAsJsonObject();
-                String src = e.get("source").getAsString();
-                String dst = e.get("destination").getAsString();
-                double w = e.get("weight").getAsDouble();
-                graph.addEdge(new Edge(vertexMap.get(src), vertexMap.get(dst), w));
+    // Загрузка сразу в CompressedGraph и CompressedPrim по нему: Graph не создаётся
+    private static void compressed(String inputFilePath) {
+        try {
+            long start = System.nanoTime();
+            LoadedCompressedGraph loaded = GraphLoader.loadCompressed(inputFilePath);
+            double loadTime = (System.nanoTime() - start) / 1_000_000.0;
+            start = System.nanoTime();
+            CompressedPrim prim = new CompressedPrim(loaded.graph());
+            double primTime = (System.nanoTime() - start) / 1_000_000.0;
+            System.out.printf(Locale.US, "CompressedPrim: weight=%.2f, edges=%d, V=%d, E=%d, load=%.3f ms, "
+                            + "prim=%.3f ms, adjacency=%.1f MB%n",
+                    prim.weight(), countEdges(prim.edges()), loaded.V(), loaded.E(), loadTime, primTime,
+                    loaded.graph().sizeInBytes() / 1048576.0);
+        } catch (IOException | IllegalArgumentException | JsonParseException e) {
+            System.err.println("Error processing file " + inputFilePath + ": " + e.getMessage());
+        }
+    }
+
+    // Борувка на воркерах — отдельных JVM на localhost
+    private static void distributed(String inputFilePath, int workers) {
+        try (LocalCluster cluster = LocalCluster.spawn(workers, List.of())) {
+            LoadedGraph loaded = GraphLoader.load(inputFilePath);
+            long start = System.nanoTime();
+            DistributedBoruvka mst = new DistributedBoruvka(loaded.graph(), cluster.addresses());
+            double time = (System.nanoTime() - start) / 1_000_000.0;
+            System.out.printf(Locale.US, "Distributed Boruvka on %d workers: weight=%.2f, edges=%d, rounds=%d, "
+                            + "sent=%d bytes, time=%.3f ms%n",
+                    workers, mst.weight(), countEdges(mst.edges()), mst.getRounds(), mst.getBytesSent(), time);
+        } catch (IOException e) {
+            System.err.println("Error running distributed MST: " + e.getMessage());
+        }
+    }
+
+    private static void expand(String compactPath, String inputPath) {
+        try (FileReader reader = new FileReader(compactPath)) {
+            JsonObject compact = GraphLoader.parse(reader);
+            JsonObject full = CompactResultFormat.expand(compact, GraphLoader.load(inputPath));
+            System.out.println(Json.PRETTY.toJson(full));
+        } catch (IOException | IllegalArgumentException | JsonParseException e) {
+            System.err.println("Error expanding " + compactPath + ": " + e.getMessage());
+        }
+    }
+
+    private static void processGraphFile(String inputFilePath) {
+        try {
+            LoadedGraph loaded = reorder(GraphLoader.load(inputFilePath));
+            Graph graph = loaded.graph();
+            List<String> vertexNames = loaded.vertexNames();
+            int V = graph.V();
+            int E = graph.E();
+            EdgeReducer.Reduction reduction = reduce(loaded);
+            LoadedGraph engineInput = loaded;
+            if (reduction != null) {
+                engineInput = loaded.reduced(reduction);
+                System.out.printf("  Reduction: %s%n", reduction);
             }
 
-            long startPrim = System.nanoTime();
-            Prim prim = new Prim(graph);
-            long endPrim = System.nanoTime();
+            Measurement<PrimEngine> primRun = Batch.RUNNER.measure(primEngineFor(engineInput));
+            Measurement<Kruskal> kruskalRun = Batch.RUNNER.measure(
+                    kruskalEngineFor(inputFilePath, loaded, engineInput));
 
-            long startKruskal = System.nanoTime();
-            Kruskal kruskal = new Kruskal(graph);
-            long endKruskal = System.nanoTime();
+            PrimEngine prim = primRun.result();
+            Kruskal kruskal = kruskalRun.result();
+            MST primTree = complete(reduction, prim);
+            MST kruskalTree = complete(reduction, kruskal);
+            double primTime = primRun.mean();
+            double kruskalTime = kruskalRun.mean();
 
-            double primTime = (endPrim - startPrim) / 1_000_000.0;
-            double kruskalTime = (endKruskal - startKruskal) / 1_000_000.0;
+            Batch.METRICS.recordPrim(prim, E, primRun.samplesMs());
+            Batch.METRICS.recordKruskal(kruskal, E, kruskalRun.samplesMs());
+            Batch.METRICS.graphProcessed();
 
             String outputFileName = inputFilePath.replace("input", "output")
-                    .replace(".json", "_result.json");
+                    .replace(".json", compactOutput ? "_result.compact.json" : "_result.json");
+
+            PhaseEvents.Write writeEvent = new PhaseEvents.Write();
+            writeEvent.begin();
+            if (compactOutput) {
+                saveCompactResults(outputFileName, loaded, prim, primTree, kruskal, kruskalTree,
+                        primRun, kruskalRun);
+            } else {
+                saveDetailedResults(outputFileName, graph, prim, primTree, kruskal, kruskalTree,
+                        primRun, kruskalRun, vertexNames);
+            }
+            if (writeEvent.shouldCommit()) {
+                writeEvent.file = outputFileName;
+                writeEvent.mstEdges = countEdges(primTree.edges()) + countEdges(kruskalTree.edges());
+                writeEvent.commit();
+            }
 
-            saveDetailedResults(outputFileName, graph, prim, kruskal,
-                    primTime, kruskalTime, vertexNames);
+            saveToBenchmark(inputFilePath, V, E, prim, primTree, kruskal, kruskalTree, primRun, kruskalRun);
 
-            saveToBenchmark(inputFilePath, V, E, prim, kruskal, primTime, kruskalTime);
+            printConsoleResults(inputFilePath, V, E, prim, primTree, kruskal, kruskalTree,
+                    primTime, kruskalTime);
 
-            printConsoleResults(inputFilePath, V, E, prim, kruskal, primTime, kruskalTime);
+            recordHistory(inputFilePath, primHistoryKey(prim), V, E, primRun);
+            recordHistory(inputFilePath, kruskalHistoryKey(), V, E, kruskalRun);
 
         } catch (IOException e) {
             System.err.println("Error reading/writing files: " + e.getMessage());
         }
     }
 
+    // -Dmst.reorder=BFS|RCM|DEGREE: вершины перенумеровываются перед движками, имена в отчёте прежние
+    private static LoadedGraph reorder(LoadedGraph loaded) {
+        String strategy = System.getProperty("mst.reorder");
+        if (strategy == null || strategy.isBlank()) return loaded;
+
+        // Цена перенумерации — порядок плюс пересборка графа; её окупают только ускорения движков
+        long start = System.nanoTime();
+        VertexReordering reordering = VertexReordering.compute(loaded.graph(),
+                VertexReordering.Strategy.valueOf(strategy.trim().toUpperCase(Locale.ROOT)));
+        double orderTime = (System.nanoTime() - start) / 1_000_000.0;
+        start = System.nanoTime();
+        LoadedGraph reordered = loaded.reordered(reordering);
+        double relabelTime = (System.nanoTime() - start) / 1_000_000.0;
+        System.out.printf(Locale.US, "  Reordering %s: order=%.3f ms, relabel=%.3f ms, %s -> %s%n",
+                reordering.strategy(), orderTime, relabelTime,
+                VertexReordering.measure(loaded.graph()), VertexReordering.measure(reordered.graph()));
+        return reordered;
+    }
+
+    // -Dmst.reduce[=leaves]: движки получают граф без петель и параллельных рёбер (с leaves —
+    // и без стянутых листьев), а их деревья дополняются через Reduction.complete
+    private static EdgeReducer.Reduction reduce(LoadedGraph loaded) {
+        String mode = System.getProperty("mst.reduce");
+        if (mode == null || mode.equalsIgnoreCase("false")) return null;
+        mode = mode.trim();
+        if (!mode.isEmpty() && !mode.equalsIgnoreCase("true") && !mode.equalsIgnoreCase("leaves")) {
+            throw new IllegalArgumentException("Unknown mst.reduce mode: " + mode);
+        }
+        return EdgeReducer.reduce(loaded.V(), loaded.inputEdges(), mode.equalsIgnoreCase("leaves"));
+    }
+
+    private static MST complete(EdgeReducer.Reduction reduction, MST engine) {
+        return reduction == null ? engine : reduction.complete(engine);
+    }
+
+    // -Dmst.sortedIndex=true: порядок рёбер по весу берётся из файла-спутника, Kruskal не сортирует.
+    // Индекс всегда строится по исходным рёбрам; после сокращения из него берутся оставшиеся
+    private static Supplier<Kruskal> kruskalEngineFor(String inputFilePath, LoadedGraph loaded,
+                                                      LoadedGraph engineInput) throws IOException {
+        if (!Boolean.getBoolean("mst.sortedIndex")) return () -> new Kruskal(engineInput.graph());
+
+        Path input = Path.of(inputFilePath);
+        SortedEdgeIndex index = SortedEdgeIndex.open(input, loaded);
+        System.out.printf("  Sorted edge index: %s %s%n",
+                index.fromSidecar() ? "mapped" : "built", SortedEdgeIndex.sidecarFor(input));
+        List<Edge> sorted = index.sortedEdges(loaded.inputEdges());
+        if (engineInput != loaded) {
+            Set<Edge> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+            kept.addAll(engineInput.inputEdges());
+            List<Edge> remaining = new ArrayList<>(kept.size());
+            for (Edge e : sorted) {
+                if (kept.contains(e)) remaining.add(e);
+            }
+            sorted = remaining;
+        }
+        List<Edge> order = sorted;
+        int V = loaded.graph().V();
+        return () -> new Kruskal(V, order);
+    }
+
+    // Kruskal по готовой перестановке не сортирует, поэтому сравнивается только с такими же запусками
+    private static String kruskalHistoryKey() {
+        return Boolean.getBoolean("mst.sortedIndex") ? "KruskalSortedIndex" : "Kruskal";
+    }
+
+    // Для целочисленных весов вместо Prim с двоичной кучей выбирается DialPrim;
+    // -Dmst.compressed=true: Prim по сжатым спискам смежности (CompressedPrim). Пакетному прогону
+    // Graph всё равно нужен для Kruskal; без Graph загружает только --compressed
+    static Supplier<PrimEngine> primEngineFor(LoadedGraph loaded) {
+        if (Boolean.getBoolean("mst.compressed")) {
+            CompressedGraph compressed = CompressedGraph.of(loaded.graph());
+            return () -> new CompressedPrim(compressed);
+        }
+        IntWeightGraph intGraph = loaded.intGraph();
+        if (intGraph != null) {
+            return () -> new DialPrim(intGraph);
+        }
+        return () -> new Prim(loaded.graph());
+    }
+
+    private static String primEngineName(PrimEngine prim) {
+        return prim.getClass().getSimpleName();
+    }
+
+    // DialPrim подменяет Prim автоматически, поэтому в истории оба идут под ключом "Prim"
+    // и сравниваются с прежними запусками; CompressedPrim включается явно и имеет свой ключ
+    private static String primHistoryKey(PrimEngine prim) {
+        return prim instanceof CompressedPrim ? primEngineName(prim) : "Prim";
+    }
+
     private static void saveDetailedResults(String outputFilePath, Graph graph,
-                                            Prim prim, Kruskal kruskal,
-                                            double primTime, double kruskalTime,
+                                            PrimEngine prim, MST primTree, Kruskal kruskal, MST kruskalTree,
+                                            Measurement<?> primRun, Measurement<?> kruskalRun,
                                             List<String> vertexNames) throws IOException {
+        JsonObject result = buildResultJson(graph, prim, primTree, kruskal, kruskalTree,
+                primRun.mean(), kruskalRun.mean(), vertexNames);
+        addResourceUsage(result.getAsJsonObject("PrimMST"), primRun);
+        addResourceUsage(result.getAsJsonObject("KruskalMST"), kruskalRun);
+        // -Dmst.sensitivity=true: допуски весов всех рёбер относительно дерева Kruskal
+        if (Boolean.getBoolean("mst.sensitivity")) {
+            result.add("sensitivity", getSensitivityJson(new MSTSensitivity(graph, kruskalTree), vertexNames));
+        }
+
+        try (FileWriter writer = new FileWriter(outputFilePath)) {
+            Json.PRETTY.toJson(result, writer);
+        }
+    }
+
+    // Рёбра хранятся номерами во входном файле; полный вид — через --expand
+    private static void saveCompactResults(String outputFilePath, LoadedGraph loaded,
+                                           PrimEngine prim, MST primTree, Kruskal kruskal, MST kruskalTree,
+                                           Measurement<?> primRun, Measurement<?> kruskalRun) throws IOException {
+        JsonObject result = buildCompactJson(loaded, prim, primTree, kruskal, kruskalTree,
+                primRun.mean(), kruskalRun.mean());
+        addResourceUsage(result.getAsJsonObject("PrimMST"), primRun);
+        addResourceUsage(result.getAsJsonObject("KruskalMST"), kruskalRun);
+        try (FileWriter writer = new FileWriter(outputFilePath)) {
+            Json.PLAIN.toJson(result, writer);
+        }
+    }
+
+    // Выделения — на один прогон, сборки — за все замеряемые прогоны
+    private static void addResourceUsage(JsonObject engine, Measurement<?> run) {
+        engine.addProperty("allocatedBytesPerRun", run.allocatedBytesPerRun());
+        engine.addProperty("gcCount", run.usage().gcCount());
+        engine.addProperty("gcPauseMs", run.usage().gcTimeMs());
+    }
+
+    private static JsonObject buildCompactJson(LoadedGraph loaded, PrimEngine prim, MST primTree,
+                                               Kruskal kruskal, MST kruskalTree,
+                                               double primTime, double kruskalTime) {
+        JsonObject summary = buildSummaryJson(loaded.graph(), prim, primTree, kruskal, kruskalTree,
+                primTime, kruskalTime);
+        Map<String, Iterable<Edge>> trees = new LinkedHashMap<>();
+        trees.put("PrimMST", primTree.edges());
+        trees.put("KruskalMST", kruskalTree.edges());
+        return CompactResultFormat.compact(summary, loaded.inputEdges(), trees);
+    }
+
+    static JsonObject buildResultJson(Graph graph, PrimEngine prim, Kruskal kruskal,
+                                      double primTime, double kruskalTime,
+                                      List<String> vertexNames) {
+        return buildResultJson(graph, prim, prim, kruskal, kruskal, primTime, kruskalTime, vertexNames);
+    }
+
+    // Счётчики берутся у движков, вес и рёбра — у деревьев: после -Dmst.reduce это разные объекты
+    private static JsonObject buildResultJson(Graph graph, PrimEngine prim, MST primTree,
+                                              Kruskal kruskal, MST kruskalTree,
+                                              double primTime, double kruskalTime,
+                                              List<String> vertexNames) {
+        JsonObject result = buildSummaryJson(graph, prim, primTree, kruskal, kruskalTree, primTime, kruskalTime);
+        result.getAsJsonObject("PrimMST").add("mstEdges", getMSTEdgesJson(primTree.edges(), vertexNames));
+        result.getAsJsonObject("KruskalMST").add("mstEdges", getMSTEdgesJson(kruskalTree.edges(), vertexNames));
+        return result;
+    }
+
+    private static JsonObject buildSummaryJson(Graph graph, PrimEngine prim, MST primTree,
+                                               Kruskal kruskal, MST kruskalTree,
+                                               double primTime, double kruskalTime) {
         JsonObject result = new JsonObject();
         result.addProperty("vertices", graph.V());
         result.addProperty("edges", graph.E());
@@ -112,23 +443,24 @@ public class Main {
 
 
         JsonObject primJson = new JsonObject();
-        primJson.addProperty("totalWeight", prim.weight());
+        primJson.addProperty("engine", primEngineName(prim));
+        primJson.addProperty("totalWeight", primTree.weight());
         primJson.addProperty("executionTimeMs", primTime);
         primJson.addProperty("operationCount", prim.getTotalOperations());
         primJson.addProperty("comparisonCount", prim.getComparisonCount());
         primJson.addProperty("edgeVisitCount", prim.getEdgeVisitCount());
         primJson.addProperty("queueOperations", prim.getQueueOperations());
-        primJson.add("mstEdges", getMSTEdgesJson(prim.edges(), vertexNames));
+        primJson.addProperty("verified", MSTVerifier.verify(graph, primTree).isValid());
 
 
         JsonObject kruskalJson = new JsonObject();
-        kruskalJson.addProperty("totalWeight", kruskal.weight());
+        kruskalJson.addProperty("totalWeight", kruskalTree.weight());
         kruskalJson.addProperty("executionTimeMs", kruskalTime);
         kruskalJson.addProperty("operationCount", kruskal.getTotalOperations());
         kruskalJson.addProperty("comparisonCount", kruskal.getComparisonCount());
         kruskalJson.addProperty("unionFindOperations", kruskal.getUnionFindOperations());
         kruskalJson.addProperty("sortOperations", kruskal.getSortOperations());
-        kruskalJson.add("mstEdges", getMSTEdgesJson(kruskal.edges(), vertexNames));
+        kruskalJson.addProperty("verified", MSTVerifier.verify(graph, kruskalTree).isValid());
 
 
         result.add("PrimMST", primJson);
@@ -136,37 +468,33 @@ public class Main {
 
 
         result.addProperty("algorithmsConsistent",
-                Math.abs(prim.weight() - kruskal.weight()) < 1e-9);
+                Math.abs(primTree.weight() - kruskalTree.weight()) < 1e-9);
 
-
-        Gson gsonPretty = new GsonBuilder().setPrettyPrinting().create();
-        try (FileWriter writer = new FileWriter(outputFilePath)) {
-            gsonPretty.toJson(result, writer);
-        }
+        return result;
     }
 
 
     private static void saveToBenchmark(String inputFile, int V, int E,
-                                        Prim prim, Kruskal kruskal,
-                                        double primTime, double kruskalTime) throws IOException {
+                                        PrimEngine prim, MST primTree, Kruskal kruskal, MST kruskalTree,
+                                        Measurement<?> primRun, Measurement<?> kruskalRun) throws IOException {
         try (FileWriter csv = new FileWriter(BENCHMARK_FILE, true)) {
             String graphName = getReadableGraphName(inputFile);
 
             csv.write(String.format(Locale.US,
-                    "%s,Prim,%.2f,%d,%d,\"{%s}\",%.4f%n",
-                    graphName, prim.weight(), V, E,
-                    getPrimMetrics(prim), primTime
+                    "%s,Prim,%.2f,%d,%d,\"{%s, %s}\",%.4f%n",
+                    graphName, primTree.weight(), V, E,
+                    getPrimMetrics(prim), getResourceMetrics(primRun), primRun.mean()
             ));
 
             csv.write(String.format(Locale.US,
-                    "%s,Kruskal,%.2f,%d,%d,\"{%s}\",%.4f%n",
-                    graphName, kruskal.weight(), V, E,
-                    getKruskalMetrics(kruskal), kruskalTime
+                    "%s,Kruskal,%.2f,%d,%d,\"{%s, %s}\",%.4f%n",
+                    graphName, kruskalTree.weight(), V, E,
+                    getKruskalMetrics(kruskal), getResourceMetrics(kruskalRun), kruskalRun.mean()
             ));
         }
     }
 
-    private static String getPrimMetrics(Prim prim) {
+    private static String getPrimMetrics(PrimEngine prim) {
         return String.format(
                 "'key_comparisons': %d",
                 prim.getComparisonCount()
@@ -181,14 +509,57 @@ public class Main {
         );
     }
 
+    private static String getResourceMetrics(Measurement<?> run) {
+        return String.format(
+                "'allocated_bytes': %d, 'gc_count': %d, 'gc_pause_ms': %d",
+                run.allocatedBytesPerRun(),
+                run.usage().gcCount(),
+                run.usage().gcTimeMs()
+        );
+    }
+
     private static void initializeBenchmarkFile() {
-        try (FileWriter csv = new FileWriter(BENCHMARK_FILE)) {
+        // Заголовок пишется только в новый файл — история прогонов не затирается
+        File file = new File(BENCHMARK_FILE);
+        if (file.exists() && file.length() > 0) return;
+
+        try (FileWriter csv = new FileWriter(file)) {
             csv.write("Graph Name,Algorithm,MST Cost,Vertices,Edges,Detailed Metrics,Average Execution Time (ms)\n");
         } catch (IOException e) {
             System.err.println("Error initializing CSV file: " + e.getMessage());
         }
     }
 
+    private static void recordHistory(String inputFile, String algorithm, int V, int E,
+                                      Measurement<?> measurement) throws IOException {
+        String graphKey = new File(inputFile).getName().replace(".json", "");
+        double[] baseline = Batch.HISTORY.findBaseline(graphKey, algorithm, Batch.RUN.getRunId(),
+                System.getProperty("benchmark.baseline"));
+        Batch.HISTORY.append(Batch.RUN, graphKey, algorithm, V, E, measurement);
+
+        double edgesPerSec = E / (measurement.median() / 1000.0);
+        System.out.printf(Locale.US, "  %-8s median=%.4f ms, p90=%.4f ms, p99=%.4f ms, %.0f edges/s%n",
+                algorithm + ":", measurement.median(), measurement.percentile(90),
+                measurement.percentile(99), edgesPerSec);
+        System.out.printf(Locale.US, "           %d bytes/run allocated, %d GC (%d ms) over %d runs%n",
+                measurement.allocatedBytesPerRun(), measurement.usage().gcCount(),
+                measurement.usage().gcTimeMs(), measurement.sampleCount());
+
+        if (baseline == null || baseline.length == 0) {
+            System.out.println("    no baseline yet");
+            return;
+        }
+
+        RegressionDetector.Comparison cmp = Batch.DETECTOR.compare(measurement.samplesMs(), baseline);
+        System.out.printf(Locale.US, "    vs baseline: median %.4f -> %.4f ms (x%.3f), p=%.4f  %s%n",
+                cmp.getBaselineMedian(), cmp.getCurrentMedian(), cmp.getRatio(), cmp.getPValue(),
+                cmp.getVerdict());
+        if (cmp.isRegression()) {
+            System.err.printf(Locale.US, "REGRESSION: %s on %s is %.1f%% slower (p=%.4f)%n",
+                    algorithm, graphKey, (cmp.getRatio() - 1.0) * 100.0, cmp.getPValue());
+        }
+    }
+
 
     private static String getReadableGraphName(String inputFile) {
         if (inputFile.contains("small")) return "Little Count";
@@ -205,7 +576,7 @@ public class Main {
     }
 
     private static void printConsoleResults(String inputFile, int V, int E,
-                                            Prim prim, Kruskal kruskal,
+                                            PrimEngine prim, MST primTree, Kruskal kruskal, MST kruskalTree,
                                             double primTime, double kruskalTime) {
         String graphName = inputFile.replace("src/main/resources/input_", "")
                 .replace(".json", "");
@@ -214,13 +585,13 @@ public class Main {
                 graphName, V, E, getGraphType(V, E));
 
         System.out.printf("  Prim:    вес=%.2f, время=%.3f ms, операции=%d%n",
-                prim.weight(), primTime, prim.getTotalOperations());
+                primTree.weight(), primTime, prim.getTotalOperations());
 
         System.out.printf("  Kruskal: вес=%.2f, время=%.3f ms, операции=%d%n",
-                kruskal.weight(), kruskalTime, kruskal.getTotalOperations());
+                kruskalTree.weight(), kruskalTime, kruskal.getTotalOperations());
 
         System.out.printf("  Согласованность: %s%n",
-                Math.abs(prim.weight() - kruskal.weight()) < 1e-9 ? "ДА" : "НЕТ");
+                Math.abs(primTree.weight() - kruskalTree.weight()) < 1e-9 ? "ДА" : "НЕТ");
     }
 
     private static JsonArray getMSTEdgesJson(Iterable<Edge> edges, List<String> vertexNames) {
@@ -235,6 +606,43 @@ public class Main {
         return edgesArray;
     }
     
+    private static JsonObject getSensitivityJson(MSTSensitivity sensitivity, List<String> vertexNames) {
+        JsonObject json = new JsonObject();
+        json.add("treeEdges", getSensitivityJson(sensitivity.treeEdges(), vertexNames));
+        json.add("nonTreeEdges", getSensitivityJson(sensitivity.nonTreeEdges(), vertexNames));
+        return json;
+    }
+
+    // Без замены (мост) tolerance и replacement не пишутся: вес не ограничен
+    private static JsonArray getSensitivityJson(List<MSTSensitivity.EdgeSensitivity> entries,
+                                                List<String> vertexNames) {
+        JsonArray array = new JsonArray();
+        for (MSTSensitivity.EdgeSensitivity entry : entries) {
+            Edge edge = entry.edge();
+            JsonObject json = new JsonObject();
+            json.addProperty("source", vertexNames.get(edge.either()));
+            json.addProperty("destination", vertexNames.get(edge.other(edge.either())));
+            json.addProperty("weight", edge.weight());
+            if (entry.bounded()) {
+                Edge replacement = entry.replacement();
+                JsonObject replacementJson = new JsonObject();
+                replacementJson.addProperty("source", vertexNames.get(replacement.either()));
+                replacementJson.addProperty("destination", vertexNames.get(replacement.other(replacement.either())));
+                replacementJson.addProperty("weight", replacement.weight());
+                json.addProperty("tolerance", entry.tolerance());
+                json.add("replacement", replacementJson);
+            }
+            array.add(json);
+        }
+        return array;
+    }
+
+    private static int countEdges(Iterable<Edge> edges) {
+        int count = 0;
+        for (Edge ignored : edges) count++;
+        return count;
+    }
+
     private static String getGraphType(int V, int E) {
         int maxEdges = V * (V - 1) / 2;
         if (maxEdges == 0) return "single";
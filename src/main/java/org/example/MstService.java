@@ -0,0 +1,374 @@
+package org.example;
+
+import algorithms.Kruskal;
+import algorithms.PrimEngine;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import graph.Edge;
+import graph.Graph;
+import metrics.MstMetrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Долгоживущий HTTP-сервис MST на localhost: JIT остаётся прогретым между запросами,
+ * маленькие графы считаются микропакетами, большие ограничиваются бюджетом рёбер.
+ * Крупные тела запросов допускаются по Content-Length до чтения: байтовый бюджет
+ * резервируется заранее и держится до ответа, иначе 429 без чтения тела.
+ */
+public class MstService {
+    public static final int DEFAULT_PORT = 8089;
+
+    private static final int SMALL_GRAPH_EDGES = 10_000;
+    private static final int MAX_BATCH = 64;
+    private static final long BATCH_WINDOW_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+    private static final int BATCH_QUEUE_CAPACITY = 4096;
+    private static final int LARGE_EDGE_BUDGET = 4_000_000;
+    private static final long LARGE_ADMISSION_TIMEOUT_MS = 200;
+    private static final int MAX_BODY_BYTES = 512 * 1024 * 1024;
+    // Тела больше порога читаются только под байтовым бюджетом (в КиБ)
+    private static final long LARGE_BODY_BYTES = 1024 * 1024;
+    private static final int DEFAULT_BODY_BUDGET_KB = 1024 * 1024;
+    // Сколько обработчик ждёт результат из пакета, прежде чем ответить 503
+    private static final long DEFAULT_BATCH_RESULT_TIMEOUT_MS = 5_000;
+
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final BlockingQueue<Pending> batchQueue = new ArrayBlockingQueue<>(BATCH_QUEUE_CAPACITY);
+    private final Semaphore largeBudget = new Semaphore(LARGE_EDGE_BUDGET);
+    private final Semaphore bodyBudget;
+    private final long batchResultTimeoutMs;
+    private final Thread batcher;
+    private final MstMetrics metrics = MstMetrics.register();
+    private final Gson gson = new Gson();
+
+    private volatile boolean running;
+
+    public MstService(int port) throws IOException {
+        this(port, DEFAULT_BODY_BUDGET_KB);
+    }
+
+    // bodyBudgetKb — сколько КиБ крупных тел может одновременно читаться и обрабатываться
+    public MstService(int port, int bodyBudgetKb) throws IOException {
+        this(port, bodyBudgetKb, DEFAULT_BATCH_RESULT_TIMEOUT_MS);
+    }
+
+    // batchResultTimeoutMs — сколько маленький граф может ждать своей очереди в пакете
+    public MstService(int port, int bodyBudgetKb, long batchResultTimeoutMs) throws IOException {
+        bodyBudget = new Semaphore(bodyBudgetKb);
+        this.batchResultTimeoutMs = batchResultTimeoutMs;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        handlers = newHandlerExecutor();
+        server.setExecutor(handlers);
+        server.createContext("/mst", this::handleMst);
+        server.createContext("/health", this::handleHealth);
+
+        batcher = new Thread(this::runBatches, "mst-batcher");
+        batcher.setDaemon(true);
+    }
+
+    public void start() {
+        warmUp();
+        running = true;
+        batcher.start();
+        server.start();
+    }
+
+    public void stop() {
+        running = false;
+        server.stop(0);
+        batcher.interrupt();
+        handlers.shutdownNow();
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    // Виртуальные потоки доступны начиная с Java 21; на более старых JVM — пул платформенных
+    private static ExecutorService newHandlerExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+            return Executors.newFixedThreadPool(threads, r -> {
+                Thread t = new Thread(r, "mst-handler");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    // Движки выбираются так же, как в compute: целые веса прогревают DialPrim, дробные — Prim
+    private void warmUp() {
+        Random random = new Random(42);
+        List<Edge> integral = new ArrayList<>();
+        List<Edge> fractional = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int v = i < 199 ? i + 1 : random.nextInt(200);
+            int w = i < 199 ? random.nextInt(v) : random.nextInt(200);
+            int weight = random.nextInt(100);
+            integral.add(new Edge(v, w, weight));
+            fractional.add(new Edge(v, w, weight + 0.5));
+        }
+        List<String> names = new ArrayList<>();
+        for (int v = 0; v < 200; v++) names.add("v" + v);
+        for (List<Edge> edges : List.of(integral, fractional)) {
+            Graph graph = new Graph(200);
+            for (Edge e : edges) graph.addEdge(e);
+            LoadedGraph loaded = new LoadedGraph(graph, names, edges);
+            for (int i = 0; i < 200; i++) {
+                Main.primEngineFor(loaded).get();
+                new Kruskal(graph);
+            }
+        }
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        JsonObject status = new JsonObject();
+        status.addProperty("status", running ? "ok" : "stopped");
+        status.addProperty("queueDepth", batchQueue.size());
+        status.addProperty("largeEdgeBudgetAvailable", largeBudget.availablePermits());
+        status.addProperty("bodyBudgetAvailableKb", bodyBudget.availablePermits());
+        respond(exchange, 200, status);
+    }
+
+    private void handleMst(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respondError(exchange, 405, "Use POST with a graph document");
+                return;
+            }
+
+            long length = contentLength(exchange);
+            if (length < 0) {
+                respondError(exchange, 411, "Content-Length is required");
+                return;
+            }
+            if (length > MAX_BODY_BYTES) {
+                respondError(exchange, 413, "Body exceeds " + MAX_BODY_BYTES + " bytes");
+                return;
+            }
+            int reserved = reserveBody(length);
+            if (reserved < 0) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                respondError(exchange, 429, "Too many large bodies in flight");
+                return;
+            }
+            try {
+                process(exchange, (int) length);
+            } finally {
+                bodyBudget.release(reserved);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void process(HttpExchange exchange, int length) throws IOException {
+        LoadedGraph loaded;
+        try {
+            String body = readBody(exchange.getRequestBody(), length);
+            loaded = GraphLoader.fromText(body);
+        } catch (BodyTooLargeException e) {
+            respondError(exchange, 413, e.getMessage());
+            return;
+        } catch (RuntimeException e) {
+            respondError(exchange, 400, "Invalid graph: " + e.getMessage());
+            return;
+        }
+
+        JsonObject result = loaded.E() <= SMALL_GRAPH_EDGES
+                ? submitSmall(exchange, loaded)
+                : computeLarge(exchange, loaded);
+        if (result != null) respond(exchange, 200, result);
+    }
+
+    // -1, если длина не объявлена (chunked) или не число
+    private static long contentLength(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (header == null) return -1;
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // КиБ, занятые у bodyBudget (0 для небольших тел); -1, если бюджет не освободился вовремя
+    private int reserveBody(long length) {
+        if (length <= LARGE_BODY_BYTES) return 0;
+        int kb = (int) ((length + 1023) >> 10);
+        try {
+            return bodyBudget.tryAcquire(kb, LARGE_ADMISSION_TIMEOUT_MS, TimeUnit.MILLISECONDS) ? kb : -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private JsonObject submitSmall(HttpExchange exchange, LoadedGraph loaded) throws IOException {
+        Pending pending = new Pending(loaded);
+        if (!batchQueue.offer(pending)) {
+            respondBusy(exchange, "Batch queue is full");
+            return null;
+        }
+        metrics.queueDepthChanged(1);
+        try {
+            return pending.future.get(batchResultTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Отменённый граф пакетный поток пропустит
+            pending.future.cancel(false);
+            respondBusy(exchange, "Batch result not ready in " + batchResultTimeoutMs + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respondError(exchange, 503, "Interrupted");
+        } catch (ExecutionException e) {
+            respondError(exchange, 500, String.valueOf(e.getCause().getMessage()));
+        }
+        return null;
+    }
+
+    private JsonObject computeLarge(HttpExchange exchange, LoadedGraph loaded) throws IOException {
+        int permits = Math.min(loaded.E(), LARGE_EDGE_BUDGET);
+        boolean admitted;
+        try {
+            admitted = largeBudget.tryAcquire(permits, LARGE_ADMISSION_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            respondBusy(exchange, "Too many large graphs in flight");
+            return null;
+        }
+        try {
+            return compute(loaded);
+        } finally {
+            largeBudget.release(permits);
+        }
+    }
+
+    private void runBatches() {
+        List<Pending> batch = new ArrayList<>(MAX_BATCH);
+        while (running) {
+            try {
+                batch.add(batchQueue.take());
+                long deadline = System.nanoTime() + BATCH_WINDOW_NANOS;
+                while (batch.size() < MAX_BATCH) {
+                    long left = deadline - System.nanoTime();
+                    if (left <= 0) break;
+                    Pending next = batchQueue.poll(left, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                break;
+            }
+
+            for (Pending pending : batch) {
+                try {
+                    if (!pending.future.isDone()) pending.future.complete(compute(pending.graph));
+                } catch (RuntimeException e) {
+                    pending.future.completeExceptionally(e);
+                }
+                metrics.queueDepthChanged(-1);
+            }
+            batch.clear();
+        }
+    }
+
+    private JsonObject compute(LoadedGraph loaded) {
+        Graph graph = loaded.graph();
+
+        long startPrim = System.nanoTime();
+        PrimEngine prim = Main.primEngineFor(loaded).get();
+        long endPrim = System.nanoTime();
+
+        long startKruskal = System.nanoTime();
+        Kruskal kruskal = new Kruskal(graph);
+        long endKruskal = System.nanoTime();
+
+        double primTime = (endPrim - startPrim) / 1_000_000.0;
+        double kruskalTime = (endKruskal - startKruskal) / 1_000_000.0;
+
+        metrics.recordPrim(prim, graph.E(), primTime);
+        metrics.recordKruskal(kruskal, graph.E(), kruskalTime);
+        metrics.graphProcessed();
+
+        return Main.buildResultJson(graph, prim, kruskal, primTime, kruskalTime, loaded.vertexNames());
+    }
+
+    // Читается не больше объявленной длины: под неё зарезервирован бюджет
+    private static String readBody(InputStream in, int length) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(length, 64 * 1024));
+        byte[] buffer = new byte[64 * 1024];
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            if (out.size() + n > length) {
+                throw new BodyTooLargeException("Body exceeds declared Content-Length " + length);
+            }
+            out.write(buffer, 0, n);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private void respondBusy(HttpExchange exchange, String message) throws IOException {
+        exchange.getResponseHeaders().set("Retry-After", "1");
+        respondError(exchange, 503, message);
+    }
+
+    private void respondError(HttpExchange exchange, int status, String message) throws IOException {
+        JsonObject error = new JsonObject();
+        error.addProperty("error", message);
+        respond(exchange, status, error);
+    }
+
+    private void respond(HttpExchange exchange, int status, JsonObject body) throws IOException {
+        byte[] bytes = gson.toJson(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static class Pending {
+        final LoadedGraph graph;
+        final CompletableFuture<JsonObject> future = new CompletableFuture<>();
+
+        Pending(LoadedGraph graph) {
+            this.graph = graph;
+        }
+    }
+
+    private static class BodyTooLargeException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        BodyTooLargeException(String message) {
+            super(message);
+        }
+    }
+}
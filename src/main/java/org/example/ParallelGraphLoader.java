@@ -0,0 +1,540 @@
+package org.example;
+
+import graph.CompressedGraph;
+import graph.ConcurrentGraphBuilder;
+import graph.Edge;
+import graph.Graph;
+import profiling.PhaseEvents;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Параллельная загрузка больших входных файлов: файл отображается в память, массив "edges"
+ * режется на куски по границам объектов, потоки разбирают куски в примитивные буферы,
+ * сверяя имена вершин по общему ConcurrentHashMap, затем рёбра собираются в граф
+ * ConcurrentGraphBuilder.fromEdges в порядке файла (или, в loadCompressed, сразу в CompressedGraph).
+ * Поддерживается раскладка {"vertices": [...], ..., "edges": [...]} с "edges" последним
+ * членом; иное — IllegalArgumentException, и GraphLoader читает файл последовательно.
+ */
+public final class ParallelGraphLoader {
+    // Меньшие куски не окупают запуск задачи; большие не помещаются в одно отображение
+    private static final long MIN_CHUNK_BYTES = 1L << 20;
+    private static final long MAX_CHUNK_BYTES = 256L << 20;
+    // Сколько байт до номинальной границы просматривается назад и сколько вперёд
+    private static final int LOOK_BEHIND = 256;
+    private static final long LOOK_AHEAD = 16L << 20;
+
+    private ParallelGraphLoader() {
+    }
+
+    public static LoadedGraph load(Path file) throws IOException {
+        return load(file, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static LoadedGraph load(Path file, int threads) throws IOException {
+        return load(file, threads, ParallelGraphLoader::assembleGraph);
+    }
+
+    public static LoadedCompressedGraph loadCompressed(Path file) throws IOException {
+        return loadCompressed(file, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Те же куски, но рёбра из примитивных буферов сразу уходят в CompressedGraph.fromArrays:
+     * ни объектов Edge, ни Graph.
+     */
+    public static LoadedCompressedGraph loadCompressed(Path file, int threads) throws IOException {
+        return load(file, threads, ParallelGraphLoader::assembleCompressed);
+    }
+
+    // Сборка результата из разобранных кусков; offset — номер первого ребра каждого куска
+    private interface Assembler<T> {
+        T assemble(Header header, List<Chunk> parsed, int[] offset, ExecutorService pool, int threads)
+                throws IOException, InterruptedException;
+    }
+
+    private static <T> T load(Path file, int threads, Assembler<T> assembler) throws IOException {
+        if (threads < 1) throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        Charset charset = Charset.defaultCharset();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            Header header = Header.read(channel, size, charset);
+            long edgesEnd = edgesEnd(channel, size);
+            if (edgesEnd < header.edgesStart) throw new IllegalArgumentException("Malformed 'edges' array");
+
+            long[] bounds = chunkBounds(channel, header.edgesStart, edgesEnd, threads);
+            int chunks = bounds.length - 1;
+
+            ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, chunks), r -> {
+                Thread t = new Thread(r, "graph-loader");
+                t.setDaemon(true);
+                return t;
+            });
+            try {
+                List<Callable<Chunk>> parses = new ArrayList<>(chunks);
+                for (int c = 0; c < chunks; c++) {
+                    long from = bounds[c];
+                    long to = bounds[c + 1];
+                    parses.add(() -> Chunk.parse(channel, from, to, header.vertexIndex, charset));
+                }
+                List<Chunk> parsed = await(pool.invokeAll(parses));
+
+                int[] offset = new int[chunks + 1];
+                for (int c = 0; c < chunks; c++) {
+                    long next = (long) offset[c] + parsed.get(c).count;
+                    if (next > Integer.MAX_VALUE) throw new IllegalArgumentException("Too many edges: " + next);
+                    offset[c + 1] = (int) next;
+                }
+                return assembler.assemble(header, parsed, offset, pool, threads);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while loading " + file, e);
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    private static LoadedGraph assembleGraph(Header header, List<Chunk> parsed, int[] offset,
+                                             ExecutorService pool, int threads)
+            throws IOException, InterruptedException {
+        int chunks = parsed.size();
+        int E = offset[chunks];
+        Edge[] edges = new Edge[E];
+        List<Callable<Chunk>> fills = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            Chunk chunk = parsed.get(c);
+            int base = offset[c];
+            fills.add(() -> {
+                for (int i = 0; i < chunk.count; i++) {
+                    edges[base + i] = new Edge(chunk.sources[i], chunk.destinations[i], chunk.weights[i]);
+                }
+                return chunk;
+            });
+        }
+        await(pool.invokeAll(fills));
+
+        PhaseEvents.Build buildEvent = new PhaseEvents.Build();
+        buildEvent.begin();
+        int V = header.vertexNames.size();
+        Graph graph = ConcurrentGraphBuilder.fromEdges(V, edges, E, threads);
+        if (buildEvent.shouldCommit()) {
+            buildEvent.vertices = V;
+            buildEvent.edges = E;
+            buildEvent.commit();
+        }
+        return new LoadedGraph(graph, header.vertexNames, Arrays.asList(edges));
+    }
+
+    private static LoadedCompressedGraph assembleCompressed(Header header, List<Chunk> parsed, int[] offset,
+                                                            ExecutorService pool, int threads) {
+        PhaseEvents.Build buildEvent = new PhaseEvents.Build();
+        buildEvent.begin();
+        int chunks = parsed.size();
+        int E = offset[chunks];
+        int[] from = new int[E];
+        int[] to = new int[E];
+        double[] weight = new double[E];
+        // Буферы куска больше не нужны после копирования: сборщик может забрать их сразу
+        for (int c = 0; c < chunks; c++) {
+            Chunk chunk = parsed.set(c, null);
+            System.arraycopy(chunk.sources, 0, from, offset[c], chunk.count);
+            System.arraycopy(chunk.destinations, 0, to, offset[c], chunk.count);
+            System.arraycopy(chunk.weights, 0, weight, offset[c], chunk.count);
+        }
+        int V = header.vertexNames.size();
+        CompressedGraph graph = CompressedGraph.fromArrays(V, from, to, weight, E);
+        if (buildEvent.shouldCommit()) {
+            buildEvent.vertices = V;
+            buildEvent.edges = E;
+            buildEvent.commit();
+        }
+        return new LoadedCompressedGraph(graph, header.vertexNames);
+    }
+
+    private static <T> List<T> await(List<Future<T>> futures) throws IOException, InterruptedException {
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) throw (IOException) cause;
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                throw new IOException(cause);
+            }
+        }
+        return results;
+    }
+
+    // Позиция ']' массива "edges": файл должен заканчиваться на "] }" с пробелами
+    private static long edgesEnd(FileChannel channel, long size) throws IOException {
+        long from = Math.max(0, size - LOOK_BEHIND);
+        MappedByteBuffer tail = channel.map(FileChannel.MapMode.READ_ONLY, from, size - from);
+        int i = tail.limit() - 1;
+        while (i >= 0 && isWhitespace(tail.get(i))) i--;
+        if (i < 0 || tail.get(i) != '}') throw new IllegalArgumentException("Document must end with '}'");
+        i--;
+        while (i >= 0 && isWhitespace(tail.get(i))) i--;
+        if (i < 0 || tail.get(i) != ']') throw new IllegalArgumentException("'edges' must be the last member");
+        return from + i;
+    }
+
+    /**
+     * Границы кусков: номинальные точки сдвигаются вперёд до начала очередного объекта
+     * ("}" "," "{" с пробелами между и '"' после '{'). Строка с такой последовательностью внутри
+     * даст ошибку разбора куска, и загрузка откатится на последовательную.
+     */
+    private static long[] chunkBounds(FileChannel channel, long start, long end, int threads) throws IOException {
+        long length = end - start;
+        long chunks = Math.max(1, Math.min(threads * 4L, length / MIN_CHUNK_BYTES));
+        chunks = Math.max(chunks, (length + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+
+        long[] bounds = new long[(int) chunks + 1];
+        bounds[0] = start;
+        int count = 1;
+        for (long c = 1; c < chunks; c++) {
+            long nominal = start + length * c / chunks;
+            if (nominal <= bounds[count - 1]) continue;
+            long boundary = nextObjectStart(channel, nominal, end);
+            if (boundary > bounds[count - 1] && boundary < end) bounds[count++] = boundary;
+        }
+        bounds[count++] = end;
+        return Arrays.copyOf(bounds, count);
+    }
+
+    private static long nextObjectStart(FileChannel channel, long nominal, long end) throws IOException {
+        long from = Math.max(0, nominal - LOOK_BEHIND);
+        long to = Math.min(end, nominal + LOOK_AHEAD);
+        MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        for (int i = (int) (nominal - from); i < window.limit(); i++) {
+            if (window.get(i) != '{') continue;
+
+            int j = i + 1;
+            while (j < window.limit() && isWhitespace(window.get(j))) j++;
+            if (j >= window.limit() || window.get(j) != '"') continue;
+
+            int k = i - 1;
+            while (k >= 0 && isWhitespace(window.get(k))) k--;
+            if (k < 0 || window.get(k) != ',') continue;
+            k--;
+            while (k >= 0 && isWhitespace(window.get(k))) k--;
+            if (k >= 0 && window.get(k) == '}') return from + i;
+        }
+        // Хвост массива без следующего объекта: кусок просто продолжается до конца
+        if (to == end) return end;
+        throw new IllegalArgumentException("No edge object boundary near offset " + nominal);
+    }
+
+    static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    // Начало документа до '[' массива "edges": имена вершин и словарь имя -> номер
+    private static final class Header {
+        final List<String> vertexNames = new ArrayList<>();
+        final ConcurrentHashMap<String, Integer> vertexIndex = new ConcurrentHashMap<>();
+        long edgesStart;
+
+        static Header read(FileChannel channel, long size, Charset charset) throws IOException {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, Integer.MAX_VALUE));
+            Cursor in = new Cursor(buffer, 0, buffer.limit(), charset);
+            Header header = new Header();
+            boolean seenVertices = false;
+
+            in.expect('{');
+            while (true) {
+                String key = in.string();
+                in.expect(':');
+                if (key.equals("vertices") && !seenVertices) {
+                    in.expect('[');
+                    if (!in.consume(']')) {
+                        do {
+                            header.vertexNames.add(in.string());
+                        } while (in.consume(','));
+                        in.expect(']');
+                    }
+                    seenVertices = true;
+                } else if (key.equals("edges")) {
+                    if (!seenVertices) throw new IllegalArgumentException("'vertices' must precede 'edges'");
+                    in.expect('[');
+                    header.edgesStart = in.position();
+                    break;
+                } else {
+                    in.skipValue();
+                }
+                in.expect(',');
+            }
+
+            for (int i = 0; i < header.vertexNames.size(); i++) {
+                header.vertexIndex.put(header.vertexNames.get(i), i);
+            }
+            return header;
+        }
+    }
+
+    // Рёбра одного куска в примитивных массивах
+    private static final class Chunk {
+        int[] sources = new int[1024];
+        int[] destinations = new int[1024];
+        double[] weights = new double[1024];
+        int count;
+
+        static Chunk parse(FileChannel channel, long from, long to, ConcurrentHashMap<String, Integer> vertexIndex,
+                           Charset charset) throws IOException {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+            Cursor in = new Cursor(buffer, 0, buffer.limit(), charset);
+            Chunk chunk = new Chunk();
+            in.skipWhitespace();
+            while (!in.atEnd()) {
+                chunk.edge(in, vertexIndex);
+                // Кусок кончается запятой перед следующим куском; последний — концом массива
+                if (!in.consume(',')) {
+                    in.skipWhitespace();
+                    if (!in.atEnd()) throw in.unsupported();
+                }
+                in.skipWhitespace();
+            }
+            return chunk;
+        }
+
+        private void edge(Cursor in, ConcurrentHashMap<String, Integer> vertexIndex) {
+            String source = null;
+            String destination = null;
+            double w = Double.NaN;
+            boolean hasWeight = false;
+
+            in.expect('{');
+            if (!in.consume('}')) {
+                do {
+                    String key = in.string();
+                    in.expect(':');
+                    if (key.equals("source")) {
+                        source = in.string();
+                    } else if (key.equals("destination")) {
+                        destination = in.string();
+                    } else if (key.equals("weight")) {
+                        w = in.number();
+                        hasWeight = true;
+                    } else {
+                        in.skipValue();
+                    }
+                } while (in.consume(','));
+                in.expect('}');
+            }
+            if (source == null || destination == null || !hasWeight) throw in.unsupported();
+
+            if (count == weights.length) {
+                sources = Arrays.copyOf(sources, count * 2);
+                destinations = Arrays.copyOf(destinations, count * 2);
+                weights = Arrays.copyOf(weights, count * 2);
+            }
+            sources[count] = vertexIndex(vertexIndex, source);
+            destinations[count] = vertexIndex(vertexIndex, destination);
+            weights[count] = w;
+            count++;
+        }
+
+        private static int vertexIndex(ConcurrentHashMap<String, Integer> vertexIndex, String name) {
+            Integer index = vertexIndex.get(name);
+            if (index == null) throw new IllegalArgumentException("Unknown vertex: " + name);
+            return index;
+        }
+    }
+
+    // Разбор JSON по байтам отображённого файла; схема та же, что у SmallGraphParser
+    private static final class Cursor {
+        private final MappedByteBuffer buffer;
+        private final int limit;
+        private final Charset charset;
+        private int pos;
+
+        Cursor(MappedByteBuffer buffer, int pos, int limit, Charset charset) {
+            this.buffer = buffer;
+            this.pos = pos;
+            this.limit = limit;
+            this.charset = charset;
+        }
+
+        int position() {
+            return pos;
+        }
+
+        boolean atEnd() {
+            return pos >= limit;
+        }
+
+        String string() {
+            skipWhitespace();
+            if (pos >= limit || buffer.get(pos) != '"') throw unsupported();
+            int start = ++pos;
+            while (pos < limit) {
+                byte b = buffer.get(pos);
+                if (b == '"') return decode(start, pos++);
+                if (b == '\\') return escapedString(start);
+                pos++;
+            }
+            throw unsupported();
+        }
+
+        private String decode(int start, int end) {
+            byte[] bytes = new byte[end - start];
+            buffer.get(start, bytes);
+            return new String(bytes, charset);
+        }
+
+        // Редкий случай: строка с экранированием разбирается посимвольно после декодирования
+        private String escapedString(int start) {
+            while (pos < limit) {
+                byte b = buffer.get(pos++);
+                if (b == '\\') {
+                    pos++;
+                } else if (b == '"') {
+                    return unescape(decode(start, pos - 1));
+                }
+            }
+            throw unsupported();
+        }
+
+        private String unescape(String raw) {
+            StringBuilder sb = new StringBuilder(raw.length());
+            for (int i = 0; i < raw.length(); i++) {
+                char c = raw.charAt(i);
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                if (++i >= raw.length()) throw unsupported();
+                char escaped = raw.charAt(i);
+                int simple = "\"\\/bfnrt".indexOf(escaped);
+                if (simple >= 0) {
+                    sb.append("\"\\/\b\f\n\r\t".charAt(simple));
+                } else if (escaped == 'u' && i + 4 < raw.length()) {
+                    try {
+                        sb.append((char) Integer.parseInt(raw.substring(i + 1, i + 5), 16));
+                    } catch (NumberFormatException e) {
+                        throw unsupported();
+                    }
+                    i += 4;
+                } else {
+                    throw unsupported();
+                }
+            }
+            return sb.toString();
+        }
+
+        /**
+         * Целые до 15 цифр собираются напрямую (точно представимы в double), остальное —
+         * Double.parseDouble, как у Gson.
+         */
+        double number() {
+            skipWhitespace();
+            int start = pos;
+            boolean negative = pos < limit && buffer.get(pos) == '-';
+            if (negative) pos++;
+            long value = 0;
+            int digits = 0;
+            while (pos < limit) {
+                byte b = buffer.get(pos);
+                if (b < '0' || b > '9') break;
+                value = value * 10 + (b - '0');
+                digits++;
+                pos++;
+            }
+            // "-0" разбирается Double.parseDouble: нужен -0.0
+            boolean simple = digits > 0 && digits <= 15 && !(negative && value == 0);
+            while (pos < limit && isNumberChar(buffer.get(pos))) {
+                simple = false;
+                pos++;
+            }
+            if (start == pos) throw unsupported();
+            if (simple) return negative ? -value : value;
+            try {
+                return Double.parseDouble(decode(start, pos));
+            } catch (NumberFormatException e) {
+                throw unsupported();
+            }
+        }
+
+        private static boolean isNumberChar(byte b) {
+            return (b >= '0' && b <= '9') || b == '+' || b == '-' || b == '.' || b == 'e' || b == 'E';
+        }
+
+        void skipValue() {
+            skipWhitespace();
+            if (pos >= limit) throw unsupported();
+            byte b = buffer.get(pos);
+            if (b == '"') {
+                string();
+            } else if (b == '{') {
+                pos++;
+                if (consume('}')) return;
+                do {
+                    string();
+                    expect(':');
+                    skipValue();
+                } while (consume(','));
+                expect('}');
+            } else if (b == '[') {
+                pos++;
+                if (consume(']')) return;
+                do {
+                    skipValue();
+                } while (consume(','));
+                expect(']');
+            } else if (matches("true")) {
+                pos += 4;
+            } else if (matches("false")) {
+                pos += 5;
+            } else if (matches("null")) {
+                pos += 4;
+            } else {
+                number();
+            }
+        }
+
+        private boolean matches(String literal) {
+            if (pos + literal.length() > limit) return false;
+            for (int i = 0; i < literal.length(); i++) {
+                if (buffer.get(pos + i) != literal.charAt(i)) return false;
+            }
+            return true;
+        }
+
+        void expect(char c) {
+            if (!consume(c)) throw unsupported();
+        }
+
+        boolean consume(char c) {
+            skipWhitespace();
+            if (pos < limit && buffer.get(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        void skipWhitespace() {
+            while (pos < limit && isWhitespace(buffer.get(pos))) pos++;
+        }
+
+        IllegalArgumentException unsupported() {
+            return new IllegalArgumentException("Unsupported input at offset " + pos);
+        }
+    }
+}
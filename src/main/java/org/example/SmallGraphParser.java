@@ -0,0 +1,220 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Разбор небольших входных файлов без Gson: только схема {"vertices": [...], "edges": [...]}.
+ * Всё, что выходит за неё (нестроковые имена, веса-строки, неизвестная структура), приводит к
+ * IllegalArgumentException — GraphLoader в этом случае откатывается на Gson.
+ */
+final class SmallGraphParser {
+    private final String text;
+    private int pos;
+
+    private final List<String> vertexNames = new ArrayList<>();
+    private final List<String> sources = new ArrayList<>();
+    private final List<String> destinations = new ArrayList<>();
+    private double[] weights = new double[16];
+    private boolean seenVertices;
+    private boolean seenEdges;
+
+    private SmallGraphParser(String text) {
+        this.text = text;
+    }
+
+    static LoadedGraph parse(String text) {
+        SmallGraphParser parser = new SmallGraphParser(text);
+        parser.document();
+        if (!parser.seenVertices || !parser.seenEdges) {
+            throw new IllegalArgumentException("Graph must contain 'vertices' and 'edges' arrays");
+        }
+        return GraphLoader.build(parser.vertexNames, parser.sources, parser.destinations,
+                Arrays.copyOf(parser.weights, parser.sources.size()));
+    }
+
+    private void document() {
+        expect('{');
+        if (!consume('}')) {
+            do {
+                String key = string();
+                expect(':');
+                if (key.equals("vertices") && !seenVertices) {
+                    vertices();
+                    seenVertices = true;
+                } else if (key.equals("edges") && !seenEdges) {
+                    edges();
+                    seenEdges = true;
+                } else {
+                    skipValue();
+                }
+            } while (consume(','));
+            expect('}');
+        }
+        skipWhitespace();
+        if (pos != text.length()) throw unsupported();
+    }
+
+    private void vertices() {
+        expect('[');
+        if (consume(']')) return;
+        do {
+            vertexNames.add(string());
+        } while (consume(','));
+        expect(']');
+    }
+
+    private void edges() {
+        expect('[');
+        if (consume(']')) return;
+        do {
+            edge();
+        } while (consume(','));
+        expect(']');
+    }
+
+    private void edge() {
+        String source = null;
+        String destination = null;
+        double weight = Double.NaN;
+        boolean hasWeight = false;
+
+        expect('{');
+        if (!consume('}')) {
+            do {
+                String key = string();
+                expect(':');
+                if (key.equals("source")) {
+                    source = string();
+                } else if (key.equals("destination")) {
+                    destination = string();
+                } else if (key.equals("weight")) {
+                    weight = number();
+                    hasWeight = true;
+                } else {
+                    skipValue();
+                }
+            } while (consume(','));
+            expect('}');
+        }
+        if (source == null || destination == null || !hasWeight) throw unsupported();
+
+        int index = sources.size();
+        if (index == weights.length) weights = Arrays.copyOf(weights, index * 2);
+        sources.add(source);
+        destinations.add(destination);
+        weights[index] = weight;
+    }
+
+    private String string() {
+        skipWhitespace();
+        if (pos >= text.length() || text.charAt(pos) != '"') throw unsupported();
+        int start = ++pos;
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c == '"') return text.substring(start, pos++);
+            if (c == '\\') return escapedString(start);
+            pos++;
+        }
+        throw unsupported();
+    }
+
+    private String escapedString(int start) {
+        StringBuilder sb = new StringBuilder().append(text, start, pos);
+        while (pos < text.length()) {
+            char c = text.charAt(pos++);
+            if (c == '"') return sb.toString();
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (pos >= text.length()) break;
+            char escaped = text.charAt(pos++);
+            int simple = "\"\\/bfnrt".indexOf(escaped);
+            if (simple >= 0) {
+                sb.append("\"\\/\b\f\n\r\t".charAt(simple));
+            } else if (escaped == 'u' && pos + 4 <= text.length()) {
+                try {
+                    sb.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                } catch (NumberFormatException e) {
+                    throw unsupported();
+                }
+                pos += 4;
+            } else {
+                throw unsupported();
+            }
+        }
+        throw unsupported();
+    }
+
+    private double number() {
+        skipWhitespace();
+        int start = pos;
+        while (pos < text.length() && "+-0123456789.eE".indexOf(text.charAt(pos)) >= 0) pos++;
+        if (start == pos) throw unsupported();
+        try {
+            return Double.parseDouble(text.substring(start, pos));
+        } catch (NumberFormatException e) {
+            throw unsupported();
+        }
+    }
+
+    private void skipValue() {
+        skipWhitespace();
+        if (pos >= text.length()) throw unsupported();
+        char c = text.charAt(pos);
+        if (c == '"') {
+            string();
+        } else if (c == '{') {
+            pos++;
+            if (consume('}')) return;
+            do {
+                string();
+                expect(':');
+                skipValue();
+            } while (consume(','));
+            expect('}');
+        } else if (c == '[') {
+            pos++;
+            if (consume(']')) return;
+            do {
+                skipValue();
+            } while (consume(','));
+            expect(']');
+        } else if (text.startsWith("true", pos)) {
+            pos += 4;
+        } else if (text.startsWith("false", pos)) {
+            pos += 5;
+        } else if (text.startsWith("null", pos)) {
+            pos += 4;
+        } else {
+            number();
+        }
+    }
+
+    private void expect(char c) {
+        if (!consume(c)) throw unsupported();
+    }
+
+    private boolean consume(char c) {
+        skipWhitespace();
+        if (pos < text.length() && text.charAt(pos) == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') return;
+            pos++;
+        }
+    }
+
+    private IllegalArgumentException unsupported() {
+        return new IllegalArgumentException("Unsupported input at offset " + pos);
+    }
+}
@@ -0,0 +1,168 @@
+package org.example;
+
+import algorithms.EdgeOrder;
+import graph.Edge;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.zip.CRC32;
+
+/**
+ * Файл-спутник <input>.sorted.idx: перестановка рёбер входного файла по весу (устойчиво,
+ * при равенстве — по номеру во входе). Заголовок — магия, версия, CRC32 содержимого входа,
+ * число рёбер и CRC32 самой перестановки, дальше int-перестановка. Файл отображается в память,
+ * поэтому повторные прогоны Kruskal на том же входе обходятся без сортировки; испорченная
+ * перестановка отвергается по контрольной сумме и строится заново.
+ */
+public final class SortedEdgeIndex {
+    public static final String SUFFIX = ".sorted.idx";
+
+    private static final int MAGIC = 0x4D535349;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 8;
+    // Отрезки отображения при подсчёте CRC: файл может быть больше 2 ГБ
+    private static final long CHECKSUM_CHUNK = 1L << 30;
+
+    private final IntBuffer order;
+    private final boolean fromSidecar;
+
+    private SortedEdgeIndex(IntBuffer order, boolean fromSidecar) {
+        this.order = order;
+        this.fromSidecar = fromSidecar;
+    }
+
+    public static Path sidecarFor(Path input) {
+        return input.resolveSibling(input.getFileName() + SUFFIX);
+    }
+
+    /**
+     * Готовый спутник, если его контрольная сумма совпадает с входом; иначе индекс строится
+     * заново и записывается рядом с входом.
+     */
+    public static SortedEdgeIndex open(Path input, LoadedGraph loaded) throws IOException {
+        long checksum = checksum(input);
+        int edges = loaded.inputEdges().size();
+        Path sidecar = sidecarFor(input);
+
+        SortedEdgeIndex index = read(sidecar, checksum, edges);
+        if (index != null) return index;
+
+        index = build(loaded.inputEdges());
+        index.write(sidecar, checksum);
+        return index;
+    }
+
+    // null, если спутника нет, он другого формата, построен для другого содержимого или повреждён
+    static SortedEdgeIndex read(Path sidecar, long checksum, int edges) throws IOException {
+        if (!Files.isRegularFile(sidecar) || Files.size(sidecar) != HEADER_BYTES + 4L * edges) return null;
+
+        MappedByteBuffer map;
+        try (FileChannel channel = FileChannel.open(sidecar, StandardOpenOption.READ)) {
+            map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (map.getInt(0) != MAGIC || map.getInt(4) != VERSION
+                || map.getLong(8) != checksum || map.getInt(16) != edges) {
+            return null;
+        }
+        map.position(HEADER_BYTES);
+        ByteBuffer payload = map.slice();
+        if (payloadChecksum(payload) != map.getLong(20)) return null;
+        return new SortedEdgeIndex(payload.asIntBuffer(), true);
+    }
+
+    public static SortedEdgeIndex build(List<Edge> inputEdges) {
+        double[] weights = new double[inputEdges.size()];
+        for (int i = 0; i < weights.length; i++) weights[i] = inputEdges.get(i).weight();
+        return new SortedEdgeIndex(IntBuffer.wrap(EdgeOrder.byWeight(weights)), false);
+    }
+
+    // Запись через временный файл: параллельный читатель не увидит недописанный спутник
+    void write(Path sidecar, long checksum) throws IOException {
+        Path tmp = sidecar.resolveSibling(sidecar.getFileName() + ".tmp");
+        int edges = size();
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + 4L * edges);
+            map.putInt(MAGIC).putInt(VERSION).putLong(checksum).putInt(edges).putLong(0);
+            ByteBuffer payload = map.slice();
+            payload.asIntBuffer().put(order.duplicate().rewind());
+            map.putLong(20, payloadChecksum(payload));
+            map.force();
+        }
+        try {
+            Files.move(tmp, sidecar, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, sidecar, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public static long checksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long offset = 0; offset < size; offset += CHECKSUM_CHUNK) {
+                crc.update(channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(CHECKSUM_CHUNK, size - offset)));
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static long payloadChecksum(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        return crc.getValue();
+    }
+
+    public int size() {
+        return order.limit();
+    }
+
+    // Номер во входе ребра, стоящего на месте rank по весу
+    public int get(int rank) {
+        return order.get(rank);
+    }
+
+    // true — перестановка прочитана из спутника, а не построена сортировкой
+    public boolean fromSidecar() {
+        return fromSidecar;
+    }
+
+    /**
+     * Рёбра входа в порядке веса без копирования: для new Kruskal(V, sortedEdges).
+     */
+    public List<Edge> sortedEdges(List<Edge> inputEdges) {
+        if (inputEdges.size() != size()) {
+            throw new IllegalArgumentException("Index covers " + size() + " edges, graph has " + inputEdges.size());
+        }
+        return new SortedView(inputEdges);
+    }
+
+    private final class SortedView extends AbstractList<Edge> implements RandomAccess {
+        private final List<Edge> inputEdges;
+
+        SortedView(List<Edge> inputEdges) {
+            this.inputEdges = inputEdges;
+        }
+
+        @Override
+        public Edge get(int rank) {
+            return inputEdges.get(order.get(rank));
+        }
+
+        @Override
+        public int size() {
+            return order.limit();
+        }
+    }
+}
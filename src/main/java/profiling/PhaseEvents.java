@@ -0,0 +1,96 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * События Java Flight Recorder для фаз конвейера MST.
+ * Пока запись не включена, begin()/shouldCommit() почти ничего не стоят.
+ */
+public final class PhaseEvents {
+
+    private PhaseEvents() {
+    }
+
+    @Name("mst.Load")
+    @Label("Load Input")
+    @Category({"MST", "Pipeline"})
+    @Description("Parsing a JSON input file")
+    @StackTrace(false)
+    public static class Load extends Event {
+        @Label("File")
+        public String file;
+
+        @Label("Size")
+        @DataAmount
+        public long bytes;
+    }
+
+    @Name("mst.Build")
+    @Label("Build Graph")
+    @Category({"MST", "Pipeline"})
+    @StackTrace(false)
+    public static class Build extends Event {
+        @Label("Vertices")
+        public int vertices;
+
+        @Label("Edges")
+        public int edges;
+    }
+
+    @Name("mst.Sort")
+    @Label("Kruskal Edge Sort")
+    @Category({"MST", "Kruskal"})
+    @StackTrace(false)
+    public static class Sort extends Event {
+        @Label("Edges")
+        public int edges;
+    }
+
+    @Name("mst.UnionFind")
+    @Label("Kruskal Union-Find")
+    @Category({"MST", "Kruskal"})
+    @StackTrace(false)
+    public static class UnionFind extends Event {
+        @Label("Edges Scanned")
+        public int edgesScanned;
+
+        @Label("Unions")
+        public int unions;
+
+        @Label("Union-Find Operations")
+        public int operations;
+    }
+
+    @Name("mst.Heap")
+    @Label("Prim Heap Operations")
+    @Category({"MST", "Prim"})
+    @StackTrace(false)
+    public static class Heap extends Event {
+        @Label("Queue Operations")
+        public int queueOperations;
+
+        @Label("Edge Visits")
+        public int edgeVisits;
+
+        @Label("Max Heap Size")
+        public int maxHeapSize;
+    }
+
+    @Name("mst.Write")
+    @Label("Write Result")
+    @Category({"MST", "Pipeline"})
+    @StackTrace(false)
+    public static class Write extends Event {
+        @Label("File")
+        public String file;
+
+        @Label("MST Edges")
+        public int mstEdges;
+    }
+}
@@ -0,0 +1,106 @@
+import algorithms.DialPrim;
+import algorithms.Kruskal;
+import algorithms.Prim;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import graph.Edge;
+import org.example.CompactResultFormat;
+import org.example.GraphLoader;
+import org.example.LoadedGraph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Тестирование компактного формата результата.
+ */
+public class CompactResultFormatTest {
+
+    private static final String GRAPH = "{\"vertices\": [\"A\", \"B\", \"C\", \"D\"], \"edges\": ["
+            + "{\"source\": \"A\", \"destination\": \"B\", \"weight\": 1},"
+            + "{\"source\": \"A\", \"destination\": \"C\", \"weight\": 2},"
+            + "{\"source\": \"B\", \"destination\": \"C\", \"weight\": 3},"
+            + "{\"source\": \"B\", \"destination\": \"D\", \"weight\": 4},"
+            + "{\"source\": \"C\", \"destination\": \"D\", \"weight\": 5}]}";
+
+    private LoadedGraph load() {
+        return GraphLoader.fromJson(GraphLoader.parse(new StringReader(GRAPH)));
+    }
+
+    private JsonObject summary() {
+        JsonObject summary = new JsonObject();
+        summary.addProperty("vertices", 4);
+        summary.add("PrimMST", new JsonObject());
+        summary.add("KruskalMST", new JsonObject());
+        return summary;
+    }
+
+    @Test
+    void testAgreeingEnginesShareOneTree() {
+        LoadedGraph loaded = load();
+        Map<String, Iterable<Edge>> trees = new LinkedHashMap<>();
+        trees.put("PrimMST", new Prim(loaded.graph()).edges());
+        trees.put("KruskalMST", new Kruskal(loaded.graph()).edges());
+
+        JsonObject compact = CompactResultFormat.compact(summary(), loaded.inputEdges(), trees);
+
+        assertEquals(1, compact.getAsJsonArray("trees").size());
+        assertEquals(0, compact.getAsJsonObject("PrimMST").get("tree").getAsInt());
+        assertEquals(0, compact.getAsJsonObject("KruskalMST").get("tree").getAsInt());
+        assertArrayEquals(new int[]{0, 1, 3},
+                CompactResultFormat.decodeIndices(compact.getAsJsonArray("trees").get(0).getAsString()));
+    }
+
+    @Test
+    void testExpandRestoresNamedEdges() {
+        LoadedGraph loaded = load();
+        Map<String, Iterable<Edge>> trees = new LinkedHashMap<>();
+        trees.put("PrimMST", new DialPrim(loaded.intGraph()).edges());
+        trees.put("KruskalMST", new Kruskal(loaded.graph()).edges());
+
+        JsonObject compact = CompactResultFormat.compact(summary(), loaded.inputEdges(), trees);
+        JsonObject full = CompactResultFormat.expand(compact, loaded);
+
+        assertFalse(full.has("trees"));
+        assertEquals(4, full.get("vertices").getAsInt());
+        JsonArray edges = full.getAsJsonObject("KruskalMST").getAsJsonArray("mstEdges");
+        assertEquals(3, edges.size());
+        JsonObject last = edges.get(2).getAsJsonObject();
+        assertEquals("B", last.get("source").getAsString());
+        assertEquals("D", last.get("destination").getAsString());
+        assertEquals(4.0, last.get("weight").getAsDouble(), 1e-9);
+        assertEquals(edges, full.getAsJsonObject("PrimMST").getAsJsonArray("mstEdges"));
+    }
+
+    @Test
+    void testIndexEncodingRoundTrip() {
+        Random random = new Random(5);
+        int[] indices = new int[1000];
+        int value = -1;
+        for (int i = 0; i < indices.length; i++) {
+            value += 1 + (i % 100 == 0 ? random.nextInt(1 << 24) : random.nextInt(4));
+            indices[i] = value;
+        }
+        String encoded = CompactResultFormat.encodeIndices(indices);
+
+        assertArrayEquals(indices, CompactResultFormat.decodeIndices(encoded));
+        assertArrayEquals(new int[0], CompactResultFormat.decodeIndices(CompactResultFormat.encodeIndices(new int[0])));
+        assertThrows(IllegalArgumentException.class, () -> CompactResultFormat.encodeIndices(new int[]{3, 3}));
+    }
+
+    @Test
+    void testRejectsForeignEdgesAndDocuments() {
+        LoadedGraph loaded = load();
+        Map<String, Iterable<Edge>> trees = new LinkedHashMap<>();
+        trees.put("PrimMST", List.of(new Edge(0, 3, 1.0)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> CompactResultFormat.compact(summary(), loaded.inputEdges(), trees));
+        assertThrows(IllegalArgumentException.class, () -> CompactResultFormat.expand(summary(), loaded));
+    }
+}
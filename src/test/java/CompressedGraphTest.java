@@ -0,0 +1,109 @@
+import algorithms.CompressedPrim;
+import algorithms.Prim;
+import graph.CompressedGraph;
+import graph.Edge;
+import graph.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тестирование сжатых списков смежности и алгоритма Прима по ним.
+ */
+public class CompressedGraphTest {
+
+    @Test
+    void testAdjacencyRoundTrip() {
+        Random random = new Random(11);
+        for (int round = 0; round < 30; round++) {
+            int V = 1 + random.nextInt(50);
+            Graph G = TestGraphs.randomGraph(random, V, random.nextInt(V * 4 + 1),
+                    round % 2 == 0 ? () -> random.nextInt(10) : random::nextDouble);
+            CompressedGraph compressed = CompressedGraph.of(G);
+
+            assertEquals(G.V(), compressed.V());
+            for (int v = 0; v < V; v++) {
+                assertEquals(sortedEntries(G.adj(v), v), sortedEntries(compressed.adj(v), v),
+                        "Смежность вершины " + v + " должна совпадать (раунд " + round + ")");
+            }
+        }
+    }
+
+    @Test
+    void testFarNeighboursAndParallelEdges() {
+        int V = 1 << 22;
+        List<Edge> edges = List.of(
+                new Edge(0, V - 1, 2.5), new Edge(V - 1, 0, 2.5), new Edge(V / 2, 3, -1e9),
+                new Edge(V / 2, V - 1, 0.125), new Edge(7, 7, 1));
+        CompressedGraph compressed = CompressedGraph.fromEdges(V, edges);
+
+        assertEquals(4, compressed.E(), "Петля не хранится");
+        assertEquals(3, compressed.distinctWeights());
+        assertEquals(List.of("0-4194303 2.5", "0-4194303 2.5"), describe(compressed, 0));
+        assertEquals(List.of("2097152-3 -1.0E9", "2097152-4194303 0.125"), describe(compressed, V / 2));
+        assertEquals(3, compressed.degree(V - 1));
+        assertEquals(0, compressed.degree(7));
+    }
+
+    @Test
+    void testPrimMatchesOnRandomGraphs() {
+        Random random = new Random(5);
+        for (int round = 0; round < 50; round++) {
+            int V = 1 + random.nextInt(80);
+            Graph G = TestGraphs.randomGraph(random, V, random.nextInt(V * 4 + 1),
+                    round % 2 == 0 ? () -> random.nextInt(10) : random::nextDouble);
+
+            CompressedPrim compressed = new CompressedPrim(CompressedGraph.of(G));
+            Prim prim = new Prim(G);
+
+            assertEquals(prim.weight(), compressed.weight(), 1e-9, "Вес должен совпадать с Prim (раунд " + round + ")");
+            int primEdges = 0;
+            int compressedEdges = 0;
+            for (Edge e : prim.edges()) primEdges++;
+            for (Edge e : compressed.edges()) compressedEdges++;
+            assertEquals(primEdges, compressedEdges, "Число рёбер леса должно совпадать");
+        }
+    }
+
+    @Test
+    void testGridIsSeveralTimesSmaller() {
+        int side = 200;
+        Random random = new Random(3);
+        Graph G = new Graph(side * side);
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = r * side + c;
+                if (c + 1 < side) G.addEdge(new Edge(v, v + 1, random.nextInt(1000)));
+                if (r + 1 < side) G.addEdge(new Edge(v, v + side, random.nextInt(1000)));
+            }
+        }
+        CompressedGraph compressed = CompressedGraph.of(G);
+
+        // Graph не меньше: объект Edge (32 байта) и две ссылки на ребро, ArrayList (24 байта) на вершину
+        long lowerBoundGraphBytes = G.E() * (32L + 2 * 4) + G.V() * 24L;
+        assertTrue(compressed.sizeInBytes() * 4 < lowerBoundGraphBytes,
+                "Сжатый граф должен быть хотя бы вчетверо меньше: " + compressed.sizeInBytes());
+        assertEquals(new Prim(G).weight(), new CompressedPrim(compressed).weight(), 1e-9);
+    }
+
+    // Петли отбрасываются: сжатый граф их не хранит
+    private static List<String> sortedEntries(Iterable<Edge> adj, int v) {
+        List<String> result = new ArrayList<>();
+        for (Edge e : adj) {
+            if (e.other(v) != v) result.add(e.other(v) + " " + e.weight());
+        }
+        result.sort(null);
+        return result;
+    }
+
+    private static List<String> describe(CompressedGraph graph, int v) {
+        List<String> result = new ArrayList<>();
+        CompressedGraph.Cursor cursor = graph.cursor();
+        cursor.reset(v);
+        while (cursor.next()) result.add(v + "-" + cursor.vertex() + " " + cursor.weight());
+        return result;
+    }
+}
@@ -0,0 +1,89 @@
+import graph.ConcurrentGraphBuilder;
+import graph.Edge;
+import graph.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тестирование параллельного построения графа.
+ */
+public class ConcurrentGraphBuilderTest {
+
+    private static List<Edge> adj(Graph G, int v) {
+        List<Edge> list = new ArrayList<>();
+        for (Edge e : G.adj(v)) list.add(e);
+        return list;
+    }
+
+    @Test
+    void testSingleProducerMatchesSequentialGraph() {
+        Random random = new Random(3);
+        int V = 500;
+        Graph expected = new Graph(V);
+        ConcurrentGraphBuilder builder = new ConcurrentGraphBuilder(V);
+        for (int i = 0; i < 20000; i++) {
+            Edge e = new Edge(random.nextInt(V), random.nextInt(V), random.nextDouble());
+            expected.addEdge(e);
+            builder.addEdge(e);
+        }
+
+        Graph G = builder.build(4);
+
+        assertEquals(expected.E(), G.E());
+        for (int v = 0; v < V; v++) {
+            assertEquals(adj(expected, v), adj(G, v), "Порядок рёбер вершины " + v);
+        }
+    }
+
+    @Test
+    void testConcurrentProducers() throws Exception {
+        int V = 1000;
+        int perThread = 25000;
+        ConcurrentGraphBuilder builder = new ConcurrentGraphBuilder(V);
+        Thread[] loaders = new Thread[4];
+        for (int t = 0; t < loaders.length; t++) {
+            int seed = t;
+            loaders[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < perThread; i++) {
+                    builder.addEdge(new Edge(random.nextInt(V), random.nextInt(V), seed));
+                }
+            });
+            loaders[t].start();
+        }
+        for (Thread loader : loaders) loader.join();
+
+        Graph G = builder.build(3);
+
+        assertEquals(loaders.length * perThread, G.E());
+        int degreeSum = 0;
+        for (int v = 0; v < V; v++) {
+            for (Edge e : G.adj(v)) {
+                int w = e.other(v);
+                assertTrue(w >= 0 && w < V);
+                degreeSum++;
+            }
+        }
+        assertEquals(2 * G.E(), degreeSum);
+    }
+
+    @Test
+    void testBuiltGraphStaysMutableAndBuilderReusable() {
+        ConcurrentGraphBuilder builder = new ConcurrentGraphBuilder(3);
+        builder.addEdge(new Edge(0, 0, 1.0));
+        Graph G = builder.build();
+
+        assertEquals(2, adj(G, 0).size(), "Петля входит в список вершины дважды");
+        G.addEdge(new Edge(1, 2, 2.0));
+        assertEquals(2, G.E());
+        assertEquals(1, adj(G, 2).size());
+
+        builder.addEdge(new Edge(1, 2, 3.0));
+        assertEquals(1, builder.build().E());
+        assertThrows(IllegalArgumentException.class, () -> builder.addEdge(new Edge(0, 3, 1.0)));
+    }
+}
@@ -0,0 +1,89 @@
+import algorithms.DialPrim;
+import algorithms.Prim;
+import graph.Edge;
+import graph.Graph;
+import graph.IntWeightGraph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тестирование алгоритма Прима с очередью-корзинами для целочисленных весов.
+ */
+public class DialPrimTest {
+
+    @Test
+    void testSimpleGraph() {
+        List<Edge> edges = List.of(
+                new Edge(0, 1, 1), new Edge(0, 2, 2), new Edge(1, 2, 3),
+                new Edge(1, 3, 4), new Edge(2, 3, 5));
+
+        DialPrim mst = new DialPrim(IntWeightGraph.fromEdges(4, edges));
+
+        int edgeCount = 0;
+        for (Edge e : mst.edges()) edgeCount++;
+        assertEquals(3, edgeCount, "MST должно содержать V-1 рёбер");
+        assertEquals(7.0, mst.weight(), 1e-9);
+    }
+
+    @Test
+    void testMatchesPrimOnRandomGraphs() {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            int V = 1 + random.nextInt(60);
+            int E = random.nextInt(V * 4 + 1);
+            int[] weightRanges = {10, 1000, IntWeightGraph.MAX_BUCKET_WEIGHT};
+            int maxWeight = random.nextInt(weightRanges[round % 3]) + 1;
+
+            Graph G = new Graph(V);
+            List<Edge> edges = new ArrayList<>();
+            for (int i = 0; i < E; i++) {
+                Edge e = new Edge(random.nextInt(V), random.nextInt(V), random.nextInt(maxWeight + 1));
+                edges.add(e);
+                G.addEdge(e);
+            }
+
+            DialPrim dial = new DialPrim(IntWeightGraph.fromEdges(V, edges));
+            Prim prim = new Prim(G);
+
+            assertEquals(prim.weight(), dial.weight(), 1e-9, "Вес должен совпадать с Prim (раунд " + round + ")");
+            int primEdges = 0;
+            int dialEdges = 0;
+            for (Edge e : prim.edges()) primEdges++;
+            for (Edge e : dial.edges()) dialEdges++;
+            assertEquals(primEdges, dialEdges, "Число рёбер леса должно совпадать");
+        }
+    }
+
+    @Test
+    void testCursorRollbackDoesNotRescanBuckets() {
+        // Путь из тяжёлых рёбер с лёгкими листьями: каждый лист откатывает курсор к нулю
+        int n = 20_000;
+        int heavy = IntWeightGraph.MAX_BUCKET_WEIGHT - 1;
+        Graph G = new Graph(2 * n);
+        List<Edge> edges = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            edges.add(new Edge(v, n + v, 0));
+            if (v + 1 < n) edges.add(new Edge(v, v + 1, heavy));
+        }
+        for (Edge e : edges) G.addEdge(e);
+
+        DialPrim dial = new DialPrim(IntWeightGraph.fromEdges(2 * n, edges));
+
+        assertEquals(new Prim(G).weight(), dial.weight(), 1e-9);
+        assertTrue(dial.getComparisonCount() < 1000L * edges.size(),
+                "Поиск корзины не должен зависеть от разброса весов: " + dial.getComparisonCount());
+    }
+
+    @Test
+    void testDetectsIntegralWeights() {
+        assertTrue(IntWeightGraph.hasBucketableWeights(List.of(new Edge(0, 1, 3), new Edge(1, 2, 0))));
+        assertFalse(IntWeightGraph.hasBucketableWeights(List.of(new Edge(0, 1, 2.5))));
+        assertFalse(IntWeightGraph.hasBucketableWeights(List.of(new Edge(0, 1, -1))));
+        assertThrows(IllegalArgumentException.class,
+                () -> IntWeightGraph.fromEdges(2, List.of(new Edge(0, 1, 0.5))));
+    }
+}
@@ -0,0 +1,79 @@
+import algorithms.Kruskal;
+import distributed.DistributedBoruvka;
+import distributed.LocalCluster;
+import graph.Edge;
+import graph.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тестирование распределённого Борувки на воркерах localhost.
+ */
+public class DistributedBoruvkaTest {
+
+    private static int count(Iterable<Edge> edges) {
+        int n = 0;
+        for (Edge ignored : edges) n++;
+        return n;
+    }
+
+    @Test
+    void testMatchesKruskalWithInProcessWorkers() throws Exception {
+        Random random = new Random(41);
+        try (LocalCluster cluster = LocalCluster.inProcess(3)) {
+            for (int round = 0; round < 20; round++) {
+                // Мало различных весов — много равных рёбер; E < V даёт несвязные графы
+                Graph G = TestGraphs.randomGraph(random, 1 + random.nextInt(300), random.nextInt(600), 5);
+                Kruskal expected = new Kruskal(G);
+
+                DistributedBoruvka mst = new DistributedBoruvka(G, cluster.addresses());
+
+                assertEquals(expected.weight(), mst.weight(), 1e-9);
+                assertEquals(count(expected.edges()), count(mst.edges()));
+            }
+        }
+    }
+
+    @Test
+    void testMoreWorkersThanVertices() throws Exception {
+        Graph G = new Graph(2);
+        G.addEdge(new Edge(0, 1, 3.0));
+        try (LocalCluster cluster = LocalCluster.inProcess(4)) {
+            DistributedBoruvka mst = new DistributedBoruvka(G, cluster.addresses());
+
+            assertEquals(3.0, mst.weight(), 1e-9);
+            assertEquals(1, mst.getRounds());
+        }
+    }
+
+    @Test
+    void testRoundsSendOnlyMerges() throws Exception {
+        int V = 5000;
+        Graph G = TestGraphs.randomGraph(new Random(9), V, 20000, 1000);
+        int workers = 3;
+        try (LocalCluster cluster = LocalCluster.inProcess(workers)) {
+            DistributedBoruvka mst = new DistributedBoruvka(G, cluster.addresses());
+
+            assertEquals(new Kruskal(G).weight(), mst.weight(), 1e-9);
+            // Раздел: заголовок и до двух копий каждого ребра; раунды: заголовок и V - 1 слияний на воркер
+            long partition = workers * 20L + 2 * 20L * G.E();
+            long rounds = workers * (8L * (mst.getRounds() + 1) + 8L * (V - 1));
+            assertTrue(mst.getBytesSent() <= partition + rounds,
+                    "Метки всех вершин не должны рассылаться каждый раунд: " + mst.getBytesSent());
+        }
+    }
+
+    @Test
+    void testWorkerProcesses() throws Exception {
+        Graph G = TestGraphs.randomGraph(new Random(7), 2000, 10000, 1000);
+        try (LocalCluster cluster = LocalCluster.spawn(2, List.of("-Xmx64m"))) {
+            DistributedBoruvka mst = new DistributedBoruvka(G, cluster.addresses());
+
+            assertEquals(new Kruskal(G).weight(), mst.weight(), 1e-9);
+            assertTrue(mst.getRounds() <= 11, "Борувка укладывается в log2(V) раундов");
+        }
+    }
+}
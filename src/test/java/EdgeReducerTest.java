@@ -0,0 +1,126 @@
+import algorithms.EdgeReducer;
+import algorithms.Kruskal;
+import algorithms.MST;
+import algorithms.MSTVerifier;
+import algorithms.Prim;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import graph.Edge;
+import graph.Graph;
+import org.example.Main;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Тестирование предобработки рёбер.
+ */
+public class EdgeReducerTest {
+
+    @Test
+    void testCollapsesParallelEdgesAndDropsSelfLoops() {
+        Graph G = new Graph(3);
+        G.addEdge(new Edge(0, 1, 5.0));
+        G.addEdge(new Edge(1, 0, 2.0));
+        G.addEdge(new Edge(0, 1, 2.0));
+        G.addEdge(new Edge(2, 2, 0.5));
+        G.addEdge(new Edge(1, 2, 3.0));
+
+        EdgeReducer.Reduction reduction = EdgeReducer.reduce(G, false);
+
+        assertEquals(2, reduction.graph().E());
+        assertEquals(1, reduction.droppedSelfLoops());
+        assertEquals(2, reduction.droppedParallelEdges());
+        assertEquals(2.0, reduction.edges().get(0).weight(), 1e-9);
+        assertEquals(1, reduction.edges().get(0).either(), "При равных весах остаётся первое ребро");
+    }
+
+    @Test
+    void testTreeIsContractedCompletely() {
+        Graph G = new Graph(5);
+        G.addEdge(new Edge(0, 1, 1.0));
+        G.addEdge(new Edge(1, 2, 2.0));
+        G.addEdge(new Edge(1, 3, 3.0));
+        G.addEdge(new Edge(3, 4, 4.0));
+        G.addEdge(new Edge(3, 4, 9.0));
+
+        EdgeReducer.Reduction reduction = EdgeReducer.reduce(G, true);
+
+        assertEquals(0, reduction.graph().E());
+        assertEquals(4, reduction.forcedEdges().size());
+        assertEquals(10.0, reduction.complete(new Kruskal(reduction.graph())).weight(), 1e-9);
+    }
+
+    @Test
+    void testReductionPreservesMst() {
+        Random random = new Random(11);
+        for (int round = 0; round < 30; round++) {
+            int V = 2 + random.nextInt(200);
+            Graph G = new Graph(V);
+            for (int i = 0; i < V * 2; i++) {
+                // Узкий диапазон вершин — много параллельных рёбер и петель
+                int v = random.nextInt(V);
+                int w = random.nextInt(4) == 0 ? v : Math.min(V - 1, v + random.nextInt(3));
+                G.addEdge(new Edge(v, w, random.nextInt(10)));
+            }
+            double expected = new Kruskal(G).weight();
+
+            EdgeReducer.Reduction plain = EdgeReducer.reduce(G, false);
+            assertEquals(expected, new Prim(plain.graph()).weight(), 1e-9);
+
+            EdgeReducer.Reduction leaves = EdgeReducer.reduce(G, true);
+            MST mst = leaves.complete(new Kruskal(leaves.graph()));
+            assertEquals(expected, mst.weight(), 1e-9);
+            assertTrue(MSTVerifier.verify(G, mst).isValid());
+            assertTrue(leaves.graph().E() <= plain.graph().E());
+        }
+    }
+
+    @Test
+    void testSingleRunReducesBeforeEngines(@TempDir Path dir) throws Exception {
+        Path input = dir.resolve("input_reduce.json");
+        Files.writeString(input, "{\"vertices\": [\"a\", \"b\", \"c\", \"d\", \"e\"], \"edges\": ["
+                + "{\"source\": \"a\", \"destination\": \"b\", \"weight\": 5},"
+                + "{\"source\": \"b\", \"destination\": \"a\", \"weight\": 2},"
+                + "{\"source\": \"a\", \"destination\": \"b\", \"weight\": 2},"
+                + "{\"source\": \"c\", \"destination\": \"c\", \"weight\": 1},"
+                + "{\"source\": \"b\", \"destination\": \"c\", \"weight\": 3},"
+                + "{\"source\": \"a\", \"destination\": \"c\", \"weight\": 4},"
+                + "{\"source\": \"c\", \"destination\": \"d\", \"weight\": 6},"
+                + "{\"source\": \"d\", \"destination\": \"e\", \"weight\": 7}]}");
+
+        JsonObject plain = runSingle(input, null);
+        JsonObject reduced = runSingle(input, "leaves");
+
+        for (String engine : new String[]{"PrimMST", "KruskalMST"}) {
+            JsonObject result = reduced.getAsJsonObject(engine);
+            assertEquals(18.0, result.get("totalWeight").getAsDouble(), 1e-9);
+            assertEquals(4, result.getAsJsonArray("mstEdges").size(), "Стянутые листья возвращаются в дерево");
+            assertTrue(result.get("verified").getAsBoolean());
+        }
+        assertTrue(reduced.get("algorithmsConsistent").getAsBoolean());
+        assertTrue(reduced.getAsJsonObject("PrimMST").get("edgeVisitCount").getAsInt()
+                        < plain.getAsJsonObject("PrimMST").get("edgeVisitCount").getAsInt(),
+                "Движок должен работать на сокращённом графе");
+    }
+
+    private static JsonObject runSingle(Path input, String reduce) {
+        PrintStream stdout = System.out;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (reduce != null) System.setProperty("mst.reduce", reduce);
+        try {
+            System.setOut(new PrintStream(out));
+            Main.main(new String[]{"--single", input.toString()});
+        } finally {
+            System.setOut(stdout);
+            System.clearProperty("mst.reduce");
+        }
+        return JsonParser.parseString(out.toString()).getAsJsonObject();
+    }
+}
@@ -0,0 +1,85 @@
+import algorithms.EuclideanMST;
+import algorithms.Prim;
+import graph.Edge;
+import graph.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+/**
+ * Тестирование евклидова MST на k-d дереве.
+ */
+public class EuclideanMSTTest {
+
+    @Test
+    void testUnitSquare() {
+        double[][] points = {{0, 0}, {1, 0}, {1, 1}, {0, 1}};
+
+        EuclideanMST mst = new EuclideanMST(points);
+
+        int edgeCount = 0;
+        for (Edge e : mst.edges()) edgeCount++;
+        assertEquals(3, edgeCount, "MST должно содержать n-1 рёбер");
+        assertEquals(3.0, mst.weight(), 1e-9);
+    }
+
+    @Test
+    void testMatchesPrimOnCompleteGraph2D() {
+        assertMatchesPrim(randomPoints(new Random(5), 300, 2));
+    }
+
+    @Test
+    void testMatchesPrimOnCompleteGraph3D() {
+        assertMatchesPrim(randomPoints(new Random(6), 250, 3));
+    }
+
+    @Test
+    void testDuplicateAndCollinearPoints() {
+        double[][] points = new double[60][];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new double[]{i / 3, 0.0};
+        }
+        EuclideanMST mst = new EuclideanMST(points);
+        assertEquals(19.0, mst.weight(), 1e-9, "Совпадающие точки соединяются рёбрами нулевого веса");
+        assertMatchesPrim(points);
+    }
+
+    @Test
+    void testTrivialInputs() {
+        assertEquals(0.0, new EuclideanMST(new double[0][]).weight(), 1e-9);
+        assertEquals(0.0, new EuclideanMST(new double[][]{{1, 2}}).weight(), 1e-9);
+        assertThrows(IllegalArgumentException.class,
+                () -> new EuclideanMST(new double[][]{{1, 2}, {1, 2, 3}}));
+    }
+
+    private void assertMatchesPrim(double[][] points) {
+        int n = points.length;
+        Graph complete = new Graph(n);
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double d = 0.0;
+                for (int k = 0; k < points[i].length; k++) {
+                    double diff = points[i][k] - points[j][k];
+                    d += diff * diff;
+                }
+                complete.addEdge(new Edge(i, j, Math.sqrt(d)));
+            }
+        }
+
+        EuclideanMST mst = new EuclideanMST(points);
+        assertEquals(new Prim(complete).weight(), mst.weight(), 1e-6, "Вес должен совпадать с Prim на полном графе");
+
+        int edgeCount = 0;
+        for (Edge e : mst.edges()) edgeCount++;
+        assertEquals(n - 1, edgeCount);
+    }
+
+    private double[][] randomPoints(Random random, int n, int dim) {
+        double[][] points = new double[n][dim];
+        for (double[] p : points) {
+            for (int k = 0; k < dim; k++) p[k] = random.nextDouble() * 100;
+        }
+        return points;
+    }
+}
@@ -0,0 +1,71 @@
+import graph.Edge;
+import org.example.GraphLoader;
+import org.example.LoadedGraph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Тестирование быстрого разбора небольших входных файлов.
+ */
+public class GraphLoaderTest {
+
+    private static void assertSameGraph(LoadedGraph expected, LoadedGraph actual) {
+        assertEquals(expected.vertexNames(), actual.vertexNames());
+        List<Edge> a = expected.inputEdges();
+        List<Edge> b = actual.inputEdges();
+        assertEquals(a.size(), b.size());
+        for (int i = 0; i < a.size(); i++) {
+            assertEquals(a.get(i).either(), b.get(i).either());
+            assertEquals(a.get(i).other(a.get(i).either()), b.get(i).other(b.get(i).either()));
+            assertEquals(a.get(i).weight(), b.get(i).weight(), 0.0);
+        }
+    }
+
+    private static LoadedGraph viaGson(String text) {
+        return GraphLoader.fromJson(GraphLoader.parse(new StringReader(text)));
+    }
+
+    @Test
+    void testFastPathMatchesGsonOnSampleInputs() throws Exception {
+        for (String name : List.of("small", "medium", "large", "disconnected")) {
+            String text = Files.readString(Path.of("src/main/resources/input_" + name + ".json"));
+            assertSameGraph(viaGson(text), GraphLoader.fromText(text));
+        }
+    }
+
+    @Test
+    void testEscapesAndUnknownFields() {
+        String text = "{\"name\": {\"nested\": [1, true, null]}, \"vertices\": [\"A\\\"1\", \"\\u0411\"],"
+                + " \"edges\": [{\"weight\": -2.5e0, \"source\": \"A\\\"1\", \"destination\": \"\\u0411\", \"id\": 7}]}";
+
+        LoadedGraph loaded = GraphLoader.fromText(text);
+
+        assertEquals(List.of("A\"1", "\u0411"), loaded.vertexNames());
+        assertEquals(-2.5, loaded.inputEdges().get(0).weight(), 0.0);
+        assertSameGraph(viaGson(text), loaded);
+    }
+
+    @Test
+    void testFallsBackToGsonOutsideSchema() {
+        // Числовые имена и вес-строка: быстрый путь отказывается, Gson принимает
+        String text = "{\"vertices\": [1, 2], \"edges\": [{\"source\": \"1\", \"destination\": \"2\", \"weight\": \"3\"}]}";
+
+        LoadedGraph loaded = GraphLoader.fromText(text);
+
+        assertEquals(List.of("1", "2"), loaded.vertexNames());
+        assertEquals(3.0, loaded.inputEdges().get(0).weight(), 0.0);
+    }
+
+    @Test
+    void testInvalidDocumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> GraphLoader.fromText(
+                "{\"vertices\": [\"A\"], \"edges\": [{\"source\": \"A\", \"destination\": \"Z\", \"weight\": 1}]}"));
+        assertThrows(RuntimeException.class, () -> GraphLoader.fromText("{\"vertices\": [\"A\"]"));
+        assertThrows(IllegalArgumentException.class, () -> GraphLoader.fromText("{\"vertices\": []}"));
+    }
+}
@@ -0,0 +1,115 @@
+import algorithms.KBestMST;
+import algorithms.Kruskal;
+import algorithms.UnionFind;
+import graph.Edge;
+import graph.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Тестирование перечисления k лучших остовных деревьев.
+ */
+public class KBestMSTTest {
+
+    private static Graph randomConnectedGraph(int V, int extra, long seed) {
+        Random random = new Random(seed);
+        Graph G = new Graph(V);
+        for (int v = 1; v < V; v++) G.addEdge(new Edge(v, random.nextInt(v), random.nextInt(10)));
+        for (int i = 0; i < extra; i++) {
+            int v = random.nextInt(V);
+            int w = random.nextInt(V);
+            if (v != w) G.addEdge(new Edge(v, w, random.nextInt(10)));
+        }
+        return G;
+    }
+
+    // Веса всех остовных деревьев перебором подмножеств из V-1 рёбер
+    private static List<Double> allTreeWeights(Graph G) {
+        List<Edge> edges = new ArrayList<>();
+        for (Edge e : G.edges()) edges.add(e);
+        List<Double> weights = new ArrayList<>();
+        for (int mask = 0; mask < 1 << edges.size(); mask++) {
+            if (Integer.bitCount(mask) != G.V() - 1) continue;
+            UnionFind uf = new UnionFind(G.V());
+            double weight = 0;
+            boolean acyclic = true;
+            for (int i = 0; i < edges.size() && acyclic; i++) {
+                if ((mask & 1 << i) == 0) continue;
+                Edge e = edges.get(i);
+                acyclic = uf.union(e.either(), e.other(e.either()));
+                weight += e.weight();
+            }
+            if (acyclic) weights.add(weight);
+        }
+        Collections.sort(weights);
+        return weights;
+    }
+
+    @Test
+    void testEnumeratesAllTreesInOrder() {
+        for (int seed = 0; seed < 10; seed++) {
+            Graph G = randomConnectedGraph(6, 6, seed);
+            List<Double> expected = allTreeWeights(G);
+
+            List<Edge> edges = new ArrayList<>();
+            for (Edge e : G.edges()) edges.add(e);
+            Set<BitSet> seen = new HashSet<>();
+            List<Double> actual = new ArrayList<>();
+            KBestMST trees = new KBestMST(G);
+            while (trees.hasNext()) {
+                KBestMST.SpanningTree tree = trees.next();
+                BitSet set = new BitSet();
+                UnionFind uf = new UnionFind(G.V());
+                for (Edge e : tree.edges()) {
+                    set.set(edges.indexOf(e));
+                    assertTrue(uf.union(e.either(), e.other(e.either())));
+                }
+                assertEquals(G.V() - 1, set.cardinality());
+                assertTrue(seen.add(set), "Tree repeated");
+                actual.add(tree.weight());
+            }
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) assertEquals(expected.get(i), actual.get(i), 1e-9);
+        }
+    }
+
+    @Test
+    void testSecondBestMatchesEnumeration() {
+        for (int seed = 0; seed < 10; seed++) {
+            Graph G = randomConnectedGraph(40, 80, seed);
+            List<KBestMST.SpanningTree> best = KBestMST.best(G, 2);
+            KBestMST.SpanningTree second = KBestMST.secondBest(G);
+            assertEquals(new Kruskal(G).weight(), best.get(0).weight(), 1e-9);
+            assertEquals(best.get(1).weight(), second.weight(), 1e-9);
+        }
+    }
+
+    @Test
+    void testTreeHasNoAlternative() {
+        Graph G = new Graph(3);
+        G.addEdge(new Edge(0, 1, 1.0));
+        G.addEdge(new Edge(1, 2, 2.0));
+        assertNull(KBestMST.secondBest(G));
+        assertEquals(1, KBestMST.best(G, 5).size());
+    }
+
+    @Test
+    void testLazyOnLargeGraph() {
+        Graph G = randomConnectedGraph(5000, 20000, 7);
+        KBestMST trees = new KBestMST(G);
+        double previous = Double.NEGATIVE_INFINITY;
+        for (int k = 0; k < 20 && trees.hasNext(); k++) {
+            double weight = trees.next().weight();
+            assertTrue(weight >= previous - 1e-9);
+            previous = weight;
+        }
+    }
+}
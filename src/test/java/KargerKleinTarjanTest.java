@@ -0,0 +1,50 @@
+import algorithms.KargerKleinTarjan;
+import algorithms.Kruskal;
+import algorithms.MSTVerifier;
+import graph.Edge;
+import graph.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+/**
+ * Тестирование рандомизированного алгоритма Каргера-Клейна-Тарьяна.
+ */
+public class KargerKleinTarjanTest {
+
+    @Test
+    void testSmallGraph() {
+        Graph G = new Graph(4);
+        G.addEdge(new Edge(0, 1, 1.0));
+        G.addEdge(new Edge(0, 2, 2.0));
+        G.addEdge(new Edge(1, 2, 3.0));
+        G.addEdge(new Edge(1, 3, 4.0));
+        G.addEdge(new Edge(2, 3, 5.0));
+
+        assertEquals(7.0, new KargerKleinTarjan(G).weight(), 1e-9);
+    }
+
+    @Test
+    void testMatchesKruskalOnRandomGraphs() {
+        Random random = new Random(23);
+        for (int round = 0; round < 40; round++) {
+            int V = 1 + random.nextInt(800);
+            // От разреженных (в т.ч. несвязных) до плотных, с частыми равными весами
+            Graph G = TestGraphs.randomGraph(random, V, random.nextInt(V * 20 + 1), 1 + random.nextInt(50));
+            KargerKleinTarjan kkt = new KargerKleinTarjan(G, round);
+
+            assertEquals(new Kruskal(G).weight(), kkt.weight(), 1e-9);
+            assertTrue(MSTVerifier.verify(G, kkt).isValid());
+        }
+    }
+
+    @Test
+    void testFilterDiscardsMostEdgesOnDenseGraph() {
+        Graph G = TestGraphs.randomGraph(new Random(5), 20000, 200000, 1_000_000);
+        KargerKleinTarjan kkt = new KargerKleinTarjan(G);
+
+        assertEquals(new Kruskal(G).weight(), kkt.weight(), 1e-6);
+        assertTrue(kkt.getFilteredEdges() > G.E() / 4, "Отброшено " + kkt.getFilteredEdges());
+    }
+}
@@ -0,0 +1,78 @@
+import algorithms.Dendrogram;
+import algorithms.KruskalClustering;
+import graph.Edge;
+import graph.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+/**
+ * Тестирование кластеризации на основе алгоритма Краскала.
+ */
+public class KruskalClusteringTest {
+
+    private Graph twoGroups() {
+        Graph G = new Graph(6);
+        G.addEdge(new Edge(0, 1, 1.0));
+        G.addEdge(new Edge(1, 2, 1.5));
+        G.addEdge(new Edge(3, 4, 1.0));
+        G.addEdge(new Edge(4, 5, 2.0));
+        G.addEdge(new Edge(2, 3, 10.0));
+        G.addEdge(new Edge(0, 5, 12.0));
+        return G;
+    }
+
+    @Test
+    void testStopsAtKClusters() {
+        int[] labels = KruskalClustering.clusters(twoGroups(), 2);
+
+        assertArrayEquals(new int[]{0, 0, 0, 1, 1, 1}, labels, "Две группы должны разделиться по тяжёлому ребру");
+        assertArrayEquals(new int[]{0, 0, 0, 0, 0, 0}, KruskalClustering.clusters(twoGroups(), 1));
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5}, KruskalClustering.clusters(twoGroups(), 6));
+    }
+
+    @Test
+    void testThreshold() {
+        assertArrayEquals(new int[]{0, 0, 0, 1, 1, 1}, KruskalClustering.clustersBelow(twoGroups(), 5.0));
+        assertArrayEquals(new int[]{0, 0, 1, 2, 2, 3}, KruskalClustering.clustersBelow(twoGroups(), 1.0));
+    }
+
+    @Test
+    void testDendrogram() {
+        Dendrogram dendrogram = KruskalClustering.dendrogram(twoGroups());
+
+        assertEquals(5, dendrogram.mergeCount());
+        assertEquals(1, dendrogram.minClusters());
+        assertEquals(10.0, dendrogram.height(4), 1e-9, "Последнее слияние — по ребру 10");
+        assertArrayEquals(new int[]{0, 0, 0, 1, 1, 1}, dendrogram.labels(2));
+        assertArrayEquals(new int[]{0, 0, 1, 2, 2, 3}, dendrogram.labelsAtThreshold(1.0));
+    }
+
+    @Test
+    void testDisconnectedGraphKeepsComponents() {
+        Graph G = new Graph(5);
+        G.addEdge(new Edge(0, 1, 1.0));
+        G.addEdge(new Edge(2, 3, 1.0));
+
+        Dendrogram dendrogram = KruskalClustering.dendrogram(G);
+        assertEquals(3, dendrogram.minClusters());
+        assertArrayEquals(new int[]{0, 0, 1, 1, 2}, dendrogram.labels(1), "Меньше компонент связности получить нельзя");
+        assertArrayEquals(new int[]{0, 0, 1, 1, 2}, KruskalClustering.clusters(G, 2));
+    }
+
+    @Test
+    void testDendrogramMatchesEarlyStopForAnyK() {
+        Random random = new Random(3);
+        int V = 200;
+        Graph G = new Graph(V);
+        for (int i = 0; i < 1000; i++) {
+            G.addEdge(new Edge(random.nextInt(V), random.nextInt(V), random.nextInt(50)));
+        }
+
+        Dendrogram dendrogram = KruskalClustering.dendrogram(G);
+        for (int k = 1; k <= V; k += 7) {
+            assertArrayEquals(KruskalClustering.clusters(G, k), dendrogram.labels(k), "k = " + k);
+        }
+    }
+}
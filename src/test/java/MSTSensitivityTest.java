@@ -0,0 +1,97 @@
+import algorithms.Kruskal;
+import algorithms.MSTSensitivity;
+import algorithms.UnionFind;
+import graph.Edge;
+import graph.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Тестирование анализа чувствительности MST.
+ */
+public class MSTSensitivityTest {
+
+    // Связны ли v и w по рёбрам edges без ребра skip
+    private static boolean connectedWithout(int V, List<Edge> edges, Edge skip, int v, int w) {
+        UnionFind uf = new UnionFind(V);
+        for (Edge e : edges) {
+            if (e != skip) uf.union(e.either(), e.other(e.either()));
+        }
+        return uf.connected(v, w);
+    }
+
+    @Test
+    void testMatchesBruteForce() {
+        for (int seed = 0; seed < 20; seed++) {
+            Graph G = TestGraphs.randomLooplessGraph(new Random(seed), 30, 60, 20);
+            Kruskal mst = new Kruskal(G);
+            List<Edge> tree = new ArrayList<>();
+            for (Edge e : mst.edges()) tree.add(e);
+            Set<Edge> inTree = Collections.newSetFromMap(new IdentityHashMap<>());
+            inTree.addAll(tree);
+            List<Edge> nonTree = new ArrayList<>();
+            for (Edge e : G.edges()) if (!inTree.contains(e)) nonTree.add(e);
+
+            MSTSensitivity sensitivity = new MSTSensitivity(G, mst);
+            assertEquals(tree.size(), sensitivity.treeEdges().size());
+            assertEquals(nonTree.size(), sensitivity.nonTreeEdges().size());
+
+            // Ребро дерева: самое лёгкое ребро вне дерева через разрез, который оно образует
+            for (MSTSensitivity.EdgeSensitivity s : sensitivity.treeEdges()) {
+                Edge t = s.edge();
+                double best = Double.POSITIVE_INFINITY;
+                for (Edge e : nonTree) {
+                    int v = e.either();
+                    int w = e.other(v);
+                    if (!connectedWithout(G.V(), tree, t, v, w)) best = Math.min(best, e.weight());
+                }
+                assertEquals(best, s.limit(), 1e-9, "tree edge " + t);
+                assertEquals(Double.isFinite(best), s.bounded());
+                if (s.bounded()) assertEquals(best, s.replacement().weight(), 1e-9);
+            }
+
+            // Ребро вне дерева: максимум на пути в дереве — вес самого тяжёлого ребра, без которого концы разрываются
+            for (MSTSensitivity.EdgeSensitivity s : sensitivity.nonTreeEdges()) {
+                Edge e = s.edge();
+                int v = e.either();
+                int w = e.other(v);
+                double max = Double.NEGATIVE_INFINITY;
+                for (Edge t : tree) {
+                    if (!connectedWithout(G.V(), tree, t, v, w)) max = Math.max(max, t.weight());
+                }
+                assertEquals(max, s.limit(), 1e-9, "non-tree edge " + e);
+                assertTrue(s.tolerance() >= 0);
+            }
+        }
+    }
+
+    @Test
+    void testBridgeIsUnbounded() {
+        Graph G = new Graph(4);
+        Edge bridge = new Edge(2, 3, 5.0);
+        G.addEdge(new Edge(0, 1, 1.0));
+        G.addEdge(new Edge(1, 2, 2.0));
+        G.addEdge(new Edge(0, 2, 4.0));
+        G.addEdge(bridge);
+
+        MSTSensitivity sensitivity = new MSTSensitivity(G, new Kruskal(G));
+        for (MSTSensitivity.EdgeSensitivity s : sensitivity.treeEdges()) {
+            if (s.edge() == bridge) {
+                assertFalse(s.bounded());
+                assertEquals(Double.POSITIVE_INFINITY, s.tolerance());
+            } else {
+                assertEquals(4.0, s.limit(), 1e-9);
+            }
+        }
+        MSTSensitivity.EdgeSensitivity outside = sensitivity.nonTreeEdges().get(0);
+        assertEquals(2.0, outside.tolerance(), 1e-9);
+        assertEquals(2.0, outside.replacement().weight(), 1e-9);
+    }
+}
@@ -0,0 +1,124 @@
+import algorithms.DialPrim;
+import algorithms.Kruskal;
+import algorithms.MSTVerifier;
+import algorithms.OfflinePathMax;
+import algorithms.PathMaxIndex;
+import algorithms.Prim;
+import graph.Edge;
+import graph.Graph;
+import graph.IntWeightGraph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тестирование проверки сертификата MST.
+ */
+public class MSTVerifierTest {
+
+    private Graph sample() {
+        Graph G = new Graph(4);
+        G.addEdge(new Edge(0, 1, 1.0));
+        G.addEdge(new Edge(0, 2, 2.0));
+        G.addEdge(new Edge(1, 2, 3.0));
+        G.addEdge(new Edge(1, 3, 4.0));
+        G.addEdge(new Edge(2, 3, 5.0));
+        return G;
+    }
+
+    @Test
+    void testAcceptsKruskalAndPrim() {
+        Graph G = sample();
+        assertTrue(MSTVerifier.verify(G, new Kruskal(G)).isValid());
+        assertTrue(MSTVerifier.verify(G, new Prim(G)).isValid());
+        assertEquals(7.0, MSTVerifier.verify(G, new Kruskal(G)).totalWeight(), 1e-9);
+    }
+
+    @Test
+    void testReportsCyclePropertyViolation() {
+        Graph G = sample();
+        List<Edge> claimed = List.of(new Edge(0, 1, 1.0), new Edge(0, 2, 2.0), new Edge(2, 3, 5.0));
+
+        MSTVerifier.Result result = MSTVerifier.verify(G, claimed);
+
+        assertFalse(result.isValid());
+        assertEquals(1, result.violations().size(), "Только ребро 1-3 (4.0) легче ребра 2-3 (5.0)");
+        assertEquals(4.0, result.violations().get(0).nonTreeEdge().weight(), 1e-9);
+        assertEquals(5.0, result.violations().get(0).heavierTreeEdge().weight(), 1e-9);
+    }
+
+    @Test
+    void testReportsStructuralProblems() {
+        Graph G = sample();
+
+        MSTVerifier.Result missing = MSTVerifier.verify(G, List.of(new Edge(0, 1, 1.0), new Edge(0, 2, 2.0)));
+        assertFalse(missing.isValid());
+        assertFalse(missing.bridgingEdges().isEmpty(), "Вершина 3 не покрыта лесом");
+
+        MSTVerifier.Result cycle = MSTVerifier.verify(G, List.of(new Edge(0, 1, 1.0), new Edge(0, 2, 2.0),
+                new Edge(1, 2, 3.0), new Edge(1, 3, 4.0)));
+        assertEquals(1, cycle.cycleEdges().size());
+
+        MSTVerifier.Result foreign = MSTVerifier.verify(G, List.of(new Edge(0, 1, 1.0), new Edge(0, 2, 2.0),
+                new Edge(0, 3, 0.5)));
+        assertEquals(1, foreign.foreignEdges().size(), "Ребра 0-3 нет в графе");
+    }
+
+    @Test
+    void testRandomGraphsAllEnginesVerify() {
+        Random random = new Random(17);
+        for (int round = 0; round < 30; round++) {
+            int V = 1 + random.nextInt(150);
+            Graph G = new Graph(V);
+            List<Edge> edges = new ArrayList<>();
+            for (int i = 0; i < V * 3; i++) {
+                Edge e = new Edge(random.nextInt(V), random.nextInt(V), random.nextInt(20));
+                G.addEdge(e);
+                edges.add(e);
+            }
+            assertTrue(MSTVerifier.verify(G, new Kruskal(G)).isValid());
+            assertTrue(MSTVerifier.verify(G, new Prim(G)).isValid());
+            assertTrue(MSTVerifier.verify(G, new DialPrim(IntWeightGraph.fromEdges(V, edges))).isValid());
+        }
+    }
+
+    @Test
+    void testOfflinePathMaxMatchesIndex() {
+        Random random = new Random(29);
+        int V = 300;
+        Graph G = new Graph(V);
+        for (int i = 0; i < 900; i++) {
+            G.addEdge(new Edge(random.nextInt(V), random.nextInt(V), random.nextDouble()));
+        }
+        Kruskal mst = new Kruskal(G);
+        PathMaxIndex index = PathMaxIndex.of(mst, V);
+
+        List<Edge> tree = new ArrayList<>();
+        for (Edge e : mst.edges()) tree.add(e);
+        int[] tu = new int[tree.size()];
+        int[] tv = new int[tree.size()];
+        double[] tw = new double[tree.size()];
+        for (int i = 0; i < tree.size(); i++) {
+            tu[i] = tree.get(i).either();
+            tv[i] = tree.get(i).other(tu[i]);
+            tw[i] = tree.get(i).weight();
+        }
+        int Q = 2000;
+        int[] qu = new int[Q];
+        int[] qv = new int[Q];
+        for (int j = 0; j < Q; j++) {
+            qu[j] = random.nextInt(V);
+            qv[j] = random.nextInt(V);
+        }
+
+        int[] answer = OfflinePathMax.maxEdges(V, tu, tv, tw, qu, qv);
+        for (int j = 0; j < Q; j++) {
+            Edge expected = index.maxEdge(qu[j], qv[j]);
+            if (expected == null) assertEquals(OfflinePathMax.NONE, answer[j]);
+            else assertEquals(expected.weight(), tw[answer[j]], 1e-12);
+        }
+    }
+}
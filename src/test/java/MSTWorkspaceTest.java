@@ -0,0 +1,114 @@
+import algorithms.Kruskal;
+import algorithms.MSTWorkspace;
+import algorithms.Prim;
+import algorithms.UnionFind;
+import graph.Edge;
+import graph.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тестирование переиспользуемых рабочих массивов Prim и Kruskal.
+ */
+public class MSTWorkspaceTest {
+
+    // Веса из малого набора: много равных весов проверяют устойчивость сортировки
+    private static final int WEIGHTS = 10;
+
+    // Kruskal в исходном виде: Collections.sort по graph.edges()
+    private static List<Edge> referenceKruskal(Graph G) {
+        List<Edge> edges = new ArrayList<>();
+        for (Edge e : G.edges()) edges.add(e);
+        Collections.sort(edges);
+        UnionFind uf = new UnionFind(G.V());
+        List<Edge> mst = new ArrayList<>();
+        for (Edge e : edges) {
+            int v = e.either();
+            if (uf.union(v, e.other(v))) mst.add(e);
+        }
+        return mst;
+    }
+
+    private static List<Edge> list(Iterable<Edge> edges) {
+        List<Edge> result = new ArrayList<>();
+        for (Edge e : edges) result.add(e);
+        return result;
+    }
+
+    @Test
+    void testKruskalKeepsTieOrder() {
+        for (int seed = 0; seed < 5; seed++) {
+            Graph G = TestGraphs.randomConnectedGraph(new Random(seed), 300, 3000, WEIGHTS);
+            List<Edge> expected = referenceKruskal(G);
+            List<Edge> actual = list(new Kruskal(G).edges());
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) assertSame(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    void testWorkspaceGrowsAndIsReused() {
+        Graph large = TestGraphs.randomConnectedGraph(new Random(1), 2000, 10000, WEIGHTS);
+        Graph small = TestGraphs.randomConnectedGraph(new Random(2), 50, 120, WEIGHTS);
+        double largeWeight = new Prim(large).weight();
+        double smallWeight = new Prim(small).weight();
+
+        try (MSTWorkspace workspace = new MSTWorkspace()) {
+            assertEquals(smallWeight, new Kruskal(small, workspace).weight(), 1e-9);
+            assertEquals(largeWeight, new Kruskal(large, workspace).weight(), 1e-9);
+            assertEquals(largeWeight, new Prim(large, workspace).weight(), 1e-9);
+            int vertices = workspace.vertexCapacity();
+            int edges = workspace.edgeCapacity();
+
+            // После большого графа малый считается в тех же массивах, хвосты прошлых прогонов не мешают
+            assertEquals(smallWeight, new Prim(small, workspace).weight(), 1e-9);
+            assertEquals(smallWeight, new Kruskal(small, workspace).weight(), 1e-9);
+            assertEquals(vertices, workspace.vertexCapacity());
+            assertEquals(edges, workspace.edgeCapacity());
+        }
+    }
+
+    @Test
+    void testBusyPoolFallsBackToFreshWorkspace() {
+        Graph G = TestGraphs.randomConnectedGraph(new Random(3), 500, 2000, WEIGHTS);
+        double weight = new Kruskal(G).weight();
+
+        try (MSTWorkspace outer = MSTWorkspace.acquire()) {
+            assertTrue(outer.isPooled());
+            try (MSTWorkspace inner = MSTWorkspace.acquire()) {
+                assertNotSame(outer, inner);
+                assertFalse(inner.isPooled());
+            }
+            // Пул занят: движок без workspace работает на временном
+            assertEquals(weight, new Prim(G).weight(), 1e-9);
+            assertEquals(weight, new Kruskal(G, outer).weight(), 1e-9);
+        }
+        try (MSTWorkspace again = MSTWorkspace.acquire()) {
+            assertTrue(again.isPooled());
+        }
+    }
+
+    @Test
+    void testEachThreadHasOwnWorkspace() throws Exception {
+        Graph G = TestGraphs.randomConnectedGraph(new Random(4), 1000, 5000, WEIGHTS);
+        double weight = new Kruskal(G).weight();
+        double[] results = new double[4];
+        Thread[] threads = new Thread[results.length];
+        for (int t = 0; t < threads.length; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                double sum = 0;
+                for (int i = 0; i < 5; i++) sum += new Prim(G).weight() + new Kruskal(G).weight();
+                results[id] = sum / 10;
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) thread.join();
+        for (double result : results) assertEquals(weight, result, 1e-9);
+    }
+}
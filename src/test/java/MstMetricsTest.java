@@ -0,0 +1,48 @@
+import algorithms.Kruskal;
+import algorithms.Prim;
+import graph.Edge;
+import graph.Graph;
+import metrics.MstMetrics;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Тестирование публикации метрик через JMX.
+ */
+public class MstMetricsTest {
+
+    @Test
+    void testMetricsVisibleThroughMBeanServer() throws Exception {
+        Graph G = new Graph(4);
+        G.addEdge(new Edge(0, 1, 1.0));
+        G.addEdge(new Edge(0, 2, 2.0));
+        G.addEdge(new Edge(1, 2, 3.0));
+        G.addEdge(new Edge(1, 3, 4.0));
+
+        MstMetrics metrics = MstMetrics.register();
+        metrics.reset();
+        metrics.recordPrim(new Prim(G), G.E(), 0.5, 0.7);
+        metrics.recordKruskal(new Kruskal(G), G.E(), 0.4);
+        metrics.graphProcessed();
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(MstMetrics.OBJECT_NAME);
+
+        assertEquals(1L, server.getAttribute(name, "GraphsProcessed"));
+        assertEquals(2L, server.getAttribute(name, "PrimRuns"));
+        assertEquals(1L, server.getAttribute(name, "KruskalRuns"));
+        assertEquals(12L, server.getAttribute(name, "EdgesProcessed"), "3 прогона по 4 ребра");
+        assertTrue((Double) server.getAttribute(name, "EdgesPerSecond") > 0.0);
+        assertTrue((Integer) server.getAttribute(name, "PrimMaxHeapSize") > 0);
+
+        long[] histogram = (long[]) server.getAttribute(name, "PrimLatencyHistogram");
+        long total = 0;
+        for (long c : histogram) total += c;
+        assertEquals(2, total, "Каждая выборка должна попасть в гистограмму");
+        assertTrue(metrics.getPrimLatencyP99Ms() >= 0.7);
+    }
+}
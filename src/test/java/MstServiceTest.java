@@ -0,0 +1,142 @@
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.example.MstService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Тестирование сервисного режима MST.
+ */
+public class MstServiceTest {
+
+    private static final String SMALL_GRAPH = "{\"vertices\": [\"A\", \"B\", \"C\", \"D\"], \"edges\": ["
+            + "{\"source\": \"A\", \"destination\": \"B\", \"weight\": 1},"
+            + "{\"source\": \"A\", \"destination\": \"C\", \"weight\": 2},"
+            + "{\"source\": \"B\", \"destination\": \"C\", \"weight\": 3},"
+            + "{\"source\": \"B\", \"destination\": \"D\", \"weight\": 4},"
+            + "{\"source\": \"C\", \"destination\": \"D\", \"weight\": 5}]}";
+
+    private MstService service;
+    private HttpClient client;
+
+    @BeforeEach
+    void start() throws Exception {
+        service = new MstService(0);
+        service.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void stop() {
+        service.stop();
+    }
+
+    @Test
+    void testComputesMstForPostedGraph() throws Exception {
+        HttpResponse<String> response = post(SMALL_GRAPH);
+
+        assertEquals(200, response.statusCode());
+        JsonObject result = JsonParser.parseString(response.body()).getAsJsonObject();
+        assertEquals(7.0, result.getAsJsonObject("PrimMST").get("totalWeight").getAsDouble(), 1e-9);
+        assertEquals(7.0, result.getAsJsonObject("KruskalMST").get("totalWeight").getAsDouble(), 1e-9);
+        assertTrue(result.get("algorithmsConsistent").getAsBoolean());
+    }
+
+    @Test
+    void testConcurrentSmallRequestsAreBatched() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            responses.add(client.sendAsync(request(SMALL_GRAPH), HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.get().statusCode(), "Каждый запрос пакета должен получить ответ");
+        }
+    }
+
+    @Test
+    void testRejectsInvalidInput() throws Exception {
+        assertEquals(400, post("{\"vertices\": [\"A\"], \"edges\": "
+                + "[{\"source\": \"A\", \"destination\": \"Z\", \"weight\": 1}]}").statusCode());
+        assertEquals(400, post("not json").statusCode());
+
+        HttpResponse<String> get = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + service.port() + "/mst")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(405, get.statusCode());
+    }
+
+    @Test
+    void testLargeBodiesAreRejectedBeforeReading() throws Exception {
+        // Тело не отправляется: ответ должен прийти только по заголовкам
+        assertEquals(413, statusForDeclaredLength(service.port(), 600_000_000L));
+
+        MstService small = new MstService(0, 1024);
+        small.start();
+        try {
+            assertEquals(429, statusForDeclaredLength(small.port(), 2L * 1024 * 1024),
+                    "Тело больше байтового бюджета не допускается");
+            assertEquals(200, client.send(HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + small.port() + "/mst"))
+                    .POST(HttpRequest.BodyPublishers.ofString(SMALL_GRAPH)).build(),
+                    HttpResponse.BodyHandlers.ofString()).statusCode(), "Небольшие тела бюджет не занимают");
+        } finally {
+            small.stop();
+        }
+    }
+
+    @Test
+    void testBatchResultTimeoutAnswers503() throws Exception {
+        // Нулевое ожидание: пакетное окно не успевает закрыться
+        MstService impatient = new MstService(0, 1024, 0);
+        impatient.start();
+        try {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + impatient.port() + "/mst"))
+                    .POST(HttpRequest.BodyPublishers.ofString(SMALL_GRAPH)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(503, response.statusCode());
+            assertTrue(response.headers().firstValue("Retry-After").isPresent());
+        } finally {
+            impatient.stop();
+        }
+    }
+
+    private static int statusForDeclaredLength(int port, long length) throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setSoTimeout(10_000);
+            OutputStream out = socket.getOutputStream();
+            out.write(("POST /mst HTTP/1.1\r\nHost: localhost\r\nContent-Length: " + length + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            String status = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.US_ASCII)).readLine();
+            return Integer.parseInt(status.split(" ")[1]);
+        }
+    }
+
+    private HttpResponse<String> post(String body) throws Exception {
+        return client.send(request(body), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest request(String body) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + service.port() + "/mst"))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
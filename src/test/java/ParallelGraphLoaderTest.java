@@ -0,0 +1,123 @@
+import graph.CompressedGraph;
+import graph.Edge;
+import org.example.GraphLoader;
+import org.example.LoadedCompressedGraph;
+import org.example.LoadedGraph;
+import org.example.ParallelGraphLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тестирование параллельной загрузки больших входных файлов.
+ */
+public class ParallelGraphLoaderTest {
+
+    // Несколько мегабайт: массив рёбер режется на несколько кусков
+    private static String largeGraphJson(int V, int E, long seed) {
+        Random random = new Random(seed);
+        StringBuilder json = new StringBuilder("{\n  \"name\": \"test\",\n  \"vertices\": [");
+        for (int v = 0; v < V; v++) json.append(v == 0 ? "" : ", ").append("\"vertex").append(v).append('"');
+        json.append("],\n  \"edges\": [\n");
+        for (int i = 0; i < E; i++) {
+            json.append(i == 0 ? "    " : ",\n    ")
+                    .append("{\"source\": \"vertex").append(random.nextInt(V))
+                    .append("\", \"destination\": \"vertex").append(random.nextInt(V)).append("\", \"weight\": ");
+            switch (i % 4) {
+                case 0:
+                    json.append(random.nextInt(1000));
+                    break;
+                case 1:
+                    json.append(random.nextDouble());
+                    break;
+                case 2:
+                    json.append(-random.nextInt(50)).append("e-2");
+                    break;
+                default:
+                    json.append(random.nextInt(100)).append(", \"label\": {\"tags\": [\"x\", null, true]}");
+            }
+            json.append('}');
+        }
+        return json.append("\n  ]\n}\n").toString();
+    }
+
+    private static void assertSameGraph(LoadedGraph expected, LoadedGraph actual) {
+        assertEquals(expected.vertexNames(), actual.vertexNames());
+        List<Edge> a = expected.inputEdges();
+        List<Edge> b = actual.inputEdges();
+        assertEquals(a.size(), b.size());
+        for (int i = 0; i < a.size(); i++) {
+            assertEquals(a.get(i).either(), b.get(i).either());
+            assertEquals(a.get(i).other(a.get(i).either()), b.get(i).other(b.get(i).either()));
+            assertEquals(a.get(i).weight(), b.get(i).weight(), 0.0);
+        }
+        assertEquals(expected.graph().E(), actual.graph().E());
+        for (int v = 0; v < expected.V(); v++) {
+            assertEquals(expected.graph().adj(v).toString(), actual.graph().adj(v).toString());
+        }
+    }
+
+    @Test
+    void testMatchesGsonOnLargeFile(@TempDir Path dir) throws Exception {
+        String text = largeGraphJson(5000, 60000, 1);
+        Path input = dir.resolve("large.json");
+        Files.writeString(input, text);
+        LoadedGraph expected = GraphLoader.fromJson(GraphLoader.parse(new StringReader(text)));
+
+        for (int threads : new int[]{1, 3, 8}) {
+            assertSameGraph(expected, ParallelGraphLoader.load(input, threads));
+        }
+    }
+
+    @Test
+    void testCompressedLoadMatchesGraph(@TempDir Path dir) throws Exception {
+        String text = largeGraphJson(3000, 40000, 2);
+        Path input = dir.resolve("large.json");
+        Files.writeString(input, text);
+        LoadedGraph expected = GraphLoader.fromJson(GraphLoader.parse(new StringReader(text)));
+        CompressedGraph reference = CompressedGraph.of(expected.graph());
+
+        // Параллельный путь и последовательный (Gson) собирают CompressedGraph без Graph
+        for (LoadedCompressedGraph loaded : List.of(ParallelGraphLoader.loadCompressed(input, 3),
+                GraphLoader.loadCompressed(input.toString()))) {
+            assertEquals(expected.vertexNames(), loaded.vertexNames());
+            assertEquals(reference.E(), loaded.E());
+            assertEquals(reference.distinctWeights(), loaded.graph().distinctWeights());
+            for (int v = 0; v < expected.V(); v++) {
+                assertEquals(reference.adj(v).toString(), loaded.graph().adj(v).toString());
+            }
+        }
+    }
+
+    @Test
+    void testEscapedNamesAndEmptyEdges(@TempDir Path dir) throws Exception {
+        Path input = dir.resolve("escaped.json");
+        Files.writeString(input, "{\"vertices\": [\"a\\\"b\", \"c\\u0041\"], \"edges\": "
+                + "[{\"source\": \"a\\\"b\", \"destination\": \"cA\", \"weight\": 2.5}]}");
+        LoadedGraph loaded = ParallelGraphLoader.load(input, 2);
+        assertEquals(List.of("a\"b", "cA"), loaded.vertexNames());
+        assertEquals(2.5, loaded.inputEdges().get(0).weight(), 0.0);
+
+        Files.writeString(input, "{\"vertices\": [\"a\"], \"edges\": [ ]}");
+        assertEquals(0, ParallelGraphLoader.load(input, 2).inputEdges().size());
+    }
+
+    @Test
+    void testUnsupportedLayoutIsRejected(@TempDir Path dir) throws Exception {
+        Path input = dir.resolve("reordered.json");
+        Files.writeString(input, "{\"edges\": [{\"source\": \"a\", \"destination\": \"b\", \"weight\": 1}], "
+                + "\"vertices\": [\"a\", \"b\"]}");
+        assertThrows(IllegalArgumentException.class, () -> ParallelGraphLoader.load(input, 2));
+        // Такой документ по-прежнему читает GraphLoader
+        assertEquals(1, GraphLoader.load(input.toString()).inputEdges().size());
+
+        Files.writeString(input, "{\"vertices\": [\"a\"], \"edges\": [{\"source\": \"a\", \"destination\": \"z\", \"weight\": 1}]}");
+        assertThrows(IllegalArgumentException.class, () -> ParallelGraphLoader.load(input, 2));
+    }
+}
@@ -0,0 +1,68 @@
+import algorithms.ParallelPrim;
+import algorithms.Prim;
+import graph.Edge;
+import graph.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+/**
+ * Тестирование параллельного алгоритма Прима.
+ */
+public class ParallelPrimTest {
+
+    @Test
+    void testSimpleGraph() {
+        Graph G = new Graph(4);
+        G.addEdge(new Edge(0, 1, 1.0));
+        G.addEdge(new Edge(0, 2, 2.0));
+        G.addEdge(new Edge(1, 2, 3.0));
+        G.addEdge(new Edge(1, 3, 4.0));
+        G.addEdge(new Edge(2, 3, 5.0));
+
+        ParallelPrim mst = new ParallelPrim(G, 2);
+
+        int edgeCount = 0;
+        for (Edge e : mst.edges()) edgeCount++;
+        assertEquals(3, edgeCount, "MST должно содержать V-1 рёбер");
+        assertEquals(7.0, mst.weight(), 1e-9);
+    }
+
+    @Test
+    void testMatchesPrimOnRandomGraphs() {
+        Random random = new Random(21);
+        for (int round = 0; round < 40; round++) {
+            int V = 1 + random.nextInt(400);
+            Graph G = new Graph(V);
+            int E = random.nextInt(V * 5 + 1);
+            for (int i = 0; i < E; i++) {
+                // Мелкие целые веса дают много равных рёбер
+                G.addEdge(new Edge(random.nextInt(V), random.nextInt(V), random.nextInt(5)));
+            }
+
+            Prim prim = new Prim(G);
+            for (int threads : new int[]{1, 3, 8}) {
+                ParallelPrim parallel = new ParallelPrim(G, threads);
+                assertEquals(prim.weight(), parallel.weight(), 1e-9,
+                        "Вес должен совпадать с Prim (раунд " + round + ", потоков " + threads + ")");
+
+                int primEdges = 0;
+                int parallelEdges = 0;
+                for (Edge e : prim.edges()) primEdges++;
+                for (Edge e : parallel.edges()) parallelEdges++;
+                assertEquals(primEdges, parallelEdges, "Число рёбер леса должно совпадать");
+            }
+        }
+    }
+
+    @Test
+    void testDisconnectedGraph() {
+        Graph G = new Graph(5);
+        G.addEdge(new Edge(0, 1, 1.0));
+        G.addEdge(new Edge(1, 2, 2.0));
+
+        assertEquals(3.0, new ParallelPrim(G, 4).weight(), 1e-9,
+                "Параллельный Прим должен корректно работать с несвязными графами");
+    }
+}
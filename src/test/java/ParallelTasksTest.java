@@ -0,0 +1,38 @@
+import graph.ParallelTasks;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Тестирование общего пула параллельных задач.
+ */
+public class ParallelTasksTest {
+
+    @Test
+    void testEveryTaskRunsOnce() {
+        AtomicIntegerArray runs = new AtomicIntegerArray(64);
+        ParallelTasks.run(64, runs::incrementAndGet);
+        for (int t = 0; t < 64; t++) assertEquals(1, runs.get(t), "Задача " + t);
+    }
+
+    @Test
+    void testAllFailuresAreReported() {
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> ParallelTasks.run(4, t -> {
+                    if (t % 2 == 1) throw new IllegalStateException("task " + t);
+                }));
+        assertEquals(1, failure.getSuppressed().length, "Вторая ошибка не должна теряться");
+    }
+
+    @Test
+    void testThreadsAreReusedAcrossCalls() {
+        Set<String> names = ConcurrentHashMap.newKeySet();
+        for (int call = 0; call < 50; call++) {
+            ParallelTasks.run(4, t -> names.add(Thread.currentThread().getName()));
+        }
+        assertTrue(names.size() < 50 * 4, "Потоки пула не должны создаваться заново на каждый вызов");
+    }
+}
@@ -0,0 +1,131 @@
+import algorithms.Kruskal;
+import algorithms.PathMaxIndex;
+import graph.Edge;
+import graph.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тестирование индекса запросов максимума на пути в MST.
+ */
+public class PathMaxIndexTest {
+
+    @Test
+    void testBottleneckOnSmallTree() {
+        Graph G = new Graph(4);
+        G.addEdge(new Edge(0, 1, 1.0));
+        G.addEdge(new Edge(0, 2, 2.0));
+        G.addEdge(new Edge(1, 2, 3.0));
+        G.addEdge(new Edge(1, 3, 4.0));
+        G.addEdge(new Edge(2, 3, 5.0));
+
+        PathMaxIndex index = PathMaxIndex.of(new Kruskal(G), G.V());
+
+        assertEquals(2.0, index.maxWeight(1, 2), 1e-9, "Путь 1-0-2 проходит через рёбра 1 и 2");
+        assertEquals(4.0, index.maxWeight(2, 3), 1e-9);
+        assertEquals(0.0, index.maxWeight(3, 3), 1e-9);
+        assertEquals(4.0, index.maxEdge(0, 3).weight(), 1e-9);
+    }
+
+    @Test
+    void testDisconnectedForest() {
+        Graph G = new Graph(5);
+        G.addEdge(new Edge(0, 1, 1.0));
+        G.addEdge(new Edge(3, 4, 2.0));
+
+        PathMaxIndex index = PathMaxIndex.of(new Kruskal(G), G.V());
+
+        assertFalse(index.connected(1, 3));
+        assertEquals(Double.POSITIVE_INFINITY, index.maxWeight(1, 3));
+        assertNull(index.maxEdge(0, 4));
+        assertEquals(2.0, index.maxWeight(4, 3), 1e-9);
+    }
+
+    @Test
+    void testMatchesBruteForceOnRandomTrees() {
+        Random random = new Random(11);
+        for (int round = 0; round < 20; round++) {
+            int V = 2 + random.nextInt(80);
+            Graph G = new Graph(V);
+            for (int i = 0; i < V * 3; i++) {
+                G.addEdge(new Edge(random.nextInt(V), random.nextInt(V), random.nextInt(1000) / 10.0));
+            }
+            Kruskal mst = new Kruskal(G);
+            PathMaxIndex index = PathMaxIndex.of(mst, V);
+
+            List<Edge> tree = new ArrayList<>();
+            for (Edge e : mst.edges()) tree.add(e);
+
+            for (int q = 0; q < 100; q++) {
+                int u = random.nextInt(V);
+                int v = random.nextInt(V);
+                assertEquals(bruteForce(tree, V, u, v), index.maxWeight(u, v), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testBatchMatchesSingleQueries() {
+        Random random = new Random(17);
+        int V = 3000;
+        Graph G = new Graph(V);
+        for (int i = 0; i < 4 * V; i++) {
+            G.addEdge(new Edge(random.nextInt(V), random.nextInt(V), random.nextInt(100)));
+        }
+        PathMaxIndex index = PathMaxIndex.of(new Kruskal(G), V);
+
+        // Больше одного отрезка на поток, чтобы пакет действительно делился
+        int Q = 100_000;
+        int[] us = new int[Q];
+        int[] vs = new int[Q];
+        for (int q = 0; q < Q; q++) {
+            us[q] = random.nextInt(V);
+            vs[q] = random.nextInt(V);
+        }
+        double[] weights = index.maxWeights(us, vs, 4);
+        Edge[] edges = index.maxEdges(us, vs, 4);
+        for (int q = 0; q < Q; q++) {
+            assertEquals(index.maxWeight(us[q], vs[q]), weights[q], "Запрос " + q);
+            assertSame(index.maxEdge(us[q], vs[q]), edges[q], "Запрос " + q);
+        }
+        assertArrayEquals(weights, index.maxWeights(us, vs, 1));
+        assertThrows(IllegalArgumentException.class, () -> index.maxWeights(new int[2], new int[1]));
+        assertThrows(IllegalArgumentException.class, () -> index.maxWeights(us, vs, 0));
+    }
+
+    @Test
+    void testRejectsCycle() {
+        List<Edge> cycle = List.of(new Edge(0, 1, 1.0), new Edge(1, 2, 1.0), new Edge(2, 0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new PathMaxIndex(3, cycle));
+    }
+
+    // Поиск в глубину по дереву с накоплением максимума
+    private double bruteForce(List<Edge> tree, int V, int u, int v) {
+        if (u == v) return 0.0;
+        double[] best = new double[V];
+        boolean[] seen = new boolean[V];
+        ArrayDeque<Integer> stack = new ArrayDeque<>();
+        stack.push(u);
+        seen[u] = true;
+        best[u] = Double.NEGATIVE_INFINITY;
+        while (!stack.isEmpty()) {
+            int x = stack.pop();
+            if (x == v) return best[x];
+            for (Edge e : tree) {
+                int a = e.either();
+                int b = e.other(a);
+                int y = a == x ? b : (b == x ? a : -1);
+                if (y < 0 || seen[y]) continue;
+                seen[y] = true;
+                best[y] = Math.max(best[x], e.weight());
+                stack.push(y);
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+}
@@ -0,0 +1,87 @@
+import algorithms.DialPrim;
+import algorithms.Kruskal;
+import algorithms.Prim;
+import benchmark.BenchmarkRunner;
+import benchmark.Measurement;
+import benchmark.ResourceUsage;
+import graph.Edge;
+import graph.Graph;
+import graph.IntWeightGraph;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Бюджеты выделения памяти и времени для движков на большом сгенерированном графе.
+ */
+public class PerformanceBudgetTest {
+    private static final int V = 20_000;
+    private static final int E = 100_000;
+
+    // Байт на ребро входа за один прогон. Prim и Kruskal берут рабочие массивы из MSTWorkspace
+    // и после JIT-компиляции выделяют только список рёбер результата (меньше 1 байта на ребро)
+    private static final long PRIM_BYTES_PER_EDGE = 8;
+    private static final long DIAL_PRIM_BYTES_PER_EDGE = 32;
+    private static final long KRUSKAL_BYTES_PER_EDGE = 8;
+    // Медиана одного прогона с большим запасом на медленные машины CI
+    private static final double TIME_BUDGET_MS = 2_000;
+
+    // Прогрев до компиляции C2: без escape analysis итераторы adj(v) дают ~32 байта на вершину
+    private static final BenchmarkRunner RUNNER = new BenchmarkRunner(15, 5);
+
+    private static Graph graph;
+    private static IntWeightGraph intGraph;
+
+    @BeforeAll
+    static void generate() {
+        Random random = new Random(43);
+        List<Edge> edges = new ArrayList<>(E);
+        for (int v = 1; v < V; v++) edges.add(new Edge(v, random.nextInt(v), random.nextInt(1000)));
+        while (edges.size() < E) edges.add(new Edge(random.nextInt(V), random.nextInt(V), random.nextInt(1000)));
+        graph = new Graph(V);
+        for (Edge e : edges) graph.addEdge(e);
+        intGraph = IntWeightGraph.fromEdges(V, edges);
+    }
+
+    private static void assertWithinBudget(String engine, Supplier<?> task, long bytesPerEdge) {
+        Measurement<?> run = RUNNER.measure(task);
+        assertTrue(run.median() <= TIME_BUDGET_MS,
+                engine + " median " + run.median() + " ms exceeds " + TIME_BUDGET_MS + " ms");
+
+        assumeTrue(run.usage().allocationTracked(), "JVM does not report thread allocation");
+        long budget = bytesPerEdge * E;
+        assertTrue(run.allocatedBytesPerRun() <= budget,
+                engine + " allocated " + run.allocatedBytesPerRun() + " bytes per run, budget " + budget);
+    }
+
+    @Test
+    void testPrimBudget() {
+        assertWithinBudget("Prim", () -> new Prim(graph), PRIM_BYTES_PER_EDGE);
+    }
+
+    @Test
+    void testDialPrimBudget() {
+        assertWithinBudget("DialPrim", () -> new DialPrim(intGraph), DIAL_PRIM_BYTES_PER_EDGE);
+    }
+
+    @Test
+    void testKruskalBudget() {
+        assertWithinBudget("Kruskal", () -> new Kruskal(graph), KRUSKAL_BYTES_PER_EDGE);
+    }
+
+    @Test
+    void testUsageCountsOnlyMeasuredThread() {
+        ResourceUsage before = ResourceUsage.snapshot();
+        long[] block = new long[1 << 20];
+        ResourceUsage usage = ResourceUsage.snapshot().since(before);
+        assumeTrue(usage.allocationTracked());
+        assertTrue(usage.allocatedBytes() >= 8L * block.length, usage.toString());
+        assertTrue(usage.gcCount() >= 0 && usage.gcTimeMs() >= 0);
+    }
+}
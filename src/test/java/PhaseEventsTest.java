@@ -0,0 +1,88 @@
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.Main;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Тестирование событий JFR для фаз конвейера MST.
+ */
+public class PhaseEventsTest {
+
+    private static final List<String> PHASES = List.of("Load", "Build", "Sort", "UnionFind", "Heap", "Write");
+
+    @Test
+    void testEveryPhaseIsRecorded(@TempDir Path dir) throws Exception {
+        int V = 50;
+        StringBuilder json = new StringBuilder("{\"vertices\": [");
+        for (int v = 0; v < V; v++) json.append(v == 0 ? "" : ", ").append("\"v").append(v).append('"');
+        json.append("], \"edges\": [");
+        int E = 0;
+        for (int v = 1; v < V; v++) {
+            for (int u : new int[]{v - 1, v / 2}) {
+                json.append(E++ == 0 ? "" : ", ").append("{\"source\": \"v").append(u)
+                        .append("\", \"destination\": \"v").append(v)
+                        .append("\", \"weight\": ").append((u * 7 + v * 3) % 20).append('}');
+            }
+        }
+        Path input = dir.resolve("input_phases.json");
+        Files.writeString(input, json.append("]}").toString());
+
+        Path dump = dir.resolve("phases.jfr");
+        PrintStream stdout = System.out;
+        try (Recording recording = new Recording()) {
+            for (String phase : PHASES) recording.enable("mst." + phase);
+            recording.start();
+            System.setOut(new PrintStream(new ByteArrayOutputStream()));
+            try {
+                Main.main(new String[]{"--single", input.toString()});
+            } finally {
+                System.setOut(stdout);
+            }
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        Map<String, RecordedEvent> events = new HashMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+            events.putIfAbsent(event.getEventType().getName(), event);
+        }
+        for (String phase : PHASES) {
+            assertTrue(events.containsKey("mst." + phase), "Нет события mst." + phase);
+        }
+
+        RecordedEvent load = events.get("mst.Load");
+        assertEquals(input.toString(), load.getString("file"));
+        assertEquals(Files.size(input), load.getLong("bytes"));
+
+        RecordedEvent build = events.get("mst.Build");
+        assertEquals(V, build.getInt("vertices"));
+        assertEquals(E, build.getInt("edges"));
+
+        assertEquals(E, events.get("mst.Sort").getInt("edges"));
+
+        RecordedEvent unionFind = events.get("mst.UnionFind");
+        assertTrue(unionFind.getInt("edgesScanned") >= V - 1);
+        assertEquals(V - 1, unionFind.getInt("unions"));
+        assertTrue(unionFind.getInt("operations") > 0);
+
+        RecordedEvent heap = events.get("mst.Heap");
+        assertTrue(heap.getInt("queueOperations") >= V - 1);
+        assertTrue(heap.getInt("edgeVisits") >= E);
+        assertTrue(heap.getInt("maxHeapSize") > 0);
+
+        RecordedEvent write = events.get("mst.Write");
+        assertEquals("stdout", write.getString("file"));
+        assertEquals(2 * (V - 1), write.getInt("mstEdges"));
+    }
+}
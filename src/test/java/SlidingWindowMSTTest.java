@@ -0,0 +1,120 @@
+import algorithms.Kruskal;
+import algorithms.SlidingWindowMST;
+import graph.Edge;
+import graph.Graph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тестирование остовного леса по скользящему окну рёбер.
+ */
+public class SlidingWindowMSTTest {
+
+    @Test
+    void testMatchesKruskalOnEveryWindow() {
+        Random random = new Random(21);
+        for (int round = 0; round < 20; round++) {
+            int V = 1 + random.nextInt(30);
+            long window = 1 + random.nextInt(200);
+            SlidingWindowMST sliding = new SlidingWindowMST(V, window);
+            Deque<Long> times = new ArrayDeque<>();
+            List<Edge> liveEdges = new ArrayList<>();
+
+            long time = 0;
+            for (int step = 0; step < 400; step++) {
+                time += random.nextInt(4);
+                double weight = round % 2 == 0 ? random.nextInt(5) : random.nextDouble();
+                Edge e = new Edge(random.nextInt(V), random.nextInt(V), weight);
+                sliding.add(e, time);
+
+                times.addLast(time);
+                liveEdges.add(e);
+                while (times.peekFirst() <= time - window) {
+                    times.pollFirst();
+                    liveEdges.remove(0);
+                }
+                assertEquals(liveEdges.size(), sliding.size(), "Размер окна (раунд " + round + ")");
+                assertForest(V, liveEdges, sliding, "раунд " + round + ", шаг " + step);
+            }
+
+            time += window;
+            sliding.advanceTo(time);
+            assertEquals(0, sliding.size(), "Окно должно опустеть");
+            assertEquals(0, sliding.forestSize());
+            assertEquals(0.0, sliding.weight(), 1e-9);
+        }
+    }
+
+    @Test
+    void testNewerEdgeWinsTies() {
+        SlidingWindowMST sliding = new SlidingWindowMST(2, 10);
+        Edge older = new Edge(0, 1, 3);
+        Edge newer = new Edge(1, 0, 3);
+        sliding.add(older, 0);
+        sliding.add(newer, 5);
+
+        assertSame(newer, sliding.edges().iterator().next(), "При равных весах в лесу остаётся новое ребро");
+        assertEquals(1, sliding.getSwaps());
+        // Истечение старого ребра вне леса: стек переворачивается, обе вставки повторяются
+        sliding.advanceTo(12);
+        assertEquals(1, sliding.size());
+        assertEquals(2, sliding.getReapplied());
+        assertEquals(3.0, sliding.weight(), 1e-9);
+    }
+
+    @Test
+    void testExpiredTreeEdgeIsReplaced() {
+        SlidingWindowMST sliding = new SlidingWindowMST(3, 10);
+        sliding.add(new Edge(0, 1, 1), 0);
+        sliding.add(new Edge(1, 2, 1), 1);
+        sliding.add(new Edge(0, 2, 5), 2);
+        assertEquals(2.0, sliding.weight(), 1e-9);
+
+        Iterable<Edge> snapshot = sliding.edges();
+        sliding.advanceTo(10);
+        assertEquals(6.0, sliding.weight(), 1e-9, "Ребро 0-1 истекло, его заменяет 0-2");
+        int snapshotSize = 0;
+        for (Edge e : snapshot) snapshotSize++;
+        assertEquals(2, snapshotSize, "Снимок не меняется при последующих событиях");
+    }
+
+    @Test
+    void testReappliedUpdatesAreLogarithmicPerEvent() {
+        int V = 1000;
+        int window = 1 << 12;
+        int events = 1 << 16;
+        Random random = new Random(8);
+        SlidingWindowMST sliding = new SlidingWindowMST(V, window);
+        for (int i = 0; i < events; i++) {
+            sliding.add(new Edge(random.nextInt(V), random.nextInt(V), random.nextInt(100)), i);
+        }
+        double perEvent = (double) sliding.getReapplied() / events;
+        assertTrue(perEvent <= 2 * (Math.log(window) / Math.log(2) + 1),
+                "Повторных вставок на событие должно быть O(log W): " + perEvent);
+    }
+
+    @Test
+    void testTimeCannotGoBackwards() {
+        SlidingWindowMST sliding = new SlidingWindowMST(2, 10);
+        sliding.add(new Edge(0, 1, 1), 5);
+        assertThrows(IllegalArgumentException.class, () -> sliding.add(new Edge(0, 1, 1), 4));
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowMST(2, 0));
+    }
+
+    private static void assertForest(int V, List<Edge> liveEdges, SlidingWindowMST sliding, String where) {
+        Graph G = new Graph(V);
+        for (Edge e : liveEdges) G.addEdge(e);
+        Kruskal kruskal = new Kruskal(G);
+        int expected = 0;
+        for (Edge e : kruskal.edges()) expected++;
+
+        assertEquals(kruskal.weight(), sliding.weight(), 1e-9, "Вес леса должен совпадать с Kruskal (" + where + ")");
+        assertEquals(expected, sliding.forestSize(), "Число рёбер леса (" + where + ")");
+    }
+}
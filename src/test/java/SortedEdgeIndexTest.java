@@ -0,0 +1,109 @@
+import algorithms.Kruskal;
+import graph.Edge;
+import org.example.GraphLoader;
+import org.example.LoadedGraph;
+import org.example.SortedEdgeIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тестирование файла-спутника с отсортированной перестановкой рёбер.
+ */
+public class SortedEdgeIndexTest {
+
+    private static String randomGraphJson(int V, int E, long seed) {
+        Random random = new Random(seed);
+        StringBuilder json = new StringBuilder("{\"vertices\": [");
+        for (int v = 0; v < V; v++) json.append(v == 0 ? "" : ", ").append("\"v").append(v).append('"');
+        json.append("], \"edges\": [");
+        for (int i = 0; i < E; i++) {
+            int a = i < V - 1 ? i + 1 : random.nextInt(V);
+            int b = i < V - 1 ? random.nextInt(i + 1) : random.nextInt(V);
+            json.append(i == 0 ? "" : ", ").append("{\"source\": \"v").append(a)
+                    .append("\", \"destination\": \"v").append(b)
+                    .append("\", \"weight\": ").append(random.nextInt(50)).append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    @Test
+    void testSidecarIsBuiltThenMapped(@TempDir Path dir) throws Exception {
+        Path input = dir.resolve("graph.json");
+        Files.writeString(input, randomGraphJson(300, 2000, 1));
+        LoadedGraph loaded = GraphLoader.load(input.toString());
+        double expected = new Kruskal(loaded.graph()).weight();
+
+        SortedEdgeIndex built = SortedEdgeIndex.open(input, loaded);
+        assertFalse(built.fromSidecar());
+        assertTrue(Files.exists(SortedEdgeIndex.sidecarFor(input)));
+
+        SortedEdgeIndex mapped = SortedEdgeIndex.open(input, loaded);
+        assertTrue(mapped.fromSidecar());
+        assertEquals(built.size(), mapped.size());
+        for (int i = 0; i < built.size(); i++) assertEquals(built.get(i), mapped.get(i));
+
+        List<Edge> sorted = mapped.sortedEdges(loaded.inputEdges());
+        for (int i = 1; i < sorted.size(); i++) {
+            assertTrue(sorted.get(i - 1).weight() <= sorted.get(i).weight());
+            if (sorted.get(i - 1).weight() == sorted.get(i).weight()) {
+                assertTrue(mapped.get(i - 1) < mapped.get(i), "Ties keep input order");
+            }
+        }
+        assertEquals(expected, new Kruskal(loaded.graph().V(), sorted).weight(), 1e-9);
+    }
+
+    @Test
+    void testChangedInputRebuildsSidecar(@TempDir Path dir) throws Exception {
+        Path input = dir.resolve("graph.json");
+        Files.writeString(input, randomGraphJson(100, 400, 2));
+        SortedEdgeIndex.open(input, GraphLoader.load(input.toString()));
+
+        // То же число рёбер, другие веса: совпадает размер спутника, но не контрольная сумма
+        Files.writeString(input, randomGraphJson(100, 400, 3));
+        LoadedGraph changed = GraphLoader.load(input.toString());
+        SortedEdgeIndex index = SortedEdgeIndex.open(input, changed);
+        assertFalse(index.fromSidecar());
+        assertEquals(new Kruskal(changed.graph()).weight(),
+                new Kruskal(changed.graph().V(), index.sortedEdges(changed.inputEdges())).weight(), 1e-9);
+        assertTrue(SortedEdgeIndex.open(input, changed).fromSidecar());
+    }
+
+    @Test
+    void testCorruptedPermutationIsRebuilt(@TempDir Path dir) throws Exception {
+        Path input = dir.resolve("graph.json");
+        Files.writeString(input, randomGraphJson(100, 400, 4));
+        LoadedGraph loaded = GraphLoader.load(input.toString());
+        SortedEdgeIndex.open(input, loaded);
+
+        // Заголовок цел, в перестановке подменён номер ребра
+        Path sidecar = SortedEdgeIndex.sidecarFor(input);
+        byte[] bytes = Files.readAllBytes(sidecar);
+        bytes[bytes.length - 2] ^= 0x40;
+        Files.write(sidecar, bytes);
+
+        SortedEdgeIndex index = SortedEdgeIndex.open(input, loaded);
+        assertFalse(index.fromSidecar(), "Повреждённая перестановка должна строиться заново");
+        assertEquals(new Kruskal(loaded.graph()).weight(),
+                new Kruskal(loaded.graph().V(), index.sortedEdges(loaded.inputEdges())).weight(), 1e-9);
+        assertTrue(SortedEdgeIndex.open(input, loaded).fromSidecar());
+    }
+
+    @Test
+    void testPresortedKruskalRejectsUnsortedEdges() {
+        List<Edge> edges = List.of(new Edge(0, 1, 2.0), new Edge(1, 2, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new Kruskal(3, edges));
+    }
+
+    @Test
+    void testIndexMustMatchEdgeCount() {
+        SortedEdgeIndex index = SortedEdgeIndex.build(List.of(new Edge(0, 1, 1.0)));
+        assertThrows(IllegalArgumentException.class,
+                () -> index.sortedEdges(List.of(new Edge(0, 1, 1.0), new Edge(1, 2, 1.0))));
+    }
+}
@@ -0,0 +1,54 @@
+import benchmark.RegressionDetector;
+import benchmark.Statistics;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тестирование статистики бенчмарков и детектора регрессий.
+ */
+public class StatisticsTest {
+
+    @Test
+    void testMedianAndPercentiles() {
+        double[] samples = {5.0, 1.0, 3.0, 2.0, 4.0};
+
+        assertEquals(3.0, Statistics.median(samples), 1e-9, "Медиана нечётной выборки");
+        assertEquals(1.0, Statistics.percentile(samples, 0), 1e-9);
+        assertEquals(5.0, Statistics.percentile(samples, 100), 1e-9);
+        assertEquals(4.6, Statistics.percentile(samples, 90), 1e-9, "Интерполяция между рангами");
+        assertEquals(2.5, Statistics.median(new double[]{1.0, 2.0, 3.0, 4.0}), 1e-9);
+    }
+
+    @Test
+    void testMannWhitneyIdenticalSamples() {
+        double[] a = {1.0, 2.0, 3.0, 4.0, 5.0};
+        double p = Statistics.mannWhitneyPValue(a, a.clone());
+        assertTrue(p > 0.5, "Одинаковые выборки не должны различаться значимо");
+    }
+
+    @Test
+    void testMannWhitneySeparatedSamples() {
+        double[] fast = new double[20];
+        double[] slow = new double[20];
+        for (int i = 0; i < 20; i++) {
+            fast[i] = 1.0 + i * 0.01;
+            slow[i] = 2.0 + i * 0.01;
+        }
+        assertTrue(Statistics.mannWhitneyPValue(slow, fast) < 1e-4, "Разнесённые выборки должны различаться");
+    }
+
+    @Test
+    void testRegressionDetection() {
+        double[] baseline = new double[15];
+        double[] current = new double[15];
+        for (int i = 0; i < 15; i++) {
+            baseline[i] = 10.0 + (i % 3) * 0.1;
+            current[i] = 13.0 + (i % 3) * 0.1;
+        }
+
+        RegressionDetector detector = new RegressionDetector();
+        assertTrue(detector.compare(current, baseline).isRegression(), "Замедление на 30% должно быть найдено");
+        assertEquals(RegressionDetector.Verdict.IMPROVEMENT, detector.compare(baseline, current).getVerdict());
+        assertEquals(RegressionDetector.Verdict.UNCHANGED, detector.compare(baseline, baseline.clone()).getVerdict());
+    }
+}
@@ -0,0 +1,48 @@
+import graph.Edge;
+import graph.Graph;
+
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Случайные графы для тестов: концы рёбер равномерны, петли и параллельные рёбра возможны,
+ * если не сказано иное.
+ */
+final class TestGraphs {
+
+    private TestGraphs() {
+    }
+
+    static Graph randomGraph(Random random, int V, int E, int maxWeight) {
+        return randomGraph(random, V, E, () -> random.nextInt(maxWeight));
+    }
+
+    static Graph randomGraph(Random random, int V, int E, DoubleSupplier weight) {
+        Graph G = new Graph(V);
+        for (int i = 0; i < E; i++) {
+            G.addEdge(new Edge(random.nextInt(V), random.nextInt(V), weight.getAsDouble()));
+        }
+        return G;
+    }
+
+    // Попытки с v == w пропускаются, поэтому рёбер может быть меньше E
+    static Graph randomLooplessGraph(Random random, int V, int E, int maxWeight) {
+        Graph G = new Graph(V);
+        for (int i = 0; i < E; i++) {
+            int v = random.nextInt(V);
+            int w = random.nextInt(V);
+            if (v != w) G.addEdge(new Edge(v, w, random.nextInt(maxWeight)));
+        }
+        return G;
+    }
+
+    // Связный: сначала случайное дерево из V - 1 рёбер, затем случайные рёбра до E
+    static Graph randomConnectedGraph(Random random, int V, int E, int maxWeight) {
+        Graph G = new Graph(V);
+        for (int v = 1; v < V; v++) G.addEdge(new Edge(v, random.nextInt(v), random.nextInt(maxWeight)));
+        for (int i = V - 1; i < E; i++) {
+            G.addEdge(new Edge(random.nextInt(V), random.nextInt(V), random.nextInt(maxWeight)));
+        }
+        return G;
+    }
+}
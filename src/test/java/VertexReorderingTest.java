@@ -0,0 +1,132 @@
+import algorithms.Kruskal;
+import algorithms.Prim;
+import graph.Edge;
+import graph.Graph;
+import graph.VertexReordering;
+import org.example.LoadedGraph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тестирование перенумерации вершин.
+ */
+public class VertexReorderingTest {
+
+    // Решётка side x side с перемешанными номерами вершин
+    private static List<Edge> shuffledGrid(int side, long seed) {
+        Random random = new Random(seed);
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < side * side; i++) ids.add(i);
+        Collections.shuffle(ids, random);
+        List<Edge> edges = new ArrayList<>();
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = ids.get(r * side + c);
+                if (c + 1 < side) edges.add(new Edge(v, ids.get(r * side + c + 1), random.nextInt(100)));
+                if (r + 1 < side) edges.add(new Edge(v, ids.get((r + 1) * side + c), random.nextInt(100)));
+            }
+        }
+        return edges;
+    }
+
+    private static Graph graphOf(int V, List<Edge> edges) {
+        Graph G = new Graph(V);
+        for (Edge e : edges) G.addEdge(e);
+        return G;
+    }
+
+    @Test
+    void testEveryStrategyIsPermutation() {
+        Graph G = graphOf(400, shuffledGrid(20, 1));
+        G.addEdge(new Edge(3, 3, 1.0));
+        for (VertexReordering.Strategy strategy : VertexReordering.Strategy.values()) {
+            VertexReordering r = VertexReordering.compute(G, strategy);
+            boolean[] seen = new boolean[G.V()];
+            for (int v = 0; v < G.V(); v++) {
+                assertEquals(v, r.oldId(r.newId(v)));
+                assertFalse(seen[r.newId(v)]);
+                seen[r.newId(v)] = true;
+            }
+        }
+    }
+
+    @Test
+    void testMstWeightPreservedAndEdgesMapBack() {
+        List<Edge> edges = shuffledGrid(30, 2);
+        Graph G = graphOf(900, edges);
+        Prim expected = new Prim(G);
+
+        VertexReordering r = VertexReordering.compute(G, VertexReordering.Strategy.RCM);
+        Graph reordered = r.apply(edges);
+        Prim prim = new Prim(reordered);
+        Kruskal kruskal = new Kruskal(reordered);
+        assertEquals(expected.weight(), prim.weight(), 1e-9);
+        assertEquals(expected.weight(), kruskal.weight(), 1e-9);
+
+        // Рёбра результата после обратного отображения существуют в исходном графе
+        for (Edge e : kruskal.edges()) {
+            Edge original = r.original(e);
+            int v = original.either();
+            int w = original.other(v);
+            boolean found = false;
+            for (Edge f : G.adj(v)) {
+                if (f.other(v) == w && f.weight() == e.weight()) found = true;
+            }
+            assertTrue(found, "Edge " + original + " is not in the input graph");
+        }
+    }
+
+    @Test
+    void testLocalityImprovesOnShuffledGrid() {
+        List<Edge> edges = shuffledGrid(40, 3);
+        Graph G = graphOf(1600, edges);
+        double before = VertexReordering.measure(G).meanGap();
+        for (VertexReordering.Strategy strategy : List.of(VertexReordering.Strategy.BFS, VertexReordering.Strategy.RCM)) {
+            Graph reordered = VertexReordering.compute(G, strategy).apply(edges);
+            assertTrue(VertexReordering.measure(reordered).meanGap() < before / 5,
+                    strategy + ": " + VertexReordering.measure(reordered));
+        }
+    }
+
+    @Test
+    void testPathBecomesSequential() {
+        int n = 100;
+        List<Edge> edges = new ArrayList<>();
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < n; i++) ids.add(i);
+        Collections.shuffle(ids, new Random(4));
+        for (int i = 0; i + 1 < n; i++) edges.add(new Edge(ids.get(i), ids.get(i + 1), i));
+        Graph G = graphOf(n, edges);
+
+        Graph reordered = VertexReordering.compute(G, VertexReordering.Strategy.RCM).apply(edges);
+        assertEquals(1.0, VertexReordering.measure(reordered).meanGap(), 1e-9);
+        assertEquals(0.0, VertexReordering.measure(reordered).farFraction(), 1e-9);
+    }
+
+    @Test
+    void testLoadedGraphKeepsNames() {
+        List<Edge> edges = List.of(new Edge(0, 2, 1.0), new Edge(2, 1, 2.0), new Edge(1, 3, 3.0));
+        LoadedGraph loaded = new LoadedGraph(graphOf(4, edges), List.of("A", "B", "C", "D"), edges);
+        VertexReordering r = VertexReordering.compute(loaded.graph(), VertexReordering.Strategy.RCM);
+        LoadedGraph reordered = loaded.reordered(r);
+
+        assertEquals(edges.size(), reordered.inputEdges().size());
+        for (int i = 0; i < edges.size(); i++) {
+            Edge a = edges.get(i);
+            Edge b = reordered.inputEdges().get(i);
+            int v = b.either();
+            String x = reordered.vertexNames().get(v);
+            String y = reordered.vertexNames().get(b.other(v));
+            String p = loaded.vertexNames().get(a.either());
+            String q = loaded.vertexNames().get(a.other(a.either()));
+            assertTrue((x.equals(p) && y.equals(q)) || (x.equals(q) && y.equals(p)));
+            assertEquals(a.weight(), b.weight(), 0.0);
+        }
+        assertEquals(6.0, new Kruskal(reordered.graph()).weight(), 1e-9);
+    }
+}